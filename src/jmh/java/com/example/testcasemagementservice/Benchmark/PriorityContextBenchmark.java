@@ -0,0 +1,83 @@
+package com.example.testcasemagementservice.Benchmark;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.PriorityStrategy;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strategy resolution through the registry, against the previous dispatch that allocated a new strategy per
+ * call and stored it in a shared field. The baseline is kept here only for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriorityContextBenchmark {
+
+    @Param({"High", "Medium", "Low"})
+    public Priority priority;
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+    private final AllocatingPriorityContext allocatingPriorityContext = new AllocatingPriorityContext();
+
+    private TestCase testCase;
+    private Date triagedOn;
+
+    @Setup
+    public void setUp() {
+        testCase = TestCase.builder().priority(priority).build();
+        triagedOn = new Date();
+    }
+
+    @Benchmark
+    public PriorityStrategy registryStrategyFor() {
+        return priorityContext.strategyFor(priority);
+    }
+
+    @Benchmark
+    public PriorityStrategy allocatingStrategyFor() {
+        allocatingPriorityContext.setStrategy(priority);
+        return allocatingPriorityContext.strategy;
+    }
+
+    @Benchmark
+    public TestCase registryApplyStrategy() {
+        return priorityContext.applyStrategy(testCase, triagedOn);
+    }
+
+    private static final class AllocatingPriorityContext {
+        private PriorityStrategy strategy;
+
+        void setStrategy(Priority priority) {
+            switch (priority) {
+                case High -> strategy = new HighPriorityStrategy();
+                case Medium -> strategy = new MediumPriorityStrategy();
+                case Low -> strategy = new LowPriorityStrategy();
+                default -> throw new IllegalArgumentException("Unknown priority: " + priority);
+            }
+        }
+    }
+}
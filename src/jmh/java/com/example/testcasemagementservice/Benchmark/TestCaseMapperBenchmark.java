@@ -0,0 +1,64 @@
+package com.example.testcasemagementservice.Benchmark;
+
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Mapper.TestCaseMapper;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestCaseMapperBenchmark {
+
+    private AddTestCaseDto addTestCaseDto;
+    private TestCase testCase;
+    private PatchTestCaseDto patch;
+    private Date updatedOn;
+
+    @Setup
+    public void setUp() {
+        addTestCaseDto = AddTestCaseDto.builder()
+                .title("Login with valid credentials")
+                .description("User is redirected to the dashboard")
+                .priority(Priority.High)
+                .status(Status.Pending)
+                .build();
+        testCase = TestCaseMapper.mapToTest(addTestCaseDto);
+        testCase.setVersion(3L);
+        patch = PatchTestCaseDto.builder().status(Status.Passed).version(3L).build();
+        updatedOn = new Date();
+    }
+
+    @Benchmark
+    public TestCase mapToTest() {
+        return TestCaseMapper.mapToTest(addTestCaseDto);
+    }
+
+    @Benchmark
+    public PatchTestCaseDto mapToPatch() {
+        return TestCaseMapper.mapToPatch(addTestCaseDto);
+    }
+
+    @Benchmark
+    public TestCase applyPatch() {
+        return TestCaseMapper.applyPatch(testCase, patch, updatedOn);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.testcasemagementservice.Benchmark;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Seeding.TestCaseGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestCaseSerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    // Same defaults the application's message converters start from
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private TestCase testCase;
+    private Page<TestCase> page;
+    private byte[] testCaseJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        TestCaseGenerator generator = new TestCaseGenerator(42);
+        List<TestCase> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            TestCase testCase = generator.next(i);
+            testCase.setId(String.format("%024x", i));
+            testCase.setVersion(0L);
+            content.add(testCase);
+        }
+        testCase = content.get(0);
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        testCaseJson = objectMapper.writeValueAsBytes(testCase);
+    }
+
+    @Benchmark
+    public byte[] serializeTestCase() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(testCase);
+    }
+
+    @Benchmark
+    public TestCase deserializeTestCase() throws Exception {
+        return objectMapper.readValue(testCaseJson, TestCase.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.testcasemagementservice.Benchmark;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.InMemoryTestCaseRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Seeding.TestCaseGenerator;
+import com.example.testcasemagementservice.Service.TestCaseService;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TestCaseService} against {@link InMemoryTestCaseRepository}: the cost the service adds on top of
+ * the database round trip, including the cache, strategy dispatch, mapping and event publication.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestCaseServiceBenchmark {
+
+    private static final int SEEDED = 1000;
+
+    private TestCaseRepository testCaseRepository;
+    private TestCaseService testCaseService;
+    private String[] ids;
+    private int next;
+    private long created;
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        testCaseRepository = InMemoryTestCaseRepository.create();
+        testCaseService = new TestCaseService(testCaseRepository,
+                new TestCaseCache(true, 10_000, Duration.ofMinutes(5)),
+                new PriorityContext(List.of(new HighPriorityStrategy(), new MediumPriorityStrategy(),
+                        new LowPriorityStrategy(), new UnprioritisedStrategy())),
+                event -> { });
+        TestCaseGenerator generator = new TestCaseGenerator(42);
+        ids = new String[SEEDED];
+        for (int i = 0; i < SEEDED; i++) {
+            ids[i] = testCaseRepository.save(generator.next(i)).getId();
+        }
+    }
+
+    @Benchmark
+    public TestCase createTestCase() {
+        long i = created++;
+        return testCaseService.createTestCase(AddTestCaseDto.builder()
+                .title("Created test case " + i)
+                .description("Created during benchmark")
+                .priority(Priority.Medium)
+                .status(Status.Pending)
+                .build());
+    }
+
+    @Benchmark
+    public Optional<TestCase> getTestCaseById() {
+        return testCaseService.getTestCaseById(nextId());
+    }
+
+    @Benchmark
+    public TestCase patchTestCase() {
+        return testCaseService.patchTestCase(nextId(), PatchTestCaseDto.builder().status(Status.InProgress).build());
+    }
+
+    @Benchmark
+    public Page<TestCase> getAllTestCasesByStatus() {
+        return testCaseService.getAllTestCases(pageable, Status.Pending, null, null, null);
+    }
+
+    private String nextId() {
+        next = (next + 1) % ids.length;
+        return ids[next];
+    }
+}
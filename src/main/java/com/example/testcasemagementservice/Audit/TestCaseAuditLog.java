@@ -0,0 +1,231 @@
+package com.example.testcasemagementservice.Audit;
+
+import com.example.testcasemagementservice.Enums.AuditOverflowPolicy;
+import com.example.testcasemagementservice.Enums.TestCaseEventType;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Model.TestCaseEvent;
+import com.example.testcasemagementservice.Repository.TestCaseEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Change history of test cases, written off the request path. Change events are turned into
+ * {@link TestCaseEvent}s and offered to a bounded lock-free ring buffer, which a single background thread drains
+ * into {@code testcase_events} with one insertMany per batch. A full buffer is handled by the overflow policy;
+ * a failed batch is counted and dropped. On shutdown the writer stops after the web server, and drains what is
+ * buffered for up to the drain timeout. Filter-based transitions carry no ids and are not recorded.
+ */
+@Component
+@Slf4j
+public class TestCaseAuditLog implements SmartLifecycle {
+
+    private static final long WAIT_PARK_NANOS = 50_000;
+
+    private final TestCaseEventRepository testCaseEventRepository;
+    private final boolean enabled;
+    private final EventRingBuffer<TestCaseEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final Duration drainTimeout;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private volatile boolean overflowing;
+    private volatile Thread writer;
+
+    public TestCaseAuditLog(TestCaseEventRepository testCaseEventRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${testcase.audit.enabled:true}") boolean enabled,
+                            @Value("${testcase.audit.capacity:8192}") int capacity,
+                            @Value("${testcase.audit.batch-size:500}") int batchSize,
+                            @Value("${testcase.audit.flush-interval:PT0.2S}") Duration flushInterval,
+                            @Value("${testcase.audit.overflow:Drop}") AuditOverflowPolicy overflowPolicy,
+                            @Value("${testcase.audit.offer-timeout:PT0.05S}") Duration offerTimeout,
+                            @Value("${testcase.audit.drain-timeout:PT10S}") Duration drainTimeout) {
+        this.testCaseEventRepository = testCaseEventRepository;
+        this.enabled = enabled;
+        this.buffer = new EventRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.drainTimeout = drainTimeout;
+        this.written = events(meterRegistry, "written");
+        this.dropped = events(meterRegistry, "dropped");
+        this.failed = events(meterRegistry, "failed");
+        Gauge.builder("testcase.audit.buffered", buffer, EventRingBuffer::size)
+                .description("Test case events waiting for the audit writer")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TestCase before = event.getBefore();
+        TestCase after = event.getAfter();
+        TestCaseEventType type = before == null ? TestCaseEventType.Created
+                : after == null ? TestCaseEventType.Deleted : TestCaseEventType.Updated;
+        TestCase current = after == null ? before : after;
+        record(TestCaseEvent.builder()
+                .testCaseId(current.getId())
+                .type(type)
+                .fromStatus(before == null ? null : before.getStatus())
+                .toStatus(after == null ? null : after.getStatus())
+                .fromPriority(before == null ? null : before.getPriority())
+                .toPriority(after == null ? null : after.getPriority())
+                .version(current.getVersion())
+                .occurredOn(new Date())
+                .build());
+    }
+
+    @EventListener
+    public void onTestCasesTransitioned(TestCasesTransitionedEvent event) {
+        if (!enabled || event.getIds() == null) {
+            return;
+        }
+        Date occurredOn = new Date();
+        for (String id : event.getIds()) {
+            record(TestCaseEvent.builder()
+                    .testCaseId(id)
+                    .type(TestCaseEventType.Transitioned)
+                    .fromStatus(event.getFrom())
+                    .toStatus(event.getTo())
+                    .fromPriority(event.getPriority())
+                    .toPriority(event.getPriority())
+                    .occurredOn(occurredOn)
+                    .build());
+        }
+    }
+
+    /**
+     * A test case's history, newest first. Events still buffered are not included yet.
+     */
+    public Slice<TestCaseEvent> history(String testCaseId, Pageable pageable) {
+        return testCaseEventRepository.findByTestCaseIdOrderByOccurredOnDescIdDesc(testCaseId, pageable);
+    }
+
+    void record(TestCaseEvent event) {
+        if (buffer.offer(event)) {
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.Wait && running) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(WAIT_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+        if (!overflowing) {
+            overflowing = true;
+            log.warn("Audit buffer of {} events is full; dropping test case events", buffer.capacity());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("testcase-audit-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread current = writer;
+        LockSupport.unpark(current);
+        try {
+            current.join(drainTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            log.warn("Audit writer did not drain within {}; {} test case events were not written", drainTimeout, buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Starts before and stops after the web server, so requests still finishing are recorded
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    void writeLoop() {
+        List<TestCaseEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            int drained = buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (drained < batchSize) {
+                if (running) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                } else {
+                    // Draining on shutdown: a producer has claimed a slot but not yet published it
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        log.info("Audit writer stopped");
+    }
+
+    private void write(List<TestCaseEvent> batch) {
+        try {
+            testCaseEventRepository.insert(batch);
+            written.increment(batch.size());
+            if (overflowing) {
+                overflowing = false;
+                log.info("Audit writer caught up; {} test case events dropped so far", (long) dropped.count());
+            }
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} test case events", batch.size(), ex);
+        }
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("testcase.audit.events")
+                .description("Test case events by what happened to them")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@UtilityClass
+public class AsyncCacheLoader {
+
+    /**
+     * Single-flight read-through on an {@link AsyncCache}. Only a placeholder future is installed under the
+     * map lock; the winning caller then loads on its own thread. A blocking load therefore never holds a
+     * monitor, which would pin the carrier of a virtual thread, and concurrent callers wait on the future.
+     * A null result is not cached, and an entry invalidated mid-load is not re-inserted.
+     */
+    public <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (ignored, executor) -> placeholder);
+        if (future == placeholder) {
+            try {
+                placeholder.complete(loader.apply(key));
+            } catch (RuntimeException | Error ex) {
+                placeholder.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.example.testcasemagementservice.DTO.CacheStatsDto;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of test cases keyed by id. Writers must call
+ * {@link #invalidate(String)} after the database write has completed.
+ */
+@Component
+public class TestCaseCache {
+
+    private final boolean enabled;
+    private final AsyncCache<String, TestCase> cache;
+
+    public TestCaseCache(@Value("${testcase.cache.enabled:true}") boolean enabled,
+                         @Value("${testcase.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${testcase.cache.ttl:PT5M}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<TestCase> get(String id, Function<String, Optional<TestCase>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        // An invalidate issued after a write drops any in-flight load, so a stale read is never cached
+        return Optional.ofNullable(AsyncCacheLoader.get(cache, id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * The cached test case, or null when it is not cached or still loading. Never loads.
+     */
+    public TestCase getIfPresent(String id) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<TestCase> future = cache.getIfPresent(id);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return CacheStatsDto.builder()
+                .enabled(enabled)
+                .size(cache.synchronous().estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    void cleanUp() {
+        cache.synchronous().cleanUp();
+    }
+}
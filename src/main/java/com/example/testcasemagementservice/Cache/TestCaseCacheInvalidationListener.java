@@ -0,0 +1,67 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Drops cache entries changed by any node, using a change stream on the testcases collection.
+ * Change streams need a replica set, so this is opt-in for multi-node deployments.
+ */
+@Component
+@ConditionalOnProperty(name = "testcase.cache.change-stream.enabled", havingValue = "true")
+@Slf4j
+public class TestCaseCacheInvalidationListener implements SmartLifecycle {
+
+    private final TestCaseCache testCaseCache;
+    private final MessageListenerContainer container;
+
+    public TestCaseCacheInvalidationListener(TestCaseCache testCaseCache, MongoTemplate mongoTemplate) {
+        this.testCaseCache = testCaseCache;
+        this.container = new DefaultMessageListenerContainer(mongoTemplate);
+    }
+
+    @Override
+    public void start() {
+        ChangeStreamRequest<Document> request = ChangeStreamRequest.builder(this::onChange)
+                .collection("testcases")
+                .filter(newAggregation(match(where("operationType").in("update", "replace", "delete"))))
+                .build();
+        container.register(request, Document.class);
+        container.start();
+        log.info("Listening for test case changes to invalidate the cache");
+    }
+
+    @Override
+    public void stop() {
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return container.isRunning();
+    }
+
+    void onChange(Message<ChangeStreamDocument<Document>, Document> message) {
+        BsonDocument documentKey = message.getRaw() == null ? null : message.getRaw().getDocumentKey();
+        if (documentKey == null) {
+            return;
+        }
+        BsonValue id = documentKey.get("_id");
+        testCaseCache.invalidate(id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every title ever stored, seeded from the collection at startup and fed by
+ * {@link TestCaseChangedEvent}s. A negative answer is definite, so callers can skip the database for titles
+ * that cannot exist; a positive answer may be false (or refer to a deleted or renamed test case) and must be
+ * confirmed against the database. Until seeded, or when disabled, every title might exist.
+ */
+@Component
+@Slf4j
+public class TestCaseTitleFilter {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final boolean enabled;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean seeded;
+
+    public TestCaseTitleFilter(TestCaseRepository testCaseRepository,
+                               @Value("${testcase.bulk.title-filter.enabled:false}") boolean enabled,
+                               @Value("${testcase.bulk.title-filter.expected-titles:1000000}") long expectedTitles,
+                               @Value("${testcase.bulk.title-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.testCaseRepository = testCaseRepository;
+        this.enabled = enabled;
+        // Standard sizing: m = -n ln p / (ln 2)^2 bits and k = (m / n) ln 2 hash functions
+        long optimalBits = (long) Math.ceil(-expectedTitles * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(enabled ? (int) Math.max(1, (optimalBits + 63) / 64) : 1);
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) optimalBits / expectedTitles * Math.log(2)));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            seed();
+        } catch (RuntimeException ex) {
+            log.error("Failed to seed test case title filter", ex);
+        }
+    }
+
+    public void seed() {
+        long start = System.currentTimeMillis();
+        try (Stream<TestCase> testCases = testCaseRepository.streamTitles(SEED_BATCH_SIZE)) {
+            testCases.forEach(testCase -> put(testCase.getTitle()));
+        }
+        seeded = true;
+        log.info("Seeded test case title filter ({} bits, {} hashes) in {} ms",
+                bitCount, hashCount, System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        if (enabled && event.getAfter() != null) {
+            put(event.getAfter().getTitle());
+        }
+    }
+
+    public boolean mightContain(String title) {
+        if (!enabled || !seeded || title == null) {
+            return true;
+        }
+        long hash1 = hash(title);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String title) {
+        if (title == null) {
+            return;
+        }
+        long hash1 = hash(title);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current = bits.get(word);
+            // Bits are only ever set, so a lost race just retries against the newer word
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    private static long hash(String title) {
+        // 64-bit FNV-1a over UTF-16 code units, finished with a murmur3 mix for avalanche
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < title.length(); i++) {
+            hash ^= title.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.testcasemagementservice.Conditional;
+
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
+import com.example.testcasemagementservice.Exceptions.PreconditionFailedException;
+import com.example.testcasemagementservice.Model.TestCase;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Entity tags of test case responses. A test case's tag is its version, which every write increments, including
+ * lease renewal, triage and flakiness analysis. A page's tag digests the tags of its test cases together with
+ * its position and total, so it changes whenever any of them does.
+ */
+@UtilityClass
+public class TestCaseETags {
+
+    private final String PAGE_PREFIX = "p-";
+
+    private final int PAGE_DIGEST_BYTES = 16;
+
+    public String of(TestCase testCase) {
+        return of(testCase.getVersion());
+    }
+
+    public String of(TestCaseVersionDto version) {
+        return of(version.getVersion());
+    }
+
+    public String ofTestCases(Page<TestCase> page) {
+        return ofPage(page, page.getContent().stream().map(testCase -> testCase.getId() + '=' + of(testCase)).toList());
+    }
+
+    public String ofVersions(Page<TestCaseVersionDto> page) {
+        return ofPage(page, page.getContent().stream().map(version -> version.getId() + '=' + of(version)).toList());
+    }
+
+    /**
+     * Whether an If-None-Match header names {@code etag}, comparing weakly as RFC 9110 requires for it.
+     */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * The version an If-Match header requires, or null when it is absent or {@code *}.
+     *
+     * @throws PreconditionFailedException when it is anything but a single strong test case tag, which can
+     *                                     never match strongly
+     */
+    public Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single test case ETag, was: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match must be a single test case ETag, was: " + ifMatch);
+        }
+    }
+
+    private String of(Long version) {
+        // Test cases written before versioning have no version; conditional writes treat them as version 0
+        return "\"" + (version == null ? 0 : version) + '"';
+    }
+
+    private String ofPage(Page<?> page, List<String> tags) {
+        MessageDigest digest = sha256();
+        digest.update((page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements()).getBytes(StandardCharsets.UTF_8));
+        for (String tag : tags) {
+            digest.update((byte) '\n');
+            digest.update(tag.getBytes(StandardCharsets.UTF_8));
+        }
+        return '"' + PAGE_PREFIX + HexFormat.of().formatHex(digest.digest(), 0, PAGE_DIGEST_BYTES) + '"';
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.testcasemagementservice.Configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} work runs on Spring Boot's application task executor, which switches to
+ * virtual threads together with the web tier when {@code spring.threads.virtual.enabled=true}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
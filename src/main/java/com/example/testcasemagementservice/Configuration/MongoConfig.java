@@ -1,7 +1,9 @@
 package com.example.testcasemagementservice.Configuration;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
 
@@ -15,4 +17,14 @@ public class MongoConfig {
     public AuditorAware<String> auditorProvider() {
         return () -> Optional.of("system"); // Replace with actual user retrieval logic if needed
     }
+
+    /**
+     * ReactiveMongoTemplate only runs reactive entity callbacks, so the blocking auditing above never fills in
+     * the audit dates of test cases saved by the reactive stack.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @EnableReactiveMongoAuditing
+    static class ReactiveAuditingConfig {
+    }
 }
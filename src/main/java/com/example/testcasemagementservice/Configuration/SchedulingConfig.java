@@ -0,0 +1,13 @@
+package com.example.testcasemagementservice.Configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} sweeps run on Spring Boot's single-threaded task scheduler, so a slow sweep delays the
+ * next one instead of overlapping it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,254 @@
+package com.example.testcasemagementservice.Configuration;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Model.TestCaseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares the indexes declared on {@link TestCase} and {@link TestCaseEvent} with the live ones once the
+ * application is up, and builds missing indexes on the application task executor so large collections do not
+ * block boot. Replaces {@code spring.data.mongodb.auto-index-creation}, which creates indexes synchronously.
+ * Unique indexes are the exception: they are the only guard against duplicate titles, so unless the mode is
+ * Off they are ensured before the application starts, and startup fails without them.
+ */
+@Component
+@Slf4j
+public class TestCaseIndexManager implements SmartInitializingSingleton {
+
+    public enum Mode {
+        Build,
+        Report,
+        Off
+    }
+
+    private static final List<Class<?>> DOCUMENTS = List.of(TestCase.class, TestCaseEvent.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final Mode mode;
+
+    public TestCaseIndexManager(MongoTemplate mongoTemplate,
+                                MongoMappingContext mappingContext,
+                                @Value("${testcase.indexes.mode:Build}") Mode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.mode = mode;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mode == Mode.Off) {
+            log.warn("Index management is off; duplicate titles are only rejected if the unique title index exists");
+            return;
+        }
+        DOCUMENTS.forEach(this::ensureUniqueIndexes);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (mode != Mode.Off) {
+            DOCUMENTS.forEach(this::reconcile);
+        }
+    }
+
+    void reconcile(Class<?> document) {
+        String collection = mongoTemplate.getCollectionName(document);
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            List<IndexDefinition> declared = declaredIndexes(document);
+            List<Document> live = mongoTemplate.getCollection(collection).listIndexes().into(new ArrayList<>());
+
+            List<IndexDefinition> missing = missingIndexes(declared, live);
+            unexpectedIndexes(declared, live).forEach(index -> log.warn("Index {} on {} is not declared on {}",
+                    index.name(), collection, document.getSimpleName()));
+            // Rebuilding one of these means dropping the live index first, which is left to an operator
+            differingIndexes(declared, live).forEach(difference -> log.warn("Index {} on {} differs from its declaration: {}",
+                    difference.live().name(), collection, String.join(", ", difference.differences())));
+            if (missing.isEmpty()) {
+                log.info("All {} declared {} indexes are present", declared.size(), collection);
+                return;
+            }
+            for (IndexDefinition index : missing) {
+                if (mode == Mode.Report) {
+                    log.warn("Declared index {} is missing on {}", index.getIndexKeys().toJson(), collection);
+                    continue;
+                }
+                log.info("Building missing index {} on {}", index.getIndexKeys().toJson(), collection);
+                long start = System.currentTimeMillis();
+                String name = indexOps.ensureIndex(index);
+                log.info("Built index {} in {} ms", name, System.currentTimeMillis() - start);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to reconcile {} indexes", collection, ex);
+        }
+    }
+
+    void ensureUniqueIndexes(Class<?> document) {
+        String collection = mongoTemplate.getCollectionName(document);
+        IndexOperations indexOps = mongoTemplate.indexOps(document);
+        for (IndexDefinition index : declaredIndexes(document)) {
+            if (!Boolean.TRUE.equals(index.getIndexOptions().get("unique"))) {
+                continue;
+            }
+            try {
+                // A no-op when the index is already present
+                indexOps.ensureIndex(index);
+            } catch (RuntimeException ex) {
+                throw new IllegalStateException("Cannot ensure unique index " + index.getIndexKeys().toJson() + " on "
+                        + collection + "; remove duplicate or conflicting entries and restart", ex);
+            }
+        }
+    }
+
+    List<IndexDefinition> declaredIndexes(Class<?> document) {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        return StreamSupport.stream(resolver.resolveIndexFor(document).spliterator(), false)
+                .map(IndexDefinition.class::cast)
+                .toList();
+    }
+
+    /**
+     * Declared indexes with no live index on the same keys.
+     */
+    static List<IndexDefinition> missingIndexes(List<IndexDefinition> declared, List<Document> live) {
+        Set<String> liveKeys = live.stream().map(index -> specOf(index).keys()).collect(Collectors.toSet());
+        return declared.stream()
+                .filter(index -> !liveKeys.contains(specOf(index).keys()))
+                .toList();
+    }
+
+    /**
+     * Live indexes other than {@code _id_} with no declared index on the same keys.
+     */
+    static List<IndexSpec> unexpectedIndexes(List<IndexDefinition> declared, List<Document> live) {
+        Set<String> declaredKeys = declared.stream().map(index -> specOf(index).keys()).collect(Collectors.toSet());
+        return live.stream()
+                .map(TestCaseIndexManager::specOf)
+                .filter(index -> !"_id_".equals(index.name()))
+                .filter(index -> !declaredKeys.contains(index.keys()))
+                .toList();
+    }
+
+    /**
+     * Live indexes on the keys of a declared index but with other options, such as a non-unique title index.
+     */
+    static List<IndexDifference> differingIndexes(List<IndexDefinition> declared, List<Document> live) {
+        Map<String, IndexSpec> declaredByKeys = new HashMap<>();
+        declared.stream().map(TestCaseIndexManager::specOf).forEach(index -> declaredByKeys.put(index.keys(), index));
+        List<IndexDifference> differing = new ArrayList<>();
+        for (Document index : live) {
+            IndexSpec liveSpec = specOf(index);
+            IndexSpec declaredSpec = declaredByKeys.get(liveSpec.keys());
+            if (declaredSpec != null && !declaredSpec.differencesFrom(liveSpec).isEmpty()) {
+                differing.add(new IndexDifference(declaredSpec, liveSpec, declaredSpec.differencesFrom(liveSpec)));
+            }
+        }
+        return differing;
+    }
+
+    static IndexSpec specOf(IndexDefinition index) {
+        Document options = index.getIndexOptions();
+        Document declaredWeights = options.get("weights", Document.class);
+        List<String> fields = new ArrayList<>();
+        Map<String, Double> weights = new TreeMap<>();
+        for (Map.Entry<String, Object> key : index.getIndexKeys().entrySet()) {
+            if ("text".equals(key.getValue())) {
+                fields.add(key.getKey() + ":text");
+                Object weight = declaredWeights == null ? null : declaredWeights.get(key.getKey());
+                weights.put(key.getKey(), weight == null ? 1.0 : ((Number) weight).doubleValue());
+            } else {
+                fields.add(field(key));
+            }
+        }
+        Document partialFilter = options.get("partialFilterExpression", Document.class);
+        return new IndexSpec(options.getString("name"), signature(fields, !weights.isEmpty()),
+                Boolean.TRUE.equals(options.get("unique")), Boolean.TRUE.equals(options.get("sparse")),
+                partialFilter == null ? null : partialFilter.toJson(), weights);
+    }
+
+    static IndexSpec specOf(Document index) {
+        // A text index is stored as {_fts: 'text', _ftsx: 1} with its fields and weights under 'weights'
+        Document liveWeights = index.get("weights", Document.class);
+        List<String> fields = new ArrayList<>();
+        Map<String, Double> weights = new TreeMap<>();
+        for (Map.Entry<String, Object> key : index.get("key", Document.class).entrySet()) {
+            if ("_fts".equals(key.getKey()) && liveWeights != null) {
+                for (Map.Entry<String, Object> weight : liveWeights.entrySet()) {
+                    fields.add(weight.getKey() + ":text");
+                    weights.put(weight.getKey(), ((Number) weight.getValue()).doubleValue());
+                }
+            } else if (!"_ftsx".equals(key.getKey())) {
+                fields.add(field(key));
+            }
+        }
+        Document partialFilter = index.get("partialFilterExpression", Document.class);
+        return new IndexSpec(index.getString("name"), signature(fields, !weights.isEmpty()),
+                Boolean.TRUE.equals(index.get("unique")), Boolean.TRUE.equals(index.get("sparse")),
+                partialFilter == null ? null : partialFilter.toJson(), weights);
+    }
+
+    private static String field(Map.Entry<String, Object> key) {
+        if (key.getValue() instanceof Number direction) {
+            return key.getKey() + ":" + (direction.doubleValue() < 0 ? -1 : 1);
+        }
+        return key.getKey() + ":" + key.getValue();
+    }
+
+    private static String signature(List<String> fields, boolean text) {
+        // Text index field order carries no meaning and is not preserved by the server
+        if (text) {
+            fields.sort(null);
+        }
+        return String.join(",", fields);
+    }
+
+    /**
+     * An index reduced to what decides whether a live index serves a declared one.
+     */
+    record IndexSpec(String name, String keys, boolean unique, boolean sparse, String partialFilter,
+                     Map<String, Double> weights) {
+
+        List<String> differencesFrom(IndexSpec live) {
+            List<String> differences = new ArrayList<>();
+            if (unique != live.unique()) {
+                differences.add("unique " + live.unique() + " instead of " + unique);
+            }
+            if (sparse != live.sparse()) {
+                differences.add("sparse " + live.sparse() + " instead of " + sparse);
+            }
+            if (!Objects.equals(partialFilter, live.partialFilter())) {
+                differences.add("partial filter " + live.partialFilter() + " instead of " + partialFilter);
+            }
+            if (!weights.equals(live.weights())) {
+                differences.add("weights " + live.weights() + " instead of " + weights);
+            }
+            return differences;
+        }
+    }
+
+    record IndexDifference(IndexSpec declared, IndexSpec live, List<String> differences) {
+    }
+}
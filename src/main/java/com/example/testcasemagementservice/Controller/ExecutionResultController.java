@@ -0,0 +1,111 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.ExecutionResultDto;
+import com.example.testcasemagementservice.DTO.ExecutionStatisticsDto;
+import com.example.testcasemagementservice.DTO.ResultIngestionDto;
+import com.example.testcasemagementservice.Enums.TrendUnit;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import com.example.testcasemagementservice.Service.ExecutionResultService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases")
+@Slf4j
+public class ExecutionResultController {
+
+    private final ExecutionResultService executionResultService;
+    private final ObjectMapper objectMapper;
+
+    public ExecutionResultController(ExecutionResultService executionResultService, ObjectMapper objectMapper) {
+        this.executionResultService = executionResultService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/_results", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultIngestionDto> ingestResults(@RequestBody List<ExecutionResultDto> executionResultDtos) {
+        log.info("Ingesting {} execution results", executionResultDtos.size());
+        ResultIngestionDto result = executionResultService.ingest(executionResultDtos);
+        log.info("Result ingestion finished: {} accepted, {} rejected", result.getAccepted(), result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/_results", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResultIngestionDto> streamResults(HttpServletRequest request) throws IOException {
+        log.info("Ingesting execution results from NDJSON stream");
+        try (MappingIterator<ExecutionResultDto> executionResultDtos = objectMapper.readerFor(ExecutionResultDto.class)
+                .readValues(request.getInputStream())) {
+            ResultIngestionDto result = executionResultService.ingest(executionResultDtos);
+            log.info("Result stream finished: {} accepted, {} rejected", result.getAccepted(), result.getRejected());
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException ex) {
+            // MappingIterator wraps parse and mapping failures in unchecked exceptions
+            if (ex instanceof RuntimeJsonMappingException || ex.getCause() instanceof JsonProcessingException) {
+                log.error("Malformed NDJSON payload", ex);
+                throw new InvalidDataException("Malformed NDJSON payload: " + ex.getMessage());
+            }
+            throw ex;
+        }
+    }
+
+    @GetMapping("/{id}/_results")
+    public ResponseEntity<List<ExecutionResult>> getLastResults(@PathVariable String id,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching last {} results of test case with id: {}", limit, id);
+        List<ExecutionResult> results = executionResultService.lastResults(id, limit);
+        if (results.isEmpty()) {
+            log.error("No results found for test case with id: {}", id);
+            throw new ResourceNotFoundException("No results found for test case with id: " + id);
+        }
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/{id}/_results/_stats")
+    public ResponseEntity<ExecutionStatisticsDto> getStatistics(@PathVariable String id,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        log.info("Fetching result statistics of test case with id: {}", id);
+        return executionResultService.statistics(id, from, to)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> {
+                    log.error("No results in range for test case with id: {}", id);
+                    return new ResourceNotFoundException("No results in range for test case with id: " + id);
+                });
+    }
+
+    @GetMapping("/{id}/_results/_trend")
+    public ResponseEntity<List<ExecutionStatisticsDto>> getTrend(@PathVariable String id,
+                                                                 @RequestParam(defaultValue = "Day") TrendUnit unit,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        log.info("Fetching {} result trend of test case with id: {}", unit, id);
+        List<ExecutionStatisticsDto> trend = executionResultService.trend(id, unit, from, to);
+        if (trend.isEmpty()) {
+            log.error("No results in range for test case with id: {}", id);
+            throw new ResourceNotFoundException("No results in range for test case with id: " + id);
+        }
+        return ResponseEntity.ok(trend);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Service.ReactiveTestCaseService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * The core test case API served by WebFlux and the reactive Mongo driver. Paths, payloads and error
+ * responses match {@link TestCaseController}; enable with the {@code reactive} profile.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/testcases")
+@Slf4j
+public class ReactiveTestCaseController {
+
+    private final ReactiveTestCaseService testCaseService;
+
+    public ReactiveTestCaseController(ReactiveTestCaseService testCaseService) {
+        this.testCaseService = testCaseService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TestCase>> createTestCase(@Valid @RequestBody AddTestCaseDto addTestCaseDto) {
+        log.info("Creating new test case with title: {}", addTestCaseDto.getTitle());
+        return testCaseService.createTestCase(addTestCaseDto)
+                .doOnNext(testCase -> log.info("Test case created successfully with id: {}", testCase.getId()))
+                .map(testCase -> ResponseEntity.status(HttpStatus.CREATED).body(testCase));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TestCase>> getTestCase(@PathVariable String id) {
+        log.info("Fetching test case with id: {}", id);
+        return testCaseService.getTestCaseById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<TestCase>>> getAllTestCases(Pageable pageable, @RequestParam(required = false) Status status, @RequestParam(required = false) Priority priority) {
+        log.info("Fetching all test cases with status: {} and priority: {}", status, priority);
+        return testCaseService.getAllTestCases(pageable, status, priority)
+                .flatMap(testCases -> testCases.isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("No test cases found"))
+                        : Mono.just(ResponseEntity.ok(testCases)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TestCase>> updateTestCase(@PathVariable String id, @Valid @RequestBody AddTestCaseDto addTestCaseDto) {
+        log.info("Updating test case with id: {}", id);
+        return testCaseService.updateTestCase(id, addTestCaseDto)
+                .doOnNext(testCase -> log.info("Test case updated successfully with id: {}", id))
+                .map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<TestCase>> patchTestCase(@PathVariable String id, @Valid @RequestBody PatchTestCaseDto patchTestCaseDto) {
+        log.info("Patching test case with id: {}", id);
+        return testCaseService.patchTestCase(id, patchTestCaseDto)
+                .doOnNext(testCase -> log.info("Test case patched successfully with id: {}, version: {}", id, testCase.getVersion()))
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTestCase(@PathVariable String id) {
+        log.info("Deleting test case with id: {}", id);
+        return testCaseService.deleteTestCase(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NO_CONTENT).<Void>build()));
+    }
+
+}
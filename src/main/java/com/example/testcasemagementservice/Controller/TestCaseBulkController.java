@@ -0,0 +1,74 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.BulkResultDto;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Service.TestCaseBulkService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_bulk")
+@Slf4j
+public class TestCaseBulkController {
+
+    private final TestCaseBulkService testCaseBulkService;
+    private final ObjectMapper objectMapper;
+
+    public TestCaseBulkController(TestCaseBulkService testCaseBulkService, ObjectMapper objectMapper) {
+        this.testCaseBulkService = testCaseBulkService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkResultDto> createTestCases(@RequestBody List<AddTestCaseDto> addTestCaseDtos) {
+        log.info("Bulk creating {} test cases", addTestCaseDtos.size());
+        BulkResultDto result = testCaseBulkService.createTestCases(addTestCaseDtos);
+        log.info("Bulk create finished: {} created, {} duplicates, {} invalid",
+                result.getCreated(), result.getDuplicates(), result.getInvalid());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkResultDto> streamTestCases(HttpServletRequest request) throws IOException {
+        log.info("Bulk creating test cases from NDJSON stream");
+        ObjectReader reader = objectMapper.readerFor(AddTestCaseDto.class);
+        // Each line is parsed on its own, so a malformed line is reported at its index instead of failing the
+        // request after earlier chunks have already been inserted
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            BulkResultDto result = testCaseBulkService.createTestCases(
+                    lines.lines().filter(line -> !line.isBlank()).iterator(), line -> parseLine(reader, line));
+            log.info("Bulk stream finished: {} created, {} duplicates, {} invalid",
+                    result.getCreated(), result.getDuplicates(), result.getInvalid());
+            return ResponseEntity.ok(result);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private AddTestCaseDto parseLine(ObjectReader reader, String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            throw new InvalidDataException("Malformed NDJSON line: " + ex.getOriginalMessage());
+        }
+    }
+}
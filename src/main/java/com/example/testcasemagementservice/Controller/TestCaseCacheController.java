@@ -0,0 +1,26 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.CacheStatsDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_cache")
+public class TestCaseCacheController {
+
+    private final TestCaseCache testCaseCache;
+
+    public TestCaseCacheController(TestCaseCache testCaseCache) {
+        this.testCaseCache = testCaseCache;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatsDto> getStats() {
+        return ResponseEntity.ok(testCaseCache.stats());
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.testcasemagementservice.Controller;
 
+import com.example.testcasemagementservice.Conditional.TestCaseETags;
 import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.TestCaseSummaryDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
 import com.example.testcasemagementservice.Exceptions.InvalidDataException;
@@ -9,8 +14,10 @@ import com.example.testcasemagementservice.Model.TestCase;
 import com.example.testcasemagementservice.Service.TestCaseService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.Optional;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/testcases")
 @Slf4j
 public class TestCaseController {
@@ -40,50 +48,102 @@ public class TestCaseController {
         TestCase testCase = testCaseService.createTestCase(addTestCaseDto);
         log.info("Test case created successfully with id: {}", testCase.getId());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(testCase);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TestCaseETags.of(testCase)).body(testCase);
     }
 
 
     @GetMapping("/{id}")
-    public ResponseEntity<TestCase> getTestCase(@PathVariable String id) {
+    public ResponseEntity<TestCase> getTestCase(@PathVariable String id,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Fetching test case with id: {}", id);
+        if (ifNoneMatch != null) {
+            String etag = testCaseService.getTestCaseETag(id);
+            if (TestCaseETags.matches(ifNoneMatch, etag)) {
+                log.info("Test case not modified with id: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
         Optional<TestCase> testCase = testCaseService.getTestCaseById(id);
         if (testCase.isEmpty()) {
             log.error("Test case not found with id: {}", id);
             throw new ResourceNotFoundException("Test case not found with id: " + id);
         }
         log.info("Test case fetched successfully with id: {}", id);
-        return ResponseEntity.ok(testCase.get());
+        return ResponseEntity.ok().eTag(TestCaseETags.of(testCase.get())).body(testCase.get());
     }
 
     @GetMapping
-    public ResponseEntity<Page<TestCase>> getAllTestCases(Pageable pageable, @RequestParam(required = false) Status status, @RequestParam(required = false) Priority priority) {
-        log.info("Fetching all test cases with status: {} and priority: {}", status, priority);
-        Page<TestCase> testCases = testCaseService.getAllTestCases(pageable, status, priority);
+    public ResponseEntity<Page<TestCase>> getAllTestCases(Pageable pageable, @RequestParam(required = false) Status status, @RequestParam(required = false) Priority priority,
+                                                          @RequestParam(required = false) String suite, @RequestParam(required = false) String tags,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Fetching all test cases with status: {}, priority: {}, suite: {} and tags: {}", status, priority, suite, tags);
+        if (ifNoneMatch != null) {
+            String etag = testCaseService.getAllTestCasesETag(pageable, status, priority, suite, tags);
+            if (TestCaseETags.matches(ifNoneMatch, etag)) {
+                log.info("Test cases not modified");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        Page<TestCase> testCases = testCaseService.getAllTestCases(pageable, status, priority, suite, tags);
         if (testCases.isEmpty()) {
             log.error("No test cases found");
             throw new ResourceNotFoundException("No test cases found");
         }
         log.info("Test cases fetched successfully");
+        return ResponseEntity.ok().eTag(TestCaseETags.ofTestCases(testCases)).body(testCases);
+    }
+
+    @GetMapping("/_summary")
+    public ResponseEntity<Page<TestCaseSummaryDto>> getAllTestCaseSummaries(Pageable pageable, @RequestParam(required = false) Status status, @RequestParam(required = false) Priority priority) {
+        log.info("Fetching test case summaries with status: {} and priority: {}", status, priority);
+        Page<TestCaseSummaryDto> testCases = testCaseService.getAllTestCaseSummaries(pageable, status, priority);
+        if (testCases.isEmpty()) {
+            log.error("No test cases found");
+            throw new ResourceNotFoundException("No test cases found");
+        }
+        log.info("Test case summaries fetched successfully");
+        return ResponseEntity.ok(testCases);
+    }
+
+    @GetMapping("/_cursor")
+    public ResponseEntity<CursorPageDto<TestCase>> getTestCasesByCursor(@RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size,
+                                                                        @RequestParam(defaultValue = "CreatedOn") CursorSort orderBy,
+                                                                        @RequestParam(required = false) Status status,
+                                                                        @RequestParam(required = false) Priority priority,
+                                                                        @RequestParam(defaultValue = "false") boolean withCount) {
+        log.info("Fetching test cases after cursor with status: {} and priority: {}", status, priority);
+        CursorPageDto<TestCase> testCases = testCaseService.getTestCasesAfter(cursor, size, orderBy, status, priority, withCount);
+        log.info("Fetched {} test cases, has next: {}", testCases.getSize(), testCases.isHasNext());
         return ResponseEntity.ok(testCases);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<TestCase> updateTestCase(@PathVariable String id, @Valid @RequestBody AddTestCaseDto addTestCaseDto) {
+    public ResponseEntity<TestCase> updateTestCase(@PathVariable String id, @Valid @RequestBody AddTestCaseDto addTestCaseDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating test case with id: {}", id);
-        TestCase testCase = testCaseService.updateTestCase(id, addTestCaseDto);
+        TestCase testCase = testCaseService.updateTestCase(id, addTestCaseDto, TestCaseETags.expectedVersion(ifMatch));
         if (testCase == null) {
             log.error("Test case not found with id: {}", id);
             throw new ResourceNotFoundException("Test case not found with id: " + id);
         }
         log.info("Test case updated successfully with id: {}", id);
-        return ResponseEntity.ok(testCase);
+        return ResponseEntity.ok().eTag(TestCaseETags.of(testCase)).body(testCase);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<TestCase> patchTestCase(@PathVariable String id, @Valid @RequestBody PatchTestCaseDto patchTestCaseDto) {
+        log.info("Patching test case with id: {}", id);
+        TestCase testCase = testCaseService.patchTestCase(id, patchTestCaseDto);
+        log.info("Test case patched successfully with id: {}, version: {}", id, testCase.getVersion());
+        return ResponseEntity.ok().eTag(TestCaseETags.of(testCase)).body(testCase);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTestCase(@PathVariable String id) {
+    public ResponseEntity<Void> deleteTestCase(@PathVariable String id,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting test case with id: {}", id);
-        testCaseService.deleteTestCase(id);  // This should throw ResourceNotFoundException if not found
+        testCaseService.deleteTestCase(id, TestCaseETags.expectedVersion(ifMatch));  // This should throw ResourceNotFoundException if not found
         log.info("Test case deleted successfully with id: {}", id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build(); // 204 No Content
     }
@@ -0,0 +1,57 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Counters.TestCaseCounters;
+import com.example.testcasemagementservice.DTO.CounterVerificationDto;
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.Mapper.StatisticsMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_counts")
+@Slf4j
+public class TestCaseCounterController {
+
+    private final TestCaseCounters testCaseCounters;
+
+    public TestCaseCounterController(TestCaseCounters testCaseCounters) {
+        this.testCaseCounters = testCaseCounters;
+    }
+
+    @GetMapping
+    public ResponseEntity<StatisticsMatrixDto> getCounts() {
+        if (!testCaseCounters.isSeeded()) {
+            log.error("Test case counters are not seeded yet");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(StatisticsMapper.toMatrix(testCaseCounters.snapshot()));
+    }
+
+    @PostMapping("/_verify")
+    public ResponseEntity<CounterVerificationDto> verifyCounts(@RequestParam(defaultValue = "false") boolean repair) {
+        log.info("Verifying test case counters against a full recount");
+        StatisticsMatrixDto counters = StatisticsMapper.toMatrix(testCaseCounters.snapshot());
+        StatisticsMatrixDto recount = StatisticsMapper.toMatrix(testCaseCounters.recount());
+        boolean consistent = counters.equals(recount);
+        if (!consistent) {
+            log.warn("Test case counters drifted from the database: {} counted, {} stored", counters.getTotal(), recount.getTotal());
+            if (repair) {
+                testCaseCounters.seed();
+            }
+        }
+        return ResponseEntity.ok(CounterVerificationDto.builder()
+                .consistent(consistent)
+                .repaired(!consistent && repair)
+                .counters(counters)
+                .recount(recount)
+                .build());
+    }
+}
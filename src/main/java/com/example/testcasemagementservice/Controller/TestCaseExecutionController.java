@@ -0,0 +1,54 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.CompleteExecutionDto;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Service.TestCaseExecutionService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Date;
+import java.util.Optional;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_queue")
+@Slf4j
+public class TestCaseExecutionController {
+
+    private final TestCaseExecutionService testCaseExecutionService;
+
+    public TestCaseExecutionController(TestCaseExecutionService testCaseExecutionService) {
+        this.testCaseExecutionService = testCaseExecutionService;
+    }
+
+    @PostMapping("/_claim")
+    public ResponseEntity<TestCase> claim(@RequestParam String worker) {
+        Optional<TestCase> testCase = testCaseExecutionService.claim(worker);
+        if (testCase.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        log.info("Worker {} claimed test case {} with priority {}", worker, testCase.get().getId(), testCase.get().getPriority());
+        return ResponseEntity.ok(testCase.get());
+    }
+
+    @PutMapping("/{id}/_lease")
+    public ResponseEntity<Date> renewLease(@PathVariable String id, @RequestParam String leaseId) {
+        return ResponseEntity.ok(testCaseExecutionService.renewLease(id, leaseId));
+    }
+
+    @PostMapping("/{id}/_complete")
+    public ResponseEntity<TestCase> complete(@PathVariable String id, @Valid @RequestBody CompleteExecutionDto completeExecutionDto) {
+        TestCase testCase = testCaseExecutionService.complete(id, completeExecutionDto);
+        log.info("Execution of test case {} finished with status {}", id, testCase.getStatus());
+        return ResponseEntity.ok(testCase);
+    }
+}
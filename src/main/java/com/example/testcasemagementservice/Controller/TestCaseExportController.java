@@ -0,0 +1,43 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Enums.ExportFormat;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Service.TestCaseExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_export")
+@Slf4j
+public class TestCaseExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final TestCaseExportService testCaseExportService;
+
+    public TestCaseExportController(TestCaseExportService testCaseExportService) {
+        this.testCaseExportService = testCaseExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTestCases(@RequestParam(defaultValue = "Ndjson") ExportFormat format,
+                                                                 @RequestParam(required = false) Status status,
+                                                                 @RequestParam(required = false) Priority priority) {
+        log.info("Exporting test cases as {} with status: {} and priority: {}", format, status, priority);
+        String fileName = format == ExportFormat.Csv ? "testcases.csv" : "testcases.ndjson";
+        return ResponseEntity.ok()
+                .contentType(format == ExportFormat.Csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(outputStream -> testCaseExportService.export(format, status, priority, outputStream));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Flakiness.FlakinessAnalyzer;
+import com.example.testcasemagementservice.Model.TestCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_flaky")
+@Slf4j
+public class TestCaseFlakinessController {
+
+    private final FlakinessAnalyzer flakinessAnalyzer;
+
+    public TestCaseFlakinessController(FlakinessAnalyzer flakinessAnalyzer) {
+        this.flakinessAnalyzer = flakinessAnalyzer;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TestCase>> getFlakyTestCases(@RequestParam(defaultValue = "50") int limit) {
+        log.info("Fetching up to {} flaky test cases", limit);
+        List<TestCase> testCases = flakinessAnalyzer.flakyTestCases(limit);
+        if (testCases.isEmpty()) {
+            log.error("No flaky test cases found");
+            throw new ResourceNotFoundException("No flaky test cases found");
+        }
+        return ResponseEntity.ok(testCases);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Audit.TestCaseAuditLog;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Model.TestCaseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/{id}/_history")
+@Slf4j
+public class TestCaseHistoryController {
+
+    private final TestCaseAuditLog testCaseAuditLog;
+
+    public TestCaseHistoryController(TestCaseAuditLog testCaseAuditLog) {
+        this.testCaseAuditLog = testCaseAuditLog;
+    }
+
+    @GetMapping
+    public ResponseEntity<Slice<TestCaseEvent>> getHistory(@PathVariable String id, Pageable pageable) {
+        log.info("Fetching history of test case with id: {}", id);
+        Slice<TestCaseEvent> history = testCaseAuditLog.history(id, pageable);
+        if (history.isEmpty()) {
+            log.error("No history found for test case with id: {}", id);
+            throw new ResourceNotFoundException("No history found for test case with id: " + id);
+        }
+        return ResponseEntity.ok(history);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Service.TestCaseSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_search")
+@Slf4j
+public class TestCaseSearchController {
+
+    private final TestCaseSearchService testCaseSearchService;
+
+    public TestCaseSearchController(TestCaseSearchService testCaseSearchService) {
+        this.testCaseSearchService = testCaseSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPageDto<TestCaseSearchHitDto>> search(@RequestParam String q,
+                                                                      @RequestParam(required = false) Status status,
+                                                                      @RequestParam(required = false) Priority priority,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Searching test cases for '{}' with status: {} and priority: {}", q, status, priority);
+        CursorPageDto<TestCaseSearchHitDto> hits = testCaseSearchService.search(q, status, priority, cursor, size);
+        log.info("Search returned {} test cases, has next: {}", hits.getSize(), hits.isHasNext());
+        return ResponseEntity.ok(hits);
+    }
+
+    @GetMapping("/_suggest")
+    public ResponseEntity<List<TitleSuggestionDto>> suggest(@RequestParam String prefix,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        log.info("Suggesting test case titles for '{}'", prefix);
+        return ResponseEntity.ok(testCaseSearchService.suggest(prefix, limit));
+    }
+}
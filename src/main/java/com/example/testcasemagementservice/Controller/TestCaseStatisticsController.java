@@ -0,0 +1,37 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.TestCaseStatisticsDto;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Service.TestCaseStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Date;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_stats")
+@Slf4j
+public class TestCaseStatisticsController {
+
+    private final TestCaseStatisticsService testCaseStatisticsService;
+
+    public TestCaseStatisticsController(TestCaseStatisticsService testCaseStatisticsService) {
+        this.testCaseStatisticsService = testCaseStatisticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<TestCaseStatisticsDto> getStatistics(@RequestParam(defaultValue = "None") StatisticsBucket bucket,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+                                                               @RequestParam(defaultValue = "false") boolean fresh) {
+        log.info("Fetching test case statistics by {}", bucket);
+        return ResponseEntity.ok(testCaseStatisticsService.getStatistics(bucket, from, to, fresh));
+    }
+}
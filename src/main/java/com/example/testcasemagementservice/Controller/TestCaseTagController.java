@@ -0,0 +1,39 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Service.TestCaseTagService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/tags")
+@Slf4j
+public class TestCaseTagController {
+
+    private final TestCaseTagService testCaseTagService;
+
+    public TestCaseTagController(TestCaseTagService testCaseTagService) {
+        this.testCaseTagService = testCaseTagService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TagCountDto>> getTagCounts(@RequestParam(required = false) String prefix,
+                                                          @RequestParam(defaultValue = "false") boolean fresh) {
+        log.info("Fetching tag counts with prefix: {}", prefix);
+        List<TagCountDto> counts = testCaseTagService.getTagCounts(prefix, fresh);
+        if (counts.isEmpty()) {
+            log.error("No tags found with prefix: {}", prefix);
+            throw new ResourceNotFoundException("No tags found with prefix: " + prefix);
+        }
+        return ResponseEntity.ok(counts);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.StatusTransitionDto;
+import com.example.testcasemagementservice.DTO.StatusTransitionResultDto;
+import com.example.testcasemagementservice.Service.TestCaseTransitionService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/testcases/_transitions")
+@Slf4j
+public class TestCaseTransitionController {
+
+    private final TestCaseTransitionService testCaseTransitionService;
+
+    public TestCaseTransitionController(TestCaseTransitionService testCaseTransitionService) {
+        this.testCaseTransitionService = testCaseTransitionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StatusTransitionResultDto> transition(@Valid @RequestBody StatusTransitionDto statusTransitionDto) {
+        log.info("Transitioning {} test cases by id and {} filters",
+                statusTransitionDto.getById() == null ? 0 : statusTransitionDto.getById().size(),
+                statusTransitionDto.getByFilter() == null ? 0 : statusTransitionDto.getByFilter().size());
+        StatusTransitionResultDto result = testCaseTransitionService.transition(statusTransitionDto);
+        log.info("Transition finished: {} updated, {} unchanged, {} not found, {} invalid, {} conflicts",
+                result.getUpdated(), result.getUnchanged(), result.getNotFound(), result.getInvalid(), result.getConflicts());
+        return ResponseEntity.ok(result);
+    }
+}
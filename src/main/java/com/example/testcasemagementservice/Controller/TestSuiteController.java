@@ -0,0 +1,55 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveResultDto;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Service.TestSuiteService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/suites")
+@Slf4j
+public class TestSuiteController {
+
+    private final TestSuiteService testSuiteService;
+
+    public TestSuiteController(TestSuiteService testSuiteService) {
+        this.testSuiteService = testSuiteService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<String>> getSuites(@RequestParam(required = false) String under) {
+        log.info("Fetching suites under: {}", under);
+        List<String> suites = testSuiteService.getSuites(under);
+        if (suites.isEmpty()) {
+            log.error("No suites found under: {}", under);
+            throw new ResourceNotFoundException("No suites found under: " + under);
+        }
+        return ResponseEntity.ok(suites);
+    }
+
+    @GetMapping("/_rollup")
+    public ResponseEntity<StatisticsMatrixDto> getRollup(@RequestParam String path) {
+        log.info("Fetching status rollup of suite: {}", path);
+        return ResponseEntity.ok(testSuiteService.getRollup(path));
+    }
+
+    @PostMapping("/_move")
+    public ResponseEntity<SuiteMoveResultDto> moveSuite(@Valid @RequestBody SuiteMoveDto suiteMoveDto) {
+        log.info("Moving suite {} to {}", suiteMoveDto.getFrom(), suiteMoveDto.getTo());
+        return ResponseEntity.ok(testSuiteService.moveSuite(suiteMoveDto));
+    }
+}
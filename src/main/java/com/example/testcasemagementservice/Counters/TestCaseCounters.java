@@ -0,0 +1,129 @@
+package com.example.testcasemagementservice.Counters;
+
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory status x priority counts, seeded once from an aggregation and then maintained from
+ * {@link TestCaseChangedEvent}s and {@link TestCasesTransitionedEvent}s. Cells are indexed by {@code ordinal()}, with one extra row and
+ * column for test cases missing a status or priority.
+ */
+@Component
+@Slf4j
+public class TestCaseCounters {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int COLUMNS = PRIORITIES.length + 1;
+
+    private final TestCaseRepository testCaseRepository;
+
+    // Replaced wholesale on seed; events landing between the seeding aggregation and the swap are lost,
+    // which verify() detects
+    private volatile LongAdder[] cells = newCells();
+    private volatile boolean seeded;
+
+    public TestCaseCounters(TestCaseRepository testCaseRepository) {
+        this.testCaseRepository = testCaseRepository;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            seed();
+        } catch (RuntimeException ex) {
+            log.error("Failed to seed test case counters", ex);
+        }
+    }
+
+    public void seed() {
+        long start = System.currentTimeMillis();
+        LongAdder[] recount = newCells();
+        for (StatusPriorityCountDto count : recount()) {
+            recount[index(count.getStatus(), count.getPriority())].add(count.getCount());
+        }
+        cells = recount;
+        seeded = true;
+        log.info("Seeded test case counters in {} ms", System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        LongAdder[] current = cells;
+        TestCase before = event.getBefore();
+        TestCase after = event.getAfter();
+        if (before != null) {
+            current[index(before.getStatus(), before.getPriority())].decrement();
+        }
+        if (after != null) {
+            current[index(after.getStatus(), after.getPriority())].increment();
+        }
+    }
+
+    @EventListener
+    public void onTestCasesTransitioned(TestCasesTransitionedEvent event) {
+        LongAdder[] current = cells;
+        current[index(event.getFrom(), event.getPriority())].add(-event.getCount());
+        current[index(event.getTo(), event.getPriority())].add(event.getCount());
+    }
+
+    public long get(Status status, Priority priority) {
+        return cells[index(status, priority)].sum();
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public List<StatusPriorityCountDto> snapshot() {
+        LongAdder[] current = cells;
+        List<StatusPriorityCountDto> counts = new ArrayList<>();
+        for (int row = 0; row <= STATUSES.length; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                long count = current[row * COLUMNS + column].sum();
+                if (count != 0) {
+                    counts.add(StatusPriorityCountDto.builder()
+                            .status(row < STATUSES.length ? STATUSES[row] : null)
+                            .priority(column < PRIORITIES.length ? PRIORITIES[column] : null)
+                            .count(count)
+                            .build());
+                }
+            }
+        }
+        return counts;
+    }
+
+    public List<StatusPriorityCountDto> recount() {
+        return testCaseRepository.countByStatusAndPriority(StatisticsBucket.None, null, null);
+    }
+
+    private static int index(Status status, Priority priority) {
+        int row = status == null ? STATUSES.length : status.ordinal();
+        int column = priority == null ? PRIORITIES.length : priority.ordinal();
+        return row * COLUMNS + column;
+    }
+
+    private static LongAdder[] newCells() {
+        LongAdder[] cells = new LongAdder[(STATUSES.length + 1) * COLUMNS];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+        }
+        return cells;
+    }
+}
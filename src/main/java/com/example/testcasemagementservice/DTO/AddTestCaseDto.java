@@ -2,13 +2,18 @@ package com.example.testcasemagementservice.DTO;
 
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import com.example.testcasemagementservice.Tag.Tags;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
 
+import java.util.List;
+
 @Builder
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -23,4 +28,12 @@ public class AddTestCaseDto {
     Priority priority;
 
     Status status;
+
+    @Size(max = SuitePath.MAX_LENGTH, message = "Suite path must be at most 300 characters")
+    @Pattern(regexp = SuitePath.PATTERN, message = "Suite path must be slash-separated suite names, such as Payments/Checkout")
+    String suitePath;
+
+    @Size(max = Tags.MAX_TAGS, message = "A test case can have at most 10 tags")
+    List<@Size(max = Tags.MAX_LENGTH, message = "Tags must be at most 50 characters")
+         @Pattern(regexp = Tags.PATTERN, message = "Tags must be letters, digits and ':._-', such as team:checkout") String> tags;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.BulkItemStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkItemResultDto {
+    int index;
+
+    String title;
+
+    String id;
+
+    BulkItemStatus status;
+
+    String message;
+}
@@ -0,0 +1,35 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.BulkItemStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkResultDto {
+    long created;
+
+    long duplicates;
+
+    long invalid;
+
+    List<BulkItemResultDto> items;
+
+    public static BulkResultDto of(List<BulkItemResultDto> items) {
+        return BulkResultDto.builder()
+                .created(count(items, BulkItemStatus.Created))
+                .duplicates(count(items, BulkItemStatus.Duplicate))
+                .invalid(count(items, BulkItemStatus.Invalid))
+                .items(items)
+                .build();
+    }
+
+    private static long count(List<BulkItemResultDto> items, BulkItemStatus status) {
+        return items.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
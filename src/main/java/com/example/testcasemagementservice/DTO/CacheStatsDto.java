@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheStatsDto {
+    boolean enabled;
+
+    long size;
+
+    long hits;
+
+    long misses;
+
+    long evictions;
+
+    double hitRate;
+}
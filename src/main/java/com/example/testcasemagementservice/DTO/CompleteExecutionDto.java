@@ -0,0 +1,24 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Status;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Ends the lease a worker holds on a test case: {@code Passed} or {@code Failed} records the result, and
+ * {@code Pending} hands the test case back to the queue unexecuted.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CompleteExecutionDto {
+    @NotBlank(message = "Lease id is required")
+    String leaseId;
+
+    @NotNull(message = "Result status is required")
+    Status status;
+}
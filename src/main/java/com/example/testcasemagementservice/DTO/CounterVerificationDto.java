@@ -0,0 +1,19 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CounterVerificationDto {
+    boolean consistent;
+
+    boolean repaired;
+
+    StatisticsMatrixDto counters;
+
+    StatisticsMatrixDto recount;
+}
@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorPageDto<T> {
+    List<T> content;
+
+    int size;
+
+    boolean hasNext;
+
+    String nextCursor;
+
+    Long totalElements;
+}
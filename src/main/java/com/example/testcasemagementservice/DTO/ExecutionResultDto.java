@@ -0,0 +1,36 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Status;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+/**
+ * A result posted by a runner. {@code executedOn} defaults to the time the result is received.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExecutionResultDto {
+    @NotBlank(message = "Test case id is required")
+    String testCaseId;
+
+    @Size(max = 100, message = "Run id must be at most 100 characters")
+    String runId;
+
+    @NotNull(message = "Status is required")
+    Status status;
+
+    @NotNull(message = "Duration is required")
+    @PositiveOrZero(message = "Duration must not be negative")
+    Long durationMillis;
+
+    Date executedOn;
+}
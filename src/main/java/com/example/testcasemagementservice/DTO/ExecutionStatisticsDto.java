@@ -0,0 +1,33 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+/**
+ * Pass rate and duration percentiles over a test case's results; {@code periodStart} is set for trend entries.
+ * Percentiles are MongoDB's approximate {@code $percentile}.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExecutionStatisticsDto {
+    Date periodStart;
+
+    long total;
+
+    long passed;
+
+    long failed;
+
+    double passRate;
+
+    double avgDurationMillis;
+
+    double p50DurationMillis;
+
+    double p95DurationMillis;
+}
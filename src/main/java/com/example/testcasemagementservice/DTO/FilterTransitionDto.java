@@ -0,0 +1,25 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Moves every test case matching {@code status} and {@code priority} to {@code target}. A missing
+ * {@code status} means every status allowed to move to {@code target}; a missing {@code priority} means any.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FilterTransitionDto {
+    Status status;
+
+    Priority priority;
+
+    @NotNull(message = "Target status is required")
+    Status target;
+}
@@ -0,0 +1,17 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RejectedResultDto {
+    long index;
+
+    String testCaseId;
+
+    String message;
+}
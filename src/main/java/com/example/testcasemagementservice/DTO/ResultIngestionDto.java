@@ -0,0 +1,22 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Outcome of a result batch. {@code rejections} lists at most the first thousand rejected results.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ResultIngestionDto {
+    long accepted;
+
+    long rejected;
+
+    List<RejectedResultDto> rejections;
+}
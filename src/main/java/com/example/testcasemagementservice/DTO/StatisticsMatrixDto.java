@@ -0,0 +1,20 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StatisticsMatrixDto {
+    String day;
+
+    long total;
+
+    // status -> priority -> count, with "Unset" for test cases missing either field
+    Map<String, Map<String, Long>> counts;
+}
@@ -0,0 +1,21 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Status;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StatusTransitionDto {
+    Map<String, Status> byId;
+
+    @Valid
+    List<FilterTransitionDto> byFilter;
+}
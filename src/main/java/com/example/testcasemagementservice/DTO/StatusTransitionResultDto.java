@@ -0,0 +1,45 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.TransitionItemStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StatusTransitionResultDto {
+    long updated;
+
+    long unchanged;
+
+    long notFound;
+
+    long invalid;
+
+    long conflicts;
+
+    List<TransitionItemResultDto> items;
+
+    List<FilterTransitionResultDto> filters;
+
+    public static StatusTransitionResultDto of(List<TransitionItemResultDto> items, List<FilterTransitionResultDto> filters) {
+        return StatusTransitionResultDto.builder()
+                .updated(count(items, TransitionItemStatus.Updated)
+                        + filters.stream().mapToLong(FilterTransitionResultDto::getUpdated).sum())
+                .unchanged(count(items, TransitionItemStatus.Unchanged))
+                .notFound(count(items, TransitionItemStatus.NotFound))
+                .invalid(count(items, TransitionItemStatus.InvalidTransition))
+                .conflicts(count(items, TransitionItemStatus.Conflict))
+                .items(items)
+                .filters(filters)
+                .build();
+    }
+
+    private static long count(List<TransitionItemResultDto> items, TransitionItemStatus status) {
+        return items.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
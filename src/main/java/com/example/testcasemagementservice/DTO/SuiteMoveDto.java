@@ -0,0 +1,27 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Suite.SuitePath;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Moves the suite at {@code from}, with everything under it, to {@code to}.
+ */
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuiteMoveDto {
+    @NotNull(message = "From is required")
+    @Pattern(regexp = SuitePath.PATTERN, message = "From must be slash-separated suite names, such as Payments/Checkout")
+    String from;
+
+    @NotNull(message = "To is required")
+    @Size(max = SuitePath.MAX_LENGTH, message = "To must be at most 300 characters")
+    @Pattern(regexp = SuitePath.PATTERN, message = "To must be slash-separated suite names, such as Payments/Checkout")
+    String to;
+}
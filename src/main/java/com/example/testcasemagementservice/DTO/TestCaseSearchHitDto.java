@@ -0,0 +1,38 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+/**
+ * A full-text search match with its relevance score. Read straight from Mongo as a projection.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TestCaseSearchHitDto {
+    String id;
+
+    String title;
+
+    String description;
+
+    Status status;
+
+    Priority priority;
+
+    Date createdOn;
+
+    Date updatedOn;
+
+    Float score;
+}
@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TestCaseStatisticsDto {
+    StatisticsBucket bucket;
+
+    long total;
+
+    List<StatisticsMatrixDto> matrices;
+
+    Instant computedAt;
+}
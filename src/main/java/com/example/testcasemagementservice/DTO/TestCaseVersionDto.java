@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.DTO;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The fields a test case's entity tag is derived from. Used as a repository projection, so conditional reads
+ * never load the rest of the document.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TestCaseVersionDto {
+    String id;
+
+    Long version;
+}
@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.DTO;
+
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TransitionItemStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransitionItemResultDto {
+    String id;
+
+    Status from;
+
+    Status to;
+
+    TransitionItemStatus status;
+
+    String message;
+}
@@ -0,0 +1,149 @@
+package com.example.testcasemagementservice.Dispatch;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory multi-level view of the Pending test cases that decides which priority each execution claim tries
+ * first. The database stays the source of truth; this only holds a smooth weighted round-robin schedule over the
+ * strategies' dispatch weights, so every priority gets its share while all have work, and a per-priority hint
+ * that the last claim found nothing, so idle workers stop querying empty priorities until a test case becomes
+ * Pending there again. Test cases made Pending by another node raise no event here, which the recheck
+ * interval bounds.
+ */
+@Component
+public class TestCaseDispatchQueue {
+
+    private final Priority[] schedule;
+    private final List<Priority> byWeight;
+    private final Map<Priority, Level> levels = new EnumMap<>(Priority.class);
+    private final long emptyRecheckNanos;
+    private final AtomicLong ticket = new AtomicLong();
+
+    public TestCaseDispatchQueue(PriorityContext priorityContext,
+                                 @Value("${testcase.queue.empty-recheck:PT1S}") Duration emptyRecheck) {
+        int[] weights = new int[Priority.values().length];
+        for (Priority priority : Priority.values()) {
+            weights[priority.ordinal()] = priorityContext.strategyFor(priority).dispatchWeight();
+            if (weights[priority.ordinal()] > 0) {
+                levels.put(priority, new Level());
+            }
+        }
+        if (levels.isEmpty()) {
+            throw new IllegalStateException("No priority has a dispatch weight");
+        }
+        this.schedule = schedule(weights);
+        this.byWeight = levels.keySet().stream()
+                .sorted(Comparator.comparingInt((Priority priority) -> weights[priority.ordinal()]).reversed())
+                .toList();
+        this.emptyRecheckNanos = emptyRecheck.toNanos();
+    }
+
+    /**
+     * The priorities the next claim should try in order: the one whose turn it is, then the others by descending
+     * weight so no worker idles while any priority has work. Priorities known to be empty are left out.
+     */
+    public List<Priority> nextOrder() {
+        Priority scheduled = schedule[(int) Math.floorMod(ticket.getAndIncrement(), (long) schedule.length)];
+        long now = System.nanoTime();
+        List<Priority> order = new ArrayList<>(byWeight.size());
+        if (!levels.get(scheduled).isLikelyEmpty(now)) {
+            order.add(scheduled);
+        }
+        for (Priority priority : byWeight) {
+            if (priority != scheduled && !levels.get(priority).isLikelyEmpty(now)) {
+                order.add(priority);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * An observation to pass to {@link #markEmpty} if a claim at {@code priority} comes back empty.
+     */
+    public long arrivals(Priority priority) {
+        return levels.get(priority).arrivals.get();
+    }
+
+    /**
+     * Records that {@code priority} had nothing Pending, unless a test case arrived there since {@code arrivals}
+     * was observed.
+     */
+    public void markEmpty(Priority priority, long arrivals) {
+        Level level = levels.get(priority);
+        level.recheckAt = System.nanoTime() + emptyRecheckNanos;
+        level.emptyAsOf = arrivals;
+    }
+
+    @EventListener
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        TestCase after = event.getAfter();
+        if (after != null && after.getStatus() == Status.Pending) {
+            arrived(after.getPriority());
+        }
+    }
+
+    @EventListener
+    public void onTestCasesTransitioned(TestCasesTransitionedEvent event) {
+        if (event.getTo() == Status.Pending) {
+            arrived(event.getPriority());
+        }
+    }
+
+    private void arrived(Priority priority) {
+        Level level = priority == null ? null : levels.get(priority);
+        if (level != null) {
+            level.arrivals.incrementAndGet();
+        }
+    }
+
+    static Priority[] schedule(int[] weights) {
+        // Smooth weighted round-robin over weights indexed by ordinal, so turns interleave rather than running
+        // every High turn first; ties go to the heavier priority
+        Priority[] priorities = Priority.values();
+        int total = Arrays.stream(weights).sum();
+        int[] current = new int[weights.length];
+        Priority[] schedule = new Priority[total];
+        for (int slot = 0; slot < total; slot++) {
+            int best = -1;
+            for (int i = 0; i < weights.length; i++) {
+                current[i] += weights[i];
+                if (weights[i] > 0 && (best < 0 || current[i] > current[best]
+                        || (current[i] == current[best] && weights[i] > weights[best]))) {
+                    best = i;
+                }
+            }
+            current[best] -= total;
+            schedule[slot] = priorities[best];
+        }
+        return schedule;
+    }
+
+    private static final class Level {
+        final AtomicLong arrivals = new AtomicLong();
+
+        // Racing writers can only leave an older observation, which reads as not empty
+        volatile long emptyAsOf = -1;
+        volatile long recheckAt;
+
+        boolean isLikelyEmpty(long now) {
+            return emptyAsOf == arrivals.get() && now - recheckAt < 0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.testcasemagementservice.Enums;
+
+/**
+ * What a write does when the audit buffer is full: {@code Drop} discards the event at once, {@code Wait} holds
+ * the writing request up to the offer timeout for the background writer to make room, then discards it.
+ * {@code Wait} would stall an event loop thread on the reactive stack, so use it with the servlet stack only.
+ */
+public enum AuditOverflowPolicy {
+    Drop,
+    Wait
+}
@@ -0,0 +1,7 @@
+package com.example.testcasemagementservice.Enums;
+
+public enum BulkItemStatus {
+    Created,
+    Duplicate,
+    Invalid
+}
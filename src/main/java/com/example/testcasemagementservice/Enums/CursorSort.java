@@ -0,0 +1,15 @@
+package com.example.testcasemagementservice.Enums;
+
+import lombok.Getter;
+
+@Getter
+public enum CursorSort {
+    CreatedOn("createdOn"),
+    UpdatedOn("updatedOn");
+
+    private final String field;
+
+    CursorSort(String field) {
+        this.field = field;
+    }
+}
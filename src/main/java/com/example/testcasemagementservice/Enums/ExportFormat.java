@@ -0,0 +1,6 @@
+package com.example.testcasemagementservice.Enums;
+
+public enum ExportFormat {
+    Ndjson,
+    Csv
+}
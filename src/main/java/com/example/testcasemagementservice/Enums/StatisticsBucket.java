@@ -0,0 +1,16 @@
+package com.example.testcasemagementservice.Enums;
+
+import lombok.Getter;
+
+@Getter
+public enum StatisticsBucket {
+    None(null),
+    CreatedOnDay("createdOn"),
+    UpdatedOnDay("updatedOn");
+
+    private final String field;
+
+    StatisticsBucket(String field) {
+        this.field = field;
+    }
+}
@@ -4,5 +4,14 @@ public enum Status {
     Pending,
     InProgress,
     Passed,
-    Failed
+    Failed;
+
+    /**
+     * Any status can be reset or restarted, and a result can be recorded from any other status: a finished run
+     * reports test cases that were never started here, and a re-run may change the result. Only moving to the
+     * same status is refused, as it would change nothing.
+     */
+    public boolean canTransitionTo(Status target) {
+        return target != null && target != this;
+    }
 }
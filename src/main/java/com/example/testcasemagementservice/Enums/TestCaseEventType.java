@@ -0,0 +1,8 @@
+package com.example.testcasemagementservice.Enums;
+
+public enum TestCaseEventType {
+    Created,
+    Updated,
+    Transitioned,
+    Deleted
+}
@@ -0,0 +1,9 @@
+package com.example.testcasemagementservice.Enums;
+
+public enum TransitionItemStatus {
+    Updated,
+    Unchanged,
+    NotFound,
+    InvalidTransition,
+    Conflict
+}
@@ -0,0 +1,17 @@
+package com.example.testcasemagementservice.Enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TrendUnit {
+    Hour("hour"),
+    Day("day"),
+    Week("week");
+
+    // The $dateTrunc unit
+    private final String unit;
+
+    TrendUnit(String unit) {
+        this.unit = unit;
+    }
+}
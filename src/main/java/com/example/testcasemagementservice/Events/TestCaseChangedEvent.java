@@ -0,0 +1,26 @@
+package com.example.testcasemagementservice.Events;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import lombok.Value;
+
+/**
+ * Published after a test case write. {@code before} is null for creates and {@code after} is null for deletes.
+ */
+@Value
+public class TestCaseChangedEvent {
+    TestCase before;
+
+    TestCase after;
+
+    public static TestCaseChangedEvent created(TestCase testCase) {
+        return new TestCaseChangedEvent(null, testCase);
+    }
+
+    public static TestCaseChangedEvent updated(TestCase before, TestCase after) {
+        return new TestCaseChangedEvent(before, after);
+    }
+
+    public static TestCaseChangedEvent deleted(TestCase testCase) {
+        return new TestCaseChangedEvent(testCase, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.testcasemagementservice.Events;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published after a bulk status transition moved {@code count} test cases of {@code priority} from {@code from}
+ * to {@code to}. {@code ids} lists them for id-based transitions and is null for filter-based ones.
+ */
+@Value
+public class TestCasesTransitionedEvent {
+    Status from;
+
+    Status to;
+
+    Priority priority;
+
+    long count;
+
+    List<String> ids;
+}
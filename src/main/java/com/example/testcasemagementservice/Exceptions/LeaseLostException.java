@@ -0,0 +1,7 @@
+package com.example.testcasemagementservice.Exceptions;
+
+public class LeaseLostException extends RuntimeException {
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.testcasemagementservice.Exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
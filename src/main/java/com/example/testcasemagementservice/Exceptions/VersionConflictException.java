@@ -0,0 +1,7 @@
+package com.example.testcasemagementservice.Exceptions;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.testcasemagementservice.Flakiness;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.FlakinessCheckpoint;
+import com.example.testcasemagementservice.Model.ResultHistory;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.ExecutionResultRepository;
+import com.example.testcasemagementservice.Repository.FlakinessCheckpointRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores how flaky each test case is from its execution results. A run analyses only results received since the
+ * shared checkpoint, up to a settle delay before now so chunks still being inserted are left to the next run.
+ * Following the server-stamped {@code receivedOn} rather than the runner's {@code executedOn} means a result
+ * uploaded hours after it ran is still scored, by the first run after it arrives. The window is split into time
+ * slices that the database folds into {@link OutcomeWindow}s in parallel, each in execution order; the slices are
+ * combined per test case in arrival order and appended to the stored {@link ResultHistory}, whose 64-result flip
+ * rate becomes the test case's flakiness once it has enough results. A late result therefore lands after newer
+ * ones already analysed. A lock on the checkpoint keeps nodes from analysing the same window twice.
+ */
+@Component
+@Slf4j
+public class FlakinessAnalyzer {
+
+    static final String CHECKPOINT_ID = "execution_results";
+
+    private static final int MAX_FLAKY_TEST_CASES = 1000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final ExecutionResultRepository executionResultRepository;
+    private final FlakinessCheckpointRepository flakinessCheckpointRepository;
+    private final TestCaseCache testCaseCache;
+    private final boolean enabled;
+    private final int partitions;
+    private final int chunkSize;
+    private final int minRuns;
+    private final int recentWindow;
+    private final double threshold;
+    private final Duration settle;
+    private final Duration lock;
+    private final Duration retention;
+    private final String owner = UUID.randomUUID().toString();
+
+    public FlakinessAnalyzer(TestCaseRepository testCaseRepository,
+                             ExecutionResultRepository executionResultRepository,
+                             FlakinessCheckpointRepository flakinessCheckpointRepository,
+                             TestCaseCache testCaseCache,
+                             @Value("${testcase.flakiness.enabled:true}") boolean enabled,
+                             @Value("${testcase.flakiness.partitions:0}") int partitions,
+                             @Value("${testcase.flakiness.chunk-size:500}") int chunkSize,
+                             @Value("${testcase.flakiness.min-runs:8}") int minRuns,
+                             @Value("${testcase.flakiness.recent-window:16}") int recentWindow,
+                             @Value("${testcase.flakiness.threshold:0.2}") double threshold,
+                             @Value("${testcase.flakiness.settle:PT15M}") Duration settle,
+                             @Value("${testcase.flakiness.lock:PT10M}") Duration lock,
+                             @Value("${testcase.results.retention:P90D}") Duration retention) {
+        this.testCaseRepository = testCaseRepository;
+        this.executionResultRepository = executionResultRepository;
+        this.flakinessCheckpointRepository = flakinessCheckpointRepository;
+        this.testCaseCache = testCaseCache;
+        this.enabled = enabled;
+        this.partitions = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.minRuns = minRuns;
+        this.recentWindow = recentWindow;
+        this.threshold = threshold;
+        this.settle = settle;
+        this.lock = lock;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${testcase.flakiness.interval:PT5M}", fixedDelayString = "${testcase.flakiness.interval:PT5M}")
+    public void scheduledAnalysis() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            analyze();
+        } catch (RuntimeException ex) {
+            log.error("Flakiness analysis failed; the window will be repeated", ex);
+        }
+    }
+
+    /**
+     * Analyses the results since the checkpoint, unless another node is doing so.
+     *
+     * @return the number of test cases updated
+     */
+    public long analyze() {
+        Date now = new Date();
+        Optional<FlakinessCheckpoint> acquired = flakinessCheckpointRepository.acquire(CHECKPOINT_ID, owner, now,
+                Date.from(now.toInstant().plus(lock)));
+        if (acquired.isEmpty()) {
+            log.debug("Flakiness checkpoint is locked by another node");
+            return 0;
+        }
+        FlakinessCheckpoint checkpoint = acquired.get();
+        // A window left by a run that died is repeated as it was, so its half-written updates are recognised
+        Date upTo = checkpoint.getPendingUpTo() != null
+                ? checkpoint.getPendingUpTo()
+                : Date.from(now.toInstant().minus(settle));
+        // Results older than the retention have expired, so a first run starts there
+        Date after = checkpoint.getAnalyzedUpTo() != null
+                ? checkpoint.getAnalyzedUpTo()
+                : Date.from(upTo.toInstant().minus(retention));
+
+        boolean completed = false;
+        try {
+            if (!upTo.after(after) || !flakinessCheckpointRepository.begin(CHECKPOINT_ID, owner, upTo)) {
+                return 0;
+            }
+            long start = System.currentTimeMillis();
+            Map<String, OutcomeWindow> windows = outcomeWindows(after, upTo);
+            long updated = apply(windows, upTo);
+            completed = flakinessCheckpointRepository.complete(CHECKPOINT_ID, owner, upTo);
+            if (!completed) {
+                log.warn("Flakiness checkpoint lock expired during analysis; the window will be repeated");
+            }
+            log.info("Analysed results of {} test cases received up to {}: {} updated in {} ms",
+                    windows.size(), upTo, updated, System.currentTimeMillis() - start);
+            return updated;
+        } finally {
+            if (!completed) {
+                flakinessCheckpointRepository.release(CHECKPOINT_ID, owner);
+            }
+        }
+    }
+
+    /**
+     * Test cases with a flakiness at or above the threshold, flakiest first.
+     */
+    public List<TestCase> flakyTestCases(int limit) {
+        if (limit < 1 || limit > MAX_FLAKY_TEST_CASES) {
+            throw new InvalidDataException("Limit must be between 1 and " + MAX_FLAKY_TEST_CASES);
+        }
+        return testCaseRepository.findByFlakinessGreaterThanEqualOrderByFlakinessDesc(threshold, Limit.of(limit));
+    }
+
+    Map<String, OutcomeWindow> outcomeWindows(Date after, Date upTo) {
+        long span = upTo.getTime() - after.getTime();
+        int slices = (int) Math.min(partitions, span);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, OutcomeWindow>>> futures = new ArrayList<>(slices);
+            for (int slice = 0; slice < slices; slice++) {
+                Date sliceAfter = new Date(after.getTime() + span * slice / slices);
+                Date sliceUpTo = slice == slices - 1 ? upTo : new Date(after.getTime() + span * (slice + 1) / slices);
+                futures.add(executor.submit(() -> executionResultRepository.outcomeWindows(sliceAfter, sliceUpTo)));
+            }
+            Map<String, OutcomeWindow> windows = new HashMap<>();
+            for (Future<Map<String, OutcomeWindow>> future : futures) {
+                join(future).forEach((testCaseId, window) -> windows.merge(testCaseId, window, OutcomeWindow::then));
+            }
+            return windows;
+        }
+    }
+
+    private long apply(Map<String, OutcomeWindow> windows, Date upTo) {
+        List<String> testCaseIds = new ArrayList<>(windows.keySet());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int from = 0; from < testCaseIds.size(); from += chunkSize) {
+                List<String> chunk = testCaseIds.subList(from, Math.min(from + chunkSize, testCaseIds.size()));
+                futures.add(executor.submit(() -> applyChunk(chunk, windows, upTo)));
+            }
+            long updated = 0;
+            for (Future<Long> future : futures) {
+                updated += join(future);
+            }
+            return updated;
+        }
+    }
+
+    private long applyChunk(List<String> testCaseIds, Map<String, OutcomeWindow> windows, Date upTo) {
+        // Results of deleted test cases find no stored test case and are dropped here
+        List<TestCase> updates = new ArrayList<>(testCaseIds.size());
+        for (TestCase stored : testCaseRepository.findResultHistoriesByIds(testCaseIds)) {
+            ResultHistory history = stored.getResultHistory();
+            if (history != null && upTo.equals(history.getAnalyzedUpTo())) {
+                continue;
+            }
+            OutcomeWindow previous = history == null
+                    ? OutcomeWindow.EMPTY
+                    : new OutcomeWindow(history.getOutcomes(), history.getRuns());
+            OutcomeWindow window = previous.then(windows.get(stored.getId()));
+            updates.add(TestCase.builder()
+                    .id(stored.getId())
+                    .flakiness(window.runs() >= minRuns ? window.flipRate() : null)
+                    .resultHistory(ResultHistory.builder()
+                            .outcomes(window.outcomes())
+                            .runs(window.runs())
+                            .flipRate(window.flipRate())
+                            .failureRate(window.failureRate(OutcomeWindow.SIZE))
+                            .recentFailureRate(window.failureRate(recentWindow))
+                            .analyzedUpTo(upTo)
+                            .build())
+                    .build());
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        long updated = testCaseRepository.updateFlakiness(updates);
+        updates.forEach(testCase -> testCaseCache.invalidate(testCase.getId()));
+        return updated;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during flakiness analysis", ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.testcasemagementservice.Flakiness;
+
+/**
+ * The most recent results of a test case, up to {@link #SIZE}, as a bit set: bit 0 is the newest result and a
+ * set bit means it failed. Windows of consecutive periods combine with {@link #then}, so periods can be folded
+ * independently and in parallel, and a test case's state never grows beyond one long and a count.
+ */
+public record OutcomeWindow(long outcomes, int runs) {
+
+    public static final int SIZE = Long.SIZE;
+
+    public static final OutcomeWindow EMPTY = new OutcomeWindow(0, 0);
+
+    public OutcomeWindow append(boolean failed) {
+        int appended = Math.min(SIZE, runs + 1);
+        return new OutcomeWindow(((outcomes << 1) | (failed ? 1 : 0)) & mask(appended), appended);
+    }
+
+    /**
+     * This window followed by the later window {@code next}.
+     */
+    public OutcomeWindow then(OutcomeWindow next) {
+        if (next.runs >= SIZE) {
+            return next;
+        }
+        int combined = Math.min(SIZE, runs + next.runs);
+        return new OutcomeWindow(((outcomes << next.runs) | next.outcomes) & mask(combined), combined);
+    }
+
+    /**
+     * Share of consecutive result pairs whose outcome differs: 0 for a test case that always passes or always
+     * fails, 1 for one that alternates.
+     */
+    public double flipRate() {
+        if (runs < 2) {
+            return 0;
+        }
+        return (double) Long.bitCount((outcomes ^ (outcomes >>> 1)) & mask(runs - 1)) / (runs - 1);
+    }
+
+    /**
+     * Share of the most recent {@code window} results that failed.
+     */
+    public double failureRate(int window) {
+        int counted = Math.min(window, runs);
+        if (counted == 0) {
+            return 0;
+        }
+        return (double) Long.bitCount(outcomes & mask(counted)) / counted;
+    }
+
+    private static long mask(int bits) {
+        return bits >= SIZE ? -1L : (1L << bits) - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.testcasemagementservice.Mapper;
+
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@UtilityClass
+public class StatisticsMapper {
+
+    public final String UNSET = "Unset";
+
+    /**
+     * Folds status/priority counts into one full matrix per day, ordered by day.
+     */
+    public List<StatisticsMatrixDto> toMatrices(List<StatusPriorityCountDto> counts) {
+        // Days sort lexicographically because they are formatted as yyyy-MM-dd
+        Map<String, StatisticsMatrixDto> matrices = new TreeMap<>();
+        for (StatusPriorityCountDto count : counts) {
+            String day = Objects.requireNonNullElse(count.getDay(), "");
+            StatisticsMatrixDto matrix = matrices.computeIfAbsent(day, ignored -> emptyMatrix(count.getDay()));
+            matrix.getCounts()
+                    .computeIfAbsent(name(count.getStatus()), ignored -> emptyRow())
+                    .merge(name(count.getPriority()), count.getCount(), Long::sum);
+            matrix.setTotal(matrix.getTotal() + count.getCount());
+        }
+        return new ArrayList<>(matrices.values());
+    }
+
+    public StatisticsMatrixDto toMatrix(List<StatusPriorityCountDto> counts) {
+        List<StatisticsMatrixDto> matrices = toMatrices(counts);
+        return matrices.isEmpty() ? emptyMatrix(null) : matrices.get(0);
+    }
+
+    public StatisticsMatrixDto emptyMatrix(String day) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        for (Status status : Status.values()) {
+            counts.put(status.name(), emptyRow());
+        }
+        return StatisticsMatrixDto.builder()
+                .day(day)
+                .counts(counts)
+                .build();
+    }
+
+    private Map<String, Long> emptyRow() {
+        Map<String, Long> row = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            row.put(priority.name(), 0L);
+        }
+        return row;
+    }
+
+    private String name(Enum<?> value) {
+        return value == null ? UNSET : value.name();
+    }
+}
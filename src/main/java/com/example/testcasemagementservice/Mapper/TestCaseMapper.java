@@ -1,19 +1,71 @@
 package com.example.testcasemagementservice.Mapper;
 
 import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
 import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import com.example.testcasemagementservice.Tag.Tags;
 import lombok.experimental.UtilityClass;
 
+import java.util.Date;
+import java.util.List;
+
 @UtilityClass
 public class TestCaseMapper {
 
     public TestCase mapToTest(AddTestCaseDto addTestCaseDto){
+        List<String> tags = Tags.normalize(addTestCaseDto.getTags());
         return TestCase.builder()
                 .title(addTestCaseDto.getTitle())
                 .description(addTestCaseDto.getDescription())
                 .priority(addTestCaseDto.getPriority())
                 .status(addTestCaseDto.getStatus())
+                .suitePath(SuitePath.normalize(addTestCaseDto.getSuitePath()))
+                .tags(tags)
+                .tagPairs(Tags.pairs(tags))
                 .build();
     }
-}
 
+    public PatchTestCaseDto mapToPatch(AddTestCaseDto addTestCaseDto) {
+        return PatchTestCaseDto.builder()
+                .title(addTestCaseDto.getTitle())
+                .description(addTestCaseDto.getDescription())
+                .priority(addTestCaseDto.getPriority())
+                .status(addTestCaseDto.getStatus())
+                .suitePath(SuitePath.normalize(addTestCaseDto.getSuitePath()))
+                .tags(addTestCaseDto.getTags())
+                .build();
+    }
+
+    /**
+     * Returns the test case as a patch leaves it, mirroring the stored update: non-null fields replaced,
+     * {@code updatedOn} set and the version incremented. A change to either side must keep
+     * {@code TestCaseRepositoryTest.patch_StoresWhatApplyPatchDerivesForEveryPatchableField} passing.
+     */
+    public TestCase applyPatch(TestCase testCase, PatchTestCaseDto patch, Date updatedOn) {
+        TestCase.TestCaseBuilder patched = testCase.toBuilder()
+                .updatedOn(updatedOn)
+                .version(testCase.getVersion() == null ? 1L : testCase.getVersion() + 1);
+        if (patch.getTitle() != null) {
+            patched.title(patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            patched.description(patch.getDescription());
+        }
+        if (patch.getPriority() != null) {
+            patched.priority(patch.getPriority());
+        }
+        if (patch.getStatus() != null) {
+            // A status written outside the lease paths ends any lease
+            patched.status(patch.getStatus()).claimedBy(null).leaseId(null).leaseExpiresOn(null);
+        }
+        if (patch.getSuitePath() != null) {
+            patched.suitePath(SuitePath.normalize(patch.getSuitePath()));
+        }
+        if (patch.getTags() != null) {
+            List<String> tags = Tags.normalize(patch.getTags());
+            patched.tags(tags).tagPairs(Tags.pairs(tags));
+        }
+        return patched.build();
+    }
+}
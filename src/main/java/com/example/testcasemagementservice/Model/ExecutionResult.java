@@ -0,0 +1,39 @@
+package com.example.testcasemagementservice.Model;
+
+import com.example.testcasemagementservice.Enums.Status;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * One execution of a test case. Stored insert-only in the {@code execution_results} time-series collection,
+ * with {@code executedOn} as time field and {@code testCaseId} as meta field so MongoDB buckets each test case's
+ * results together; the collection and its options are created by {@code ExecutionResultRepositoryCustom}.
+ * {@code executedOn} comes from the runner, while {@code receivedOn} is stamped on ingest, so a result uploaded
+ * late is still found by the flakiness analysis, which reads results in the order they arrive.
+ */
+@Document(value = "execution_results")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExecutionResult {
+    @Id
+    String id;
+
+    String testCaseId;
+
+    String runId;
+
+    Status status;
+
+    Long durationMillis;
+
+    Date executedOn;
+
+    Date receivedOn;
+}
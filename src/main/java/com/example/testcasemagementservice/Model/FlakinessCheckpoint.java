@@ -0,0 +1,32 @@
+package com.example.testcasemagementservice.Model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Progress of the flakiness analyzer through the execution results, shared by all nodes. The node holding the
+ * lock analyses results executed after {@code analyzedUpTo} and up to {@code pendingUpTo}; a run that dies
+ * leaves {@code pendingUpTo} behind so the next run repeats the same window.
+ */
+@Document(value = "flakiness_checkpoints")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FlakinessCheckpoint {
+    @Id
+    String id;
+
+    Date analyzedUpTo;
+
+    Date pendingUpTo;
+
+    String lockedBy;
+
+    Date lockedUntil;
+}
@@ -0,0 +1,30 @@
+package com.example.testcasemagementservice.Model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+/**
+ * Fixed-size summary of a test case's recent execution results, maintained by the flakiness analyzer.
+ * {@code outcomes} holds the last {@code runs} results (at most 64), newest in bit 0, a set bit meaning failed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ResultHistory {
+    long outcomes;
+
+    int runs;
+
+    double flipRate;
+
+    double failureRate;
+
+    double recentFailureRate;
+
+    // Results executed up to this time are included
+    Date analyzedUpTo;
+}
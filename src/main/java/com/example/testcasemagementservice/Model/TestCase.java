@@ -2,40 +2,88 @@ package com.example.testcasemagementservice.Model;
 
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
+import java.util.List;
 
 @Document(value = "testcases")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_priority_createdOn", def = "{'status': 1, 'priority': 1, 'createdOn': 1, '_id': 1}"),
+        @CompoundIndex(name = "priority_createdOn", def = "{'priority': 1, 'createdOn': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_updatedOn", def = "{'status': 1, 'updatedOn': 1, '_id': 1}"),
+        @CompoundIndex(name = "createdOn", def = "{'createdOn': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_priority_slaDueOn", def = "{'status': 1, 'priority': 1, 'slaDueOn': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_leaseExpiresOn", def = "{'status': 1, 'leaseExpiresOn': 1}"),
+        @CompoundIndex(name = "flakiness", def = "{'flakiness': -1}"),
+        @CompoundIndex(name = "suitePath_status_priority", def = "{'suitePath': 1, 'status': 1, 'priority': 1}"),
+        @CompoundIndex(name = "tags_status_priority", def = "{'tags': 1, 'status': 1, 'priority': 1}"),
+        @CompoundIndex(name = "tagPairs_status_priority", def = "{'tagPairs': 1, 'status': 1, 'priority': 1}")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class TestCase {
     @Id
     String id;
 
     @Indexed(unique = true)
+    @TextIndexed(weight = 3)
     String title;
 
+    @TextIndexed
     String description;
 
-    @Indexed
     Status status;
 
-    @Indexed
     Priority priority;
 
+    // Materialized suite path such as /Payments/Checkout/; see SuitePath
+    String suitePath;
+
+    // Normalized and sorted; see Tags
+    List<String> tags;
+
+    // Every pair of tags, maintained with them so two-tag filters are one index equality
+    @JsonIgnore
+    List<String> tagPairs;
+
+    // Assigned by the priority strategy when the test case is created or its priority changes
+    String queue;
+
+    Date slaDueOn;
+
+    // Held by the worker executing the test case while it is InProgress through the execution queue
+    String claimedBy;
+
+    String leaseId;
+
+    Date leaseExpiresOn;
+
+    // Derived from execution results by the flakiness analyzer; null until enough results were analysed
+    Double flakiness;
+
+    ResultHistory resultHistory;
+
     @CreatedDate
     Date createdOn;
 
     @LastModifiedDate
     Date updatedOn;
+
+    @Version
+    Long version;
 }
@@ -0,0 +1,44 @@
+package com.example.testcasemagementservice.Model;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TestCaseEventType;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * One entry of a test case's change history. {@code from*} fields are null for creates and {@code to*} fields
+ * are null for deletes.
+ */
+@Document(value = "testcase_events")
+@CompoundIndex(name = "testCaseId_occurredOn", def = "{'testCaseId': 1, 'occurredOn': -1, '_id': -1}")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TestCaseEvent {
+    @Id
+    String id;
+
+    String testCaseId;
+
+    TestCaseEventType type;
+
+    Status fromStatus;
+
+    Status toStatus;
+
+    Priority fromPriority;
+
+    Priority toPriority;
+
+    Long version;
+
+    Date occurredOn;
+}
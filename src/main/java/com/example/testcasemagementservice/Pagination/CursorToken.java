@@ -0,0 +1,47 @@
+package com.example.testcasemagementservice.Pagination;
+
+import com.example.testcasemagementservice.Enums.CursorSort;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.TestCase;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Opaque continuation token holding the {@code (sortKey, _id)} of the last element of a slice.
+ */
+@Value
+public class CursorToken {
+    CursorSort sort;
+
+    Date sortValue;
+
+    String id;
+
+    public static CursorToken after(TestCase testCase, CursorSort sort) {
+        Date sortValue = sort == CursorSort.CreatedOn ? testCase.getCreatedOn() : testCase.getUpdatedOn();
+        return new CursorToken(sort, sortValue, testCase.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + "|" + (sortValue == null ? "" : sortValue.getTime()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorToken decode(String token, CursorSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            CursorSort sort = CursorSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new InvalidDataException("Cursor was issued for ordering by " + sort);
+            }
+            Date sortValue = parts[1].isEmpty() ? null : new Date(Long.parseLong(parts[1]));
+            return new CursorToken(sort, sortValue, parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidDataException("Invalid cursor: " + token);
+        }
+    }
+}
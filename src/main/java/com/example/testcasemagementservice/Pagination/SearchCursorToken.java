@@ -0,0 +1,57 @@
+package com.example.testcasemagementservice.Pagination;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque continuation token for relevance-ranked search. Text scores are floats shared by many documents,
+ * so the token holds an offset into the ranking rather than a keyset, plus a fingerprint of the query it
+ * was issued for.
+ */
+@Value
+public class SearchCursorToken {
+    int query;
+
+    int offset;
+
+    public static SearchCursorToken first(String text, Status status, Priority priority) {
+        return new SearchCursorToken(fingerprint(text, status, priority), 0);
+    }
+
+    public SearchCursorToken next(int size) {
+        return new SearchCursorToken(query, offset + size);
+    }
+
+    public String encode() {
+        String raw = query + "|" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursorToken decode(String token, String text, Status status, Priority priority) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            int query = Integer.parseInt(parts[0]);
+            if (query != fingerprint(text, status, priority)) {
+                throw new InvalidDataException("Cursor was issued for a different search");
+            }
+            int offset = Integer.parseInt(parts[1]);
+            if (offset < 0) {
+                throw new InvalidDataException("Invalid cursor: " + token);
+            }
+            return new SearchCursorToken(query, offset);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidDataException("Invalid cursor: " + token);
+        }
+    }
+
+    private static int fingerprint(String text, Status status, Priority priority) {
+        return Objects.hash(text, status, priority);
+    }
+}
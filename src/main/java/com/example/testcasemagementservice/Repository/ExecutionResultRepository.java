@@ -0,0 +1,15 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ExecutionResultRepository extends MongoRepository<ExecutionResult, String>, ExecutionResultRepositoryCustom {
+
+    // Served by the time-series collection's automatic (testCaseId, executedOn) index
+    List<ExecutionResult> findByTestCaseIdOrderByExecutedOnDesc(String testCaseId, Limit limit);
+}
@@ -0,0 +1,49 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.ExecutionStatisticsDto;
+import com.example.testcasemagementservice.Enums.TrendUnit;
+import com.example.testcasemagementservice.Flakiness.OutcomeWindow;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ExecutionResultRepositoryCustom {
+
+    /**
+     * Creates {@code execution_results} as a time-series collection bucketed by test case, with results expiring
+     * after {@code retention}, unless it already exists, and ensures its {@code receivedOn} index. Must run before
+     * the first insert, which would otherwise create a regular collection.
+     *
+     * @return whether this call created the collection
+     */
+    boolean ensureCollection(Duration retention);
+
+    /**
+     * Inserts all results in a single unordered bulk write.
+     */
+    void insertUnordered(List<ExecutionResult> results);
+
+    /**
+     * Pass counts and duration percentiles of a test case's results executed in {@code [from, to)}, in one
+     * aggregation.
+     *
+     * @return empty when the test case has no results in range
+     */
+    Optional<ExecutionStatisticsDto> statistics(String testCaseId, Date from, Date to);
+
+    /**
+     * The same figures per {@code unit} (UTC), oldest first, omitting periods without results.
+     */
+    List<ExecutionStatisticsDto> trend(String testCaseId, TrendUnit unit, Date from, Date to);
+
+    /**
+     * The outcome window of each test case over results received in {@code (after, upTo]}, oldest execution
+     * first, folded by the database so only the last {@link OutcomeWindow#SIZE} results per test case leave it.
+     * Results stored before {@code receivedOn} was stamped are matched on {@code executedOn}.
+     */
+    Map<String, OutcomeWindow> outcomeWindows(Date after, Date upTo);
+}
@@ -0,0 +1,162 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.ExecutionStatisticsDto;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TrendUnit;
+import com.example.testcasemagementservice.Flakiness.OutcomeWindow;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.aggregation.SelectionOperators;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class ExecutionResultRepositoryCustomImpl implements ExecutionResultRepositoryCustom {
+
+    private static final String COLLECTION = "execution_results";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ExecutionResultRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean ensureCollection(Duration retention) {
+        boolean created = createCollection(retention);
+        // Flakiness analysis reads results by arrival, which the time field does not cover
+        mongoTemplate.indexOps(ExecutionResult.class).ensureIndex(new Index("receivedOn", Sort.Direction.ASC));
+        return created;
+    }
+
+    private boolean createCollection(Duration retention) {
+        if (mongoTemplate.collectionExists(ExecutionResult.class)) {
+            return false;
+        }
+        try {
+            // A test case runs minutes to hours apart, so hour granularity keeps its results in few buckets
+            mongoTemplate.createCollection(ExecutionResult.class, CollectionOptions.timeSeries("executedOn",
+                    options -> options.metaField("testCaseId").granularity(Granularity.HOURS).expireAfter(retention)));
+            return true;
+        } catch (DataAccessException ex) {
+            // Another node created it first
+            if (mongoTemplate.collectionExists(ExecutionResult.class)) {
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void insertUnordered(List<ExecutionResult> results) {
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ExecutionResult.class)
+                .insert(results)
+                .execute();
+    }
+
+    @Override
+    public Optional<ExecutionStatisticsDto> statistics(String testCaseId, Date from, Date to) {
+        List<AggregationOperation> operations = List.of(match(testCaseId, from, to), summarise(Aggregation.group()));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(operations), COLLECTION, Document.class)
+                .getMappedResults().stream()
+                .findFirst()
+                .map(row -> toStatistics(row, null));
+    }
+
+    @Override
+    public List<ExecutionStatisticsDto> trend(String testCaseId, TrendUnit unit, Date from, Date to) {
+        List<AggregationOperation> operations = List.of(
+                match(testCaseId, from, to),
+                Aggregation.addFields()
+                        .addFieldWithValue("periodStart", DateOperators.DateTrunc.truncateValueOf("executedOn").to(unit.getUnit()))
+                        .build(),
+                summarise(Aggregation.group("periodStart")),
+                Aggregation.sort(Sort.Direction.ASC, "_id"));
+        List<ExecutionStatisticsDto> trend = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(Aggregation.newAggregation(operations), COLLECTION, Document.class)) {
+            trend.add(toStatistics(row, row.getDate("_id")));
+        }
+        return trend;
+    }
+
+    @Override
+    public Map<String, OutcomeWindow> outcomeWindows(Date after, Date upTo) {
+        // $bottomN keeps the newest results per test case without sorting the whole range
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(new Criteria().orOperator(
+                                Criteria.where("receivedOn").gt(after).lte(upTo),
+                                Criteria.where("receivedOn").exists(false).and("executedOn").gt(after).lte(upTo))),
+                        Aggregation.group("testCaseId").and("outcomes", SelectionOperators.Bottom.bottom(OutcomeWindow.SIZE)
+                                .sortBy(Sort.by("executedOn", "_id"))
+                                .output(ComparisonOperators.Eq.valueOf("status").equalToValue(Status.Failed.name()))))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        Map<String, OutcomeWindow> windows = new HashMap<>();
+        try (Stream<Document> rows = mongoTemplate.aggregateStream(aggregation, COLLECTION, Document.class)) {
+            rows.forEach(row -> {
+                OutcomeWindow window = OutcomeWindow.EMPTY;
+                // Oldest first; each entry is the single-element output array
+                for (Object outcome : row.getList("outcomes", Object.class)) {
+                    window = window.append(Boolean.TRUE.equals(((List<?>) outcome).get(0)));
+                }
+                windows.put(row.getString("_id"), window);
+            });
+        }
+        return windows;
+    }
+
+    private AggregationOperation match(String testCaseId, Date from, Date to) {
+        // Meta field and time range first, so whole buckets outside the range are skipped
+        return Aggregation.match(Criteria.where("testCaseId").is(testCaseId).and("executedOn").gte(from).lt(to));
+    }
+
+    private GroupOperation summarise(GroupOperation group) {
+        return group.count().as("total")
+                .sum(ConditionalOperators.when(ComparisonOperators.Eq.valueOf("status").equalToValue(Status.Passed.name()))
+                        .then(1)
+                        .otherwise(0)).as("passed")
+                .avg("durationMillis").as("avgDurationMillis")
+                .and("durationPercentiles", AccumulatorOperators.Percentile.percentileOf("durationMillis").percentages(0.5, 0.95));
+    }
+
+    private ExecutionStatisticsDto toStatistics(Document row, Date periodStart) {
+        long total = ((Number) row.get("total")).longValue();
+        long passed = ((Number) row.get("passed")).longValue();
+        List<?> percentiles = row.getList("durationPercentiles", Object.class);
+        return ExecutionStatisticsDto.builder()
+                .periodStart(periodStart)
+                .total(total)
+                .passed(passed)
+                .failed(total - passed)
+                .passRate(total == 0 ? 0 : (double) passed / total)
+                .avgDurationMillis(number(row.get("avgDurationMillis")))
+                .p50DurationMillis(number(percentiles.get(0)))
+                .p95DurationMillis(number(percentiles.get(1)))
+                .build();
+    }
+
+    private static double number(Object value) {
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Model.FlakinessCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FlakinessCheckpointRepository extends MongoRepository<FlakinessCheckpoint, String>, FlakinessCheckpointRepositoryCustom {
+}
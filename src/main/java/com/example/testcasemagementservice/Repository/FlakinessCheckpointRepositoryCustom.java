@@ -0,0 +1,36 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Model.FlakinessCheckpoint;
+
+import java.util.Date;
+import java.util.Optional;
+
+public interface FlakinessCheckpointRepositoryCustom {
+
+    /**
+     * Locks the checkpoint for {@code owner} until {@code lockedUntil}, creating it if missing, unless another
+     * owner holds an unexpired lock.
+     *
+     * @return the checkpoint as locked, or empty when another owner holds it
+     */
+    Optional<FlakinessCheckpoint> acquire(String id, String owner, Date now, Date lockedUntil);
+
+    /**
+     * Records the end of the window the owner is about to analyse.
+     *
+     * @return whether {@code owner} still holds the lock
+     */
+    boolean begin(String id, String owner, Date pendingUpTo);
+
+    /**
+     * Moves the checkpoint to {@code analyzedUpTo} and releases the lock.
+     *
+     * @return whether {@code owner} still held the lock
+     */
+    boolean complete(String id, String owner, Date analyzedUpTo);
+
+    /**
+     * Releases the lock without moving the checkpoint, keeping the pending window for the next run.
+     */
+    void release(String id, String owner);
+}
@@ -0,0 +1,65 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Model.FlakinessCheckpoint;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.Optional;
+
+public class FlakinessCheckpointRepositoryCustomImpl implements FlakinessCheckpointRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public FlakinessCheckpointRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<FlakinessCheckpoint> acquire(String id, String owner, Date now, Date lockedUntil) {
+        Query query = Query.query(Criteria.where("_id").is(id).orOperator(
+                Criteria.where("lockedUntil").is(null),
+                Criteria.where("lockedUntil").lte(now),
+                Criteria.where("lockedBy").is(owner)));
+        Update update = new Update()
+                .set("lockedBy", owner)
+                .set("lockedUntil", lockedUntil);
+        try {
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), FlakinessCheckpoint.class));
+        } catch (DuplicateKeyException ex) {
+            // The checkpoint exists but is locked, so the upsert tried to insert a second one
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean begin(String id, String owner, Date pendingUpTo) {
+        return mongoTemplate.updateFirst(ownedQuery(id, owner), new Update().set("pendingUpTo", pendingUpTo),
+                FlakinessCheckpoint.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean complete(String id, String owner, Date analyzedUpTo) {
+        Update update = new Update()
+                .set("analyzedUpTo", analyzedUpTo)
+                .unset("pendingUpTo")
+                .unset("lockedBy")
+                .unset("lockedUntil");
+        return mongoTemplate.updateFirst(ownedQuery(id, owner), update, FlakinessCheckpoint.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public void release(String id, String owner) {
+        mongoTemplate.updateFirst(ownedQuery(id, owner), new Update().unset("lockedBy").unset("lockedUntil"),
+                FlakinessCheckpoint.class);
+    }
+
+    private Query ownedQuery(String id, String owner) {
+        return Query.query(Criteria.where("_id").is(id).and("lockedBy").is(owner));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTestCaseRepository extends ReactiveMongoRepository<TestCase, String>, ReactiveTestCaseRepositoryCustom {
+    Flux<TestCase> findAllBy(Pageable pageable);
+
+    Flux<TestCase> findAllByPriority(Pageable pageable, Priority priority);
+
+    Flux<TestCase> findAllByStatus(Pageable pageable, Status status);
+
+    Flux<TestCase> findAllByStatusAndPriority(Pageable pageable, Status status, Priority priority);
+
+    Mono<Long> countByPriority(Priority priority);
+
+    Mono<Long> countByStatus(Status status);
+
+    Mono<Long> countByStatusAndPriority(Status status, Priority priority);
+}
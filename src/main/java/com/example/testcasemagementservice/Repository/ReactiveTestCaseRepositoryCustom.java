@@ -0,0 +1,23 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public interface ReactiveTestCaseRepositoryCustom {
+
+    /**
+     * Reactive counterpart of {@link TestCaseRepositoryCustom#patch}: emits the test case as it was before the
+     * update, or completes empty when nothing matched.
+     */
+    Mono<TestCase> patch(String id, PatchTestCaseDto patch, Date updatedOn);
+
+    /**
+     * Reactive counterpart of {@link TestCaseRepositoryCustom#triage}: emits the test case as it is after the
+     * update, or completes empty when it no longer has {@code priority}.
+     */
+    Mono<TestCase> triage(String id, Priority priority, String queue, Date slaDueOn);
+}
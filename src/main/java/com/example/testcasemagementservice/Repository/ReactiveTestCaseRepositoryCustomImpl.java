@@ -0,0 +1,30 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public class ReactiveTestCaseRepositoryCustomImpl implements ReactiveTestCaseRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveTestCaseRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<TestCase> patch(String id, PatchTestCaseDto patch, Date updatedOn) {
+        return mongoTemplate.findAndModify(TestCasePatches.query(id, patch),
+                TestCasePatches.update(patch, updatedOn), TestCasePatches.RETURN_PREVIOUS, TestCase.class);
+    }
+
+    @Override
+    public Mono<TestCase> triage(String id, Priority priority, String queue, Date slaDueOn) {
+        return mongoTemplate.findAndModify(TestCasePatches.triageQuery(id, priority),
+                TestCasePatches.triage(queue, slaDueOn), TestCasePatches.RETURN_NEW, TestCase.class);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Model.TestCaseEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TestCaseEventRepository extends MongoRepository<TestCaseEvent, String> {
+
+    // Served by testCaseId_occurredOn; newest first
+    Slice<TestCaseEvent> findByTestCaseIdOrderByOccurredOnDescIdDesc(String testCaseId, Pageable pageable);
+}
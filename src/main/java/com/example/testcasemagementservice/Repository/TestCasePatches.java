@@ -0,0 +1,90 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import com.example.testcasemagementservice.Tag.Tags;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The single findAndModify shared by the blocking and reactive repositories: {@code $set} for the non-null
+ * fields of a patch, {@code updatedOn}, and {@code $inc} of the version, matched on the expected version
+ * when the patch carries one.
+ */
+@UtilityClass
+class TestCasePatches {
+
+    // The pre-image feeds change events; callers derive the post-image with TestCaseMapper.applyPatch
+    final FindAndModifyOptions RETURN_PREVIOUS = FindAndModifyOptions.options().returnNew(false);
+
+    final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    Query query(String id, PatchTestCaseDto patch) {
+        Criteria criteria = Criteria.where("_id").is(id);
+        if (patch.getVersion() != null && patch.getVersion() == 0) {
+            // Test cases written before versioning have no version; their ETag and reads report 0
+            criteria.and("version").in(0L, null);
+        } else if (patch.getVersion() != null) {
+            criteria.and("version").is(patch.getVersion());
+        }
+        return Query.query(criteria);
+    }
+
+    Update update(PatchTestCaseDto patch, Date updatedOn) {
+        Update update = new Update()
+                .set("updatedOn", updatedOn)
+                .inc("version", 1);
+        if (patch.getTitle() != null) {
+            update.set("title", patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            update.set("description", patch.getDescription());
+        }
+        if (patch.getPriority() != null) {
+            update.set("priority", patch.getPriority());
+        }
+        if (patch.getStatus() != null) {
+            setStatus(update, patch.getStatus());
+        }
+        if (patch.getSuitePath() != null) {
+            update.set("suitePath", SuitePath.normalize(patch.getSuitePath()));
+        }
+        if (patch.getTags() != null) {
+            List<String> tags = Tags.normalize(patch.getTags());
+            update.set("tags", tags).set("tagPairs", Tags.pairs(tags));
+        }
+        return update;
+    }
+
+    /**
+     * Sets the status and ends any lease, so the worker that held it can neither complete the test case nor have
+     * it requeued when the old lease expires. Every status write outside claim and renewal goes through here.
+     */
+    Update setStatus(Update update, Status status) {
+        return update
+                .set("status", status)
+                .unset("claimedBy")
+                .unset("leaseId")
+                .unset("leaseExpiresOn");
+    }
+
+    Query triageQuery(String id, Priority priority) {
+        // Matching the priority lets a later re-prioritisation win over a triage still in flight
+        return Query.query(Criteria.where("_id").is(id).and("priority").is(priority));
+    }
+
+    Update triage(String queue, Date slaDueOn) {
+        return new Update()
+                .set("queue", queue)
+                .set("slaDueOn", slaDueOn)
+                .inc("version", 1);
+    }
+}
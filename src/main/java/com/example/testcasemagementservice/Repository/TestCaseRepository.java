@@ -1,28 +1,45 @@
 package com.example.testcasemagementservice.Repository;
 
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
 import com.example.testcasemagementservice.Model.TestCase;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TestCaseRepository extends MongoRepository<TestCase, String> {
+public interface TestCaseRepository extends MongoRepository<TestCase, String>, TestCaseRepositoryCustom {
     Page<TestCase> findAll(Pageable pageable);
 
     Optional<TestCase> findById(String id);
 
+    // Reads only the fields of the entity tag
+    Optional<TestCaseVersionDto> findVersionById(String id);
+
     Page<TestCase> findAllByPriority(Pageable pageable, Priority priority);
 
     Page<TestCase> findAllByStatus(Pageable pageable, Status status);
 
     Page<TestCase> findAllByStatusAndPriority(Pageable pageable, Status status, Priority priority);
 
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    <T> Page<T> findAllByPriority(Pageable pageable, Priority priority, Class<T> type);
+
+    <T> Page<T> findAllByStatus(Pageable pageable, Status status, Class<T> type);
+
+    <T> Page<T> findAllByStatusAndPriority(Pageable pageable, Status status, Priority priority, Class<T> type);
+
     boolean existsByTitle(String title);
+
+    // Served by the flakiness index
+    List<TestCase> findByFlakinessGreaterThanEqualOrderByFlakinessDesc(double flakiness, Limit limit);
 }
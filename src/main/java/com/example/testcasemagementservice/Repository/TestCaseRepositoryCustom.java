@@ -0,0 +1,180 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Pagination.CursorToken;
+import com.example.testcasemagementservice.Tag.TagExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface TestCaseRepositoryCustom {
+
+    Set<String> findExistingTitles(Collection<String> titles);
+
+    Set<String> findExistingIds(Collection<String> ids);
+
+    /**
+     * Inserts all test cases in a single unordered bulk write.
+     *
+     * @return positions in {@code testCases} rejected by the unique title index
+     */
+    Set<Integer> insertUnordered(List<TestCase> testCases);
+
+    /**
+     * Applies {@code patch} in a single findAndModify, without reading the document first.
+     *
+     * @return the test case as it was before the update, or empty when no test case matched the id and
+     * (if the patch carries one) the expected version
+     */
+    Optional<TestCase> patch(String id, PatchTestCaseDto patch, Date updatedOn);
+
+    /**
+     * Sets the queue and SLA deadline of a test case and increments its version, provided it still has
+     * {@code priority}.
+     *
+     * @return the test case as it is after the update, or empty when it no longer has that priority
+     */
+    Optional<TestCase> triage(String id, Priority priority, String queue, Date slaDueOn);
+
+    /**
+     * Moves the Pending test case of {@code priority} with the earliest SLA deadline to InProgress under a new
+     * lease, in a single findAndModify, so concurrent claimers never receive the same test case.
+     *
+     * @return the test case as it was before the claim, or empty when none of that priority is pending
+     */
+    Optional<TestCase> claim(Priority priority, String worker, String leaseId, Date claimedOn, Date leaseExpiresOn);
+
+    /**
+     * Extends a lease that is still held and increments the version.
+     *
+     * @return whether the test case is still InProgress under {@code leaseId}
+     */
+    boolean renewLease(String id, String leaseId, Date leaseExpiresOn);
+
+    /**
+     * Ends a lease held under {@code leaseId}, moving the test case to {@code status}.
+     *
+     * @return the test case as it was before, or empty when the lease is no longer held
+     */
+    Optional<TestCase> release(String id, String leaseId, Status status, Date updatedOn);
+
+    /**
+     * Returns one test case whose lease expired before {@code now} to Pending.
+     *
+     * @return the test case as it was before, or empty when no lease has expired
+     */
+    Optional<TestCase> requeueExpired(Date now);
+
+    /**
+     * Returns the test cases with the given ids holding only {@code id}, {@code status}, {@code priority} and
+     * {@code updatedOn}.
+     */
+    List<TestCase> findStatesByIds(Collection<String> ids);
+
+    /**
+     * Returns the test cases with the given ids holding only {@code id} and {@code resultHistory}.
+     */
+    List<TestCase> findResultHistoriesByIds(Collection<String> ids);
+
+    /**
+     * Sets {@code flakiness} and {@code resultHistory} of each test case in one unordered bulk write, skipping
+     * test cases whose stored history already reaches the same {@code analyzedUpTo}, so a repeated analysis
+     * window is not counted twice. Increments the version of each test case modified.
+     *
+     * @return the number of test cases modified
+     */
+    long updateFlakiness(List<TestCase> testCases);
+
+    /**
+     * Moves test cases that currently have exactly {@code from} and {@code priority} (null matching a missing
+     * field) to {@code to} in one updateMany, restricted to {@code ids} unless null.
+     *
+     * @return the number of test cases modified
+     */
+    long updateStatus(Collection<String> ids, Status from, Priority priority, Status to, Date updatedOn);
+
+    /**
+     * Keyset pagination: returns up to {@code size} test cases ordered by {@code (sort, _id)} strictly
+     * after {@code after}, or from the start when {@code after} is null. Never issues a count.
+     */
+    Slice<TestCase> findSlice(Status status, Priority priority, CursorSort sort, CursorToken after, int size);
+
+    long countByFilter(Status status, Priority priority);
+
+    /**
+     * Test cases in the subtree of the normalized {@code suitePath} and matching {@code tags}, each ignored when
+     * null, optionally narrowed by status and priority. A suite alone is one range on the suitePath_status_priority
+     * index; a one-tag group is an equality on tags_status_priority and a group of two or more on
+     * tagPairs_status_priority. A DTO {@code type} reads only its own fields.
+     */
+    <T> Page<T> findFiltered(String suitePath, TagExpression tags, Status status, Priority priority, Pageable pageable, Class<T> type);
+
+    /**
+     * The distinct suite paths in the subtree of {@code suitePath}, in path order, read from the index alone.
+     */
+    List<String> findSuitePaths(String suitePath);
+
+    /**
+     * Re-roots up to {@code limit} test cases from the subtree of {@code from} to {@code to} with one pipeline
+     * updateMany, incrementing their version.
+     *
+     * @return the ids of the test cases moved; fewer than {@code limit} means the subtree is empty
+     */
+    List<String> moveSuite(String from, String to, Date updatedOn, int limit);
+
+    /**
+     * Streams matching test cases from a server-side cursor in {@code _id} order. The caller must close the stream.
+     */
+    Stream<TestCase> streamByFilter(Status status, Priority priority, int batchSize);
+
+    /**
+     * Streams the id and title of every test case from a server-side cursor. The caller must close the stream.
+     */
+    Stream<TestCase> streamTitles(int batchSize);
+
+    /**
+     * Full-text search over title and description using the text index, most relevant first and then by
+     * {@code _id}, optionally narrowed by status and priority.
+     */
+    List<TestCaseSearchHitDto> search(String text, Status status, Priority priority, int skip, int limit);
+
+    /**
+     * Fallback for {@code TestCaseTitleIndex#suggest} with the same matching and order: titles containing every
+     * earlier word of {@code words} as a whole word and a word starting with the last one, ignoring case.
+     * {@code words} come from {@code TestCaseTitleIndex#tokenize}. The unanchored regex scans every title.
+     */
+    List<TitleSuggestionDto> findTitleSuggestions(List<String> words, int limit);
+
+    /**
+     * Counts test cases per status and priority in one aggregation, optionally per UTC day of the bucket field.
+     * {@code from} and {@code to} bound the bucket field and are ignored for {@link StatisticsBucket#None}.
+     */
+    List<StatusPriorityCountDto> countByStatusAndPriority(StatisticsBucket bucket, Date from, Date to);
+
+    /**
+     * Counts the test cases in the subtree of {@code suitePath} per status and priority in one aggregation
+     * covered by the suitePath_status_priority index.
+     */
+    List<StatusPriorityCountDto> countByStatusAndPriorityInSuite(String suitePath);
+
+    /**
+     * Counts test cases per tag starting with {@code prefix} (every tag when null), most used first.
+     */
+    List<TagCountDto> countByTag(String prefix);
+}
@@ -0,0 +1,444 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Pagination.CursorToken;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import com.example.testcasemagementservice.Tag.TagExpression;
+import com.example.testcasemagementservice.Tag.Tags;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.aggregation.VariableOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestCaseRepositoryCustomImpl implements TestCaseRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final String WORD_START = "(?<![\\p{L}\\p{N}])";
+
+    private final MongoTemplate mongoTemplate;
+
+    public TestCaseRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        Query query = Query.query(Criteria.where("title").in(titles));
+        return new HashSet<>(mongoTemplate.findDistinct(query, "title", TestCase.class, String.class));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, TestCase.class).stream()
+                .map(TestCase::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<TestCase> testCases) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class)
+                    .insert(testCases)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException ex) {
+            Set<Integer> rejected = new HashSet<>();
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                    throw ex;
+                }
+                rejected.add(error.getIndex());
+            }
+            return rejected;
+        }
+    }
+
+    @Override
+    public Optional<TestCase> patch(String id, PatchTestCaseDto patch, Date updatedOn) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(TestCasePatches.query(id, patch),
+                TestCasePatches.update(patch, updatedOn), TestCasePatches.RETURN_PREVIOUS, TestCase.class));
+    }
+
+    @Override
+    public List<TestCase> findStatesByIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("status", "priority", "updatedOn");
+        return mongoTemplate.find(query, TestCase.class);
+    }
+
+    @Override
+    public List<TestCase> findResultHistoriesByIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("resultHistory");
+        return mongoTemplate.find(query, TestCase.class);
+    }
+
+    @Override
+    public long updateFlakiness(List<TestCase> testCases) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class);
+        for (TestCase testCase : testCases) {
+            Query query = Query.query(Criteria.where("_id").is(testCase.getId())
+                    .and("resultHistory.analyzedUpTo").ne(testCase.getResultHistory().getAnalyzedUpTo()));
+            operations.updateOne(query, new Update()
+                    .set("flakiness", testCase.getFlakiness())
+                    .set("resultHistory", testCase.getResultHistory())
+                    .inc("version", 1));
+        }
+        return operations.execute().getModifiedCount();
+    }
+
+    @Override
+    public Optional<TestCase> triage(String id, Priority priority, String queue, Date slaDueOn) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(TestCasePatches.triageQuery(id, priority),
+                TestCasePatches.triage(queue, slaDueOn), TestCasePatches.RETURN_NEW, TestCase.class));
+    }
+
+    @Override
+    public Optional<TestCase> claim(Priority priority, String worker, String leaseId, Date claimedOn, Date leaseExpiresOn) {
+        // Served by status_priority_slaDueOn; test cases triaged before SLAs existed sort first
+        Query query = Query.query(Criteria.where("status").is(Status.Pending).and("priority").is(priority))
+                .with(Sort.by(Sort.Direction.ASC, "slaDueOn", "_id"));
+        Update update = new Update()
+                .set("status", Status.InProgress)
+                .set("claimedBy", worker)
+                .set("leaseId", leaseId)
+                .set("leaseExpiresOn", leaseExpiresOn)
+                .set("updatedOn", claimedOn)
+                .inc("version", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, TestCasePatches.RETURN_PREVIOUS, TestCase.class));
+    }
+
+    @Override
+    public boolean renewLease(String id, String leaseId, Date leaseExpiresOn) {
+        return mongoTemplate.updateFirst(leaseQuery(id, leaseId),
+                Update.update("leaseExpiresOn", leaseExpiresOn).inc("version", 1), TestCase.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<TestCase> release(String id, String leaseId, Status status, Date updatedOn) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(leaseQuery(id, leaseId), endLease(status, updatedOn),
+                TestCasePatches.RETURN_PREVIOUS, TestCase.class));
+    }
+
+    @Override
+    public Optional<TestCase> requeueExpired(Date now) {
+        Query query = Query.query(Criteria.where("status").is(Status.InProgress).and("leaseExpiresOn").lt(now));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, endLease(Status.Pending, now),
+                TestCasePatches.RETURN_PREVIOUS, TestCase.class));
+    }
+
+    @Override
+    public long updateStatus(Collection<String> ids, Status from, Priority priority, Status to, Date updatedOn) {
+        Criteria criteria = Criteria.where("status").is(from).and("priority").is(priority);
+        if (ids != null) {
+            criteria.and("_id").in(ids);
+        }
+        Update update = TestCasePatches.setStatus(new Update(), to)
+                .set("updatedOn", updatedOn)
+                .inc("version", 1);
+        return mongoTemplate.updateMulti(Query.query(criteria), update, TestCase.class).getModifiedCount();
+    }
+
+    @Override
+    public Slice<TestCase> findSlice(Status status, Priority priority, CursorSort sort, CursorToken after, int size) {
+        List<Criteria> criteria = new ArrayList<>(filter(status, priority));
+        if (after != null) {
+            criteria.add(after(sort.getField(), after));
+        }
+        Sort order = Sort.by(Sort.Direction.ASC, sort.getField(), "_id");
+        Query query = new Query(and(criteria))
+                .with(order)
+                .limit(size + 1);
+
+        List<TestCase> content = mongoTemplate.find(query, TestCase.class);
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size, order), hasNext);
+    }
+
+    @Override
+    public long countByFilter(Status status, Priority priority) {
+        return mongoTemplate.count(new Query(and(filter(status, priority))), TestCase.class);
+    }
+
+    @Override
+    public <T> Page<T> findFiltered(String suitePath, TagExpression tags, Status status, Priority priority, Pageable pageable, Class<T> type) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (suitePath != null) {
+            criteria.add(inSuite(suitePath));
+        }
+        if (tags != null) {
+            criteria.add(tagged(tags));
+        }
+        criteria.addAll(filter(status, priority));
+        Query query = new Query(and(criteria)).with(pageable);
+        List<T> content = mongoTemplate.query(TestCase.class).as(type).matching(query).all();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), TestCase.class));
+    }
+
+    @Override
+    public List<String> findSuitePaths(String suitePath) {
+        return mongoTemplate.findDistinct(new Query(inSuite(suitePath)), "suitePath", TestCase.class, String.class)
+                .stream()
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public List<String> moveSuite(String from, String to, Date updatedOn, int limit) {
+        Query batch = new Query(inSuite(from)).limit(limit);
+        batch.fields().include("_id");
+        List<String> ids = mongoTemplate.find(batch, TestCase.class).stream()
+                .map(TestCase::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        // $substrCP counts code points, so the kept suffix starts after the code points of the old prefix
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("suitePath").toValue(StringOperators.Concat.stringValue(to)
+                        .concatValueOf(StringOperators.valueOf("suitePath")
+                                .substringCP(from.codePointCount(0, from.length()), SuitePath.MAX_LENGTH)))
+                .set("updatedOn").toValue(updatedOn)
+                // Test cases written before versioning have no version, and null + 1 would stay null
+                .set("version").toValue(ArithmeticOperators.valueOf(ConditionalOperators.ifNull("version").then(0)).add(1));
+        // Re-checking the range skips test cases moved elsewhere since they were read
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids).andOperator(inSuite(from))), update, TestCase.class);
+        return ids;
+    }
+
+    @Override
+    public Stream<TestCase> streamByFilter(Status status, Priority priority, int batchSize) {
+        Query query = new Query(and(filter(status, priority)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, TestCase.class);
+    }
+
+    @Override
+    public Stream<TestCase> streamTitles(int batchSize) {
+        Query query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("title");
+        return mongoTemplate.stream(query, TestCase.class);
+    }
+
+    @Override
+    public List<TestCaseSearchHitDto> search(String text, Status status, Priority priority, int skip, int limit) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .includeScore()
+                .sortByScore()
+                .addCriteria(and(filter(status, priority)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, TestCaseSearchHitDto.class, "testcases");
+    }
+
+    @Override
+    public List<TitleSuggestionDto> findTitleSuggestions(List<String> words, int limit) {
+        // Words are letters and digits only, so they need no quoting; a word starts after any other character
+        String prefix = words.get(words.size() - 1);
+        List<Criteria> criteria = new ArrayList<>();
+        for (String word : words.subList(0, words.size() - 1)) {
+            criteria.add(Criteria.where("title").regex(WORD_START + word + "(?![\\p{L}\\p{N}])", "i"));
+        }
+        criteria.add(Criteria.where("title").regex(WORD_START + prefix, "i"));
+
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(new Criteria().andOperator(criteria)));
+        if (words.size() == 1) {
+            // Rank by the first matching word in word order, as the in-memory index walks its postings
+            operations.add(Aggregation.addFields()
+                    .addFieldWithValue("rank", AccumulatorOperators.Min.minOf(
+                            VariableOperators.Map.itemsOf(StringOperators.valueOf("title")
+                                            .regexFindAll(WORD_START + prefix + "[\\p{L}\\p{N}]*", "i"))
+                                    .as("found")
+                                    .andApply(StringOperators.valueOf("$$found.match").toLower())))
+                    .build());
+            operations.add(Aggregation.sort(Sort.by("rank", "title", "_id")));
+        } else {
+            operations.add(Aggregation.sort(Sort.by("title", "_id")));
+        }
+        operations.add(Aggregation.limit(limit));
+        operations.add(Aggregation.project("title"));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(operations), "testcases", TitleSuggestionDto.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public List<StatusPriorityCountDto> countByStatusAndPriority(StatisticsBucket bucket, Date from, Date to) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        if (bucket.getField() == null) {
+            operations.add(Aggregation.group("status", "priority").count().as("count"));
+        } else {
+            Criteria range = Criteria.where(bucket.getField()).ne(null);
+            if (from != null) {
+                range = range.gte(from);
+            }
+            if (to != null) {
+                range = range.lt(to);
+            }
+            operations.add(Aggregation.match(range));
+            operations.add(Aggregation.project("status", "priority")
+                    .and(DateOperators.dateOf(bucket.getField()).toString("%Y-%m-%d")).as("day"));
+            operations.add(Aggregation.group("day", "status", "priority").count().as("count"));
+        }
+
+        return statusPriorityCounts(Aggregation.newAggregation(operations));
+    }
+
+    @Override
+    public List<StatusPriorityCountDto> countByStatusAndPriorityInSuite(String suitePath) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(inSuite(suitePath)),
+                Aggregation.group("status", "priority").count().as("count"));
+        return statusPriorityCounts(aggregation);
+    }
+
+    @Override
+    public List<TagCountDto> countByTag(String prefix) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        Criteria range = prefix == null ? null : Criteria.where("tags").gte(prefix).lt(prefix + Character.MAX_VALUE);
+        if (range != null) {
+            operations.add(Aggregation.match(range));
+        }
+        operations.add(Aggregation.project("tags"));
+        operations.add(Aggregation.unwind("tags"));
+        if (range != null) {
+            // The first match keeps test cases with any matching tag; this drops their other tags
+            operations.add(Aggregation.match(range));
+        }
+        operations.add(Aggregation.sortByCount("tags"));
+
+        List<TagCountDto> counts = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(Aggregation.newAggregation(operations), "testcases", Document.class)) {
+            counts.add(TagCountDto.builder()
+                    .tag(row.getString("_id"))
+                    .count(((Number) row.get("count")).longValue())
+                    .build());
+        }
+        return counts;
+    }
+
+    private List<StatusPriorityCountDto> statusPriorityCounts(Aggregation aggregation) {
+        List<StatusPriorityCountDto> counts = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, "testcases", Document.class)) {
+            Document key = row.get("_id", Document.class);
+            String status = key.getString("status");
+            String priority = key.getString("priority");
+            counts.add(StatusPriorityCountDto.builder()
+                    .day(key.getString("day"))
+                    .status(status == null ? null : Status.valueOf(status))
+                    .priority(priority == null ? null : Priority.valueOf(priority))
+                    .count(((Number) row.get("count")).longValue())
+                    .build());
+        }
+        return counts;
+    }
+
+    private Criteria inSuite(String suitePath) {
+        return Criteria.where("suitePath").gte(suitePath).lt(SuitePath.upperBound(suitePath));
+    }
+
+    private Criteria tagged(TagExpression tags) {
+        List<Criteria> anyOf = new ArrayList<>();
+        List<String> singles = new ArrayList<>();
+        for (List<String> group : tags.anyOf()) {
+            if (group.size() == 1) {
+                singles.add(group.get(0));
+                continue;
+            }
+            // One tagPairs equality bounds the index scan; any tags beyond the pair are checked on the documents
+            Criteria pair = Criteria.where("tagPairs").is(Tags.pair(group.get(0), group.get(1)));
+            anyOf.add(group.size() == 2 ? pair : pair.and("tags").all(group));
+        }
+        if (!singles.isEmpty()) {
+            anyOf.add(Criteria.where("tags").in(singles));
+        }
+        return anyOf.size() == 1 ? anyOf.get(0) : new Criteria().orOperator(anyOf);
+    }
+
+    private Query leaseQuery(String id, String leaseId) {
+        // The lease id fences out a worker whose lease expired and was claimed again by another
+        return Query.query(Criteria.where("_id").is(id).and("status").is(Status.InProgress).and("leaseId").is(leaseId));
+    }
+
+    private Update endLease(Status status, Date updatedOn) {
+        return TestCasePatches.setStatus(new Update(), status)
+                .set("updatedOn", updatedOn)
+                .inc("version", 1);
+    }
+
+    private List<Criteria> filter(Status status, Priority priority) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (status != null) {
+            criteria.add(Criteria.where("status").is(status));
+        }
+        if (priority != null) {
+            criteria.add(Criteria.where("priority").is(priority));
+        }
+        return criteria;
+    }
+
+    private Criteria after(String field, CursorToken after) {
+        // Missing sort values order first, so a null cursor value continues through the nulls before the rest
+        if (after.getSortValue() == null) {
+            return new Criteria().orOperator(
+                    Criteria.where(field).is(null).and("_id").gt(after.getId()),
+                    Criteria.where(field).ne(null));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(field).gt(after.getSortValue()),
+                Criteria.where(field).is(after.getSortValue()).and("_id").gt(after.getId()));
+    }
+
+    private Criteria and(List<Criteria> criteria) {
+        return criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria);
+    }
+}
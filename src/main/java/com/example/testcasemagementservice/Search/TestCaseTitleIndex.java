@@ -0,0 +1,178 @@
+package com.example.testcasemagementservice.Search;
+
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index from lower-cased title words to test case ids, for autocomplete without a
+ * database round trip. Seeded from the collection at startup and maintained from {@link TestCaseChangedEvent}s.
+ * A test case deleted while the seeding cursor is still open can reappear until the next restart.
+ */
+@Component
+@Slf4j
+public class TestCaseTitleIndex {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private final TestCaseRepository testCaseRepository;
+    private final boolean enabled;
+    private final ConcurrentSkipListMap<String, Set<String>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, String> titles = new ConcurrentHashMap<>();
+    private volatile boolean seeded;
+
+    public TestCaseTitleIndex(TestCaseRepository testCaseRepository,
+                              @Value("${testcase.search.autocomplete.enabled:false}") boolean enabled) {
+        this.testCaseRepository = testCaseRepository;
+        this.enabled = enabled;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            seed();
+        } catch (RuntimeException ex) {
+            log.error("Failed to seed test case title index", ex);
+        }
+    }
+
+    public void seed() {
+        long start = System.currentTimeMillis();
+        try (Stream<TestCase> testCases = testCaseRepository.streamTitles(SEED_BATCH_SIZE)) {
+            testCases.forEach(testCase -> add(testCase.getId(), testCase.getTitle()));
+        }
+        seeded = true;
+        log.info("Indexed {} test case titles ({} words) in {} ms",
+                titles.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return enabled && seeded;
+    }
+
+    @EventListener
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TestCase before = event.getBefore();
+        TestCase after = event.getAfter();
+        if (before != null && (after == null || !Objects.equals(before.getTitle(), after.getTitle()))) {
+            remove(before.getId(), before.getTitle());
+        }
+        if (after != null) {
+            add(after.getId(), after.getTitle());
+        }
+    }
+
+    /**
+     * Test cases whose title contains every word of {@code query}, the last word matched as a prefix.
+     * Single-word queries are ranked by the matching word and then by title; longer ones by title.
+     */
+    public List<TitleSuggestionDto> suggest(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        String prefix = words.get(words.size() - 1);
+        Map<String, Set<String>> prefixed = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+        if (words.size() == 1) {
+            Set<String> ids = new LinkedHashSet<>();
+            for (Set<String> wordIds : prefixed.values()) {
+                wordIds.stream()
+                        .filter(titles::containsKey)
+                        .sorted(Comparator.comparing(id -> titles.getOrDefault(id, "")))
+                        .forEach(ids::add);
+                if (ids.size() >= limit) {
+                    break;
+                }
+            }
+            return ids.stream()
+                    .map(this::suggestion)
+                    .filter(suggestion -> suggestion.getTitle() != null)
+                    .limit(limit)
+                    .toList();
+        }
+
+        Set<String> candidates = null;
+        for (String word : words.subList(0, words.size() - 1)) {
+            Set<String> wordIds = postings.getOrDefault(word, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(wordIds);
+            } else {
+                candidates.retainAll(wordIds);
+            }
+        }
+        return candidates.stream()
+                .filter(id -> tokenize(titles.getOrDefault(id, "")).stream().anyMatch(word -> word.startsWith(prefix)))
+                .map(this::suggestion)
+                .filter(suggestion -> suggestion.getTitle() != null)
+                .sorted(Comparator.comparing(TitleSuggestionDto::getTitle))
+                .limit(limit)
+                .toList();
+    }
+
+    private void add(String id, String title) {
+        if (id == null || title == null) {
+            return;
+        }
+        titles.put(id, title);
+        for (String word : tokenize(title)) {
+            postings.computeIfAbsent(word, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void remove(String id, String title) {
+        if (id == null || title == null) {
+            return;
+        }
+        titles.remove(id);
+        // Empty posting sets are left in place; removing them would race with a concurrent add
+        for (String word : tokenize(title)) {
+            Set<String> ids = postings.get(word);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    private TitleSuggestionDto suggestion(String id) {
+        return TitleSuggestionDto.builder().id(id).title(titles.get(id)).build();
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split(TOKEN_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.testcasemagementservice.Seeding;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic test cases with the status and priority skew of a mature suite: mostly passing,
+ * mostly low priority, and failures concentrated on high priority. The same seed yields the same sequence,
+ * titles included, so a seeding run can be repeated exactly. Not thread-safe.
+ */
+public class TestCaseGenerator {
+
+    private static final String[] AREAS = {
+            "Login", "Checkout", "Search", "Profile", "Payments", "Notifications", "Reports", "Settings",
+            "Onboarding", "Export"
+    };
+    private static final String[] SCENARIOS = {
+            "with valid input", "with an expired session", "with missing fields", "under slow network",
+            "after a password reset", "with a locked account", "on a mobile viewport", "with concurrent edits"
+    };
+    // Weights per ordinal of Priority (Low, Medium, High)
+    private static final int[] PRIORITY_WEIGHTS = {50, 35, 15};
+    // Weights per ordinal of Status (Pending, InProgress, Passed, Failed), per priority ordinal
+    private static final int[][] STATUS_WEIGHTS = {
+            {20, 5, 70, 5},
+            {20, 10, 60, 10},
+            {15, 15, 45, 25}
+    };
+    private static final long HISTORY_MILLIS = Duration.ofDays(180).toMillis();
+
+    private final SplittableRandom random;
+    private final String runTag;
+    private final long now;
+
+    public TestCaseGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.runTag = Long.toString(seed, 36);
+        this.now = System.currentTimeMillis();
+    }
+
+    /**
+     * The {@code sequence}-th generated test case, without an id. Titles are unique per seed and sequence.
+     */
+    public TestCase next(long sequence) {
+        Priority priority = Priority.values()[pick(PRIORITY_WEIGHTS)];
+        Status status = Status.values()[pick(STATUS_WEIGHTS[priority.ordinal()])];
+        String area = AREAS[random.nextInt(AREAS.length)];
+        String scenario = SCENARIOS[random.nextInt(SCENARIOS.length)];
+        long createdOn = now - random.nextLong(HISTORY_MILLIS);
+        long updatedOn = createdOn + random.nextLong(now - createdOn + 1);
+        return TestCase.builder()
+                .title(area + " " + scenario + " #" + runTag + "-" + sequence)
+                .description("Verifies " + area.toLowerCase() + " behaviour " + scenario)
+                .priority(priority)
+                .status(status)
+                .createdOn(new Date(createdOn))
+                .updatedOn(new Date(updatedOn))
+                .build();
+    }
+
+    private int pick(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
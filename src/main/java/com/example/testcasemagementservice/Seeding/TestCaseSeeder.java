@@ -0,0 +1,79 @@
+package com.example.testcasemagementservice.Seeding;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts {@code testcase.seed.count} generated test cases before the application starts serving, in
+ * unordered bulk inserts of {@code testcase.seed.batch-size}. Titles derive from the random seed, so
+ * re-running with the same seed inserts nothing new.
+ */
+@Component
+@Slf4j
+public class TestCaseSeeder implements ApplicationRunner {
+
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final PriorityContext priorityContext;
+    private final long count;
+    private final int batchSize;
+    private final long randomSeed;
+
+    public TestCaseSeeder(TestCaseRepository testCaseRepository,
+                          PriorityContext priorityContext,
+                          @Value("${testcase.seed.count:0}") long count,
+                          @Value("${testcase.seed.batch-size:1000}") int batchSize,
+                          @Value("${testcase.seed.random-seed:42}") long randomSeed) {
+        this.testCaseRepository = testCaseRepository;
+        this.priorityContext = priorityContext;
+        this.count = count;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (count > 0) {
+            seed();
+        }
+    }
+
+    public long seed() {
+        log.info("Seeding {} test cases in batches of {} with random seed {}", count, batchSize, randomSeed);
+        long start = System.currentTimeMillis();
+        TestCaseGenerator generator = new TestCaseGenerator(randomSeed);
+        List<TestCase> batch = new ArrayList<>(batchSize);
+        long inserted = 0;
+        for (long sequence = 0; sequence < count; sequence++) {
+            TestCase testCase = generator.next(sequence);
+            priorityContext.applyStrategy(testCase, testCase.getCreatedOn());
+            testCase.setId(new ObjectId().toHexString());
+            // Auditing skips rows that already have a version, which is fine here: the generator sets both dates
+            testCase.setVersion(0L);
+            batch.add(testCase);
+            if (batch.size() == batchSize || sequence == count - 1) {
+                Set<Integer> rejected = testCaseRepository.insertUnordered(batch);
+                inserted += batch.size() - rejected.size();
+                batch.clear();
+            }
+            if ((sequence + 1) % PROGRESS_INTERVAL == 0) {
+                log.info("Seeded {} of {} test cases", sequence + 1, count);
+            }
+        }
+        log.info("Seeded {} test cases ({} already present) in {} ms",
+                inserted, count - inserted, System.currentTimeMillis() - start);
+        return inserted;
+    }
+}
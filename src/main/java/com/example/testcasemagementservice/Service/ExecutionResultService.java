@@ -0,0 +1,210 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.ExecutionResultDto;
+import com.example.testcasemagementservice.DTO.ExecutionStatisticsDto;
+import com.example.testcasemagementservice.DTO.RejectedResultDto;
+import com.example.testcasemagementservice.DTO.ResultIngestionDto;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TrendUnit;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import com.example.testcasemagementservice.Repository.ExecutionResultRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests execution results posted by runners and answers pass-rate and duration queries over them. Results are
+ * validated and checked against existing test cases a chunk at a time, so a stream of any length is held in
+ * memory one chunk at a time, and each chunk is stored with a single unordered insert. Results are history
+ * only; they do not change the status of the test case.
+ */
+@Service
+@Slf4j
+public class ExecutionResultService {
+
+    private static final int MAX_REJECTIONS = 1000;
+    private static final int MAX_LAST_RESULTS = 1000;
+
+    private final ExecutionResultRepository executionResultRepository;
+    private final TestCaseRepository testCaseRepository;
+    private final Validator validator;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Duration defaultWindow;
+    private volatile boolean collectionReady;
+
+    public ExecutionResultService(ExecutionResultRepository executionResultRepository,
+                                  TestCaseRepository testCaseRepository,
+                                  Validator validator,
+                                  @Value("${testcase.results.chunk-size:2000}") int chunkSize,
+                                  @Value("${testcase.results.retention:P90D}") Duration retention,
+                                  @Value("${testcase.results.default-window:P30D}") Duration defaultWindow) {
+        this.executionResultRepository = executionResultRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        this.defaultWindow = defaultWindow;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensureCollection();
+        } catch (RuntimeException ex) {
+            log.error("Failed to create execution results collection; retrying on first ingest", ex);
+        }
+    }
+
+    public ResultIngestionDto ingest(List<ExecutionResultDto> executionResultDtos) {
+        return ingest(executionResultDtos.iterator());
+    }
+
+    public ResultIngestionDto ingest(Iterator<ExecutionResultDto> executionResultDtos) {
+        ensureCollection();
+        Ingestion ingestion = new Ingestion();
+        List<ExecutionResultDto> chunk = new ArrayList<>(chunkSize);
+        while (executionResultDtos.hasNext()) {
+            chunk.add(executionResultDtos.next());
+            if (chunk.size() == chunkSize) {
+                ingestChunk(chunk, ingestion);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            ingestChunk(chunk, ingestion);
+        }
+        return ResultIngestionDto.builder()
+                .accepted(ingestion.accepted)
+                .rejected(ingestion.rejected)
+                .rejections(ingestion.rejections)
+                .build();
+    }
+
+    public List<ExecutionResult> lastResults(String testCaseId, int limit) {
+        if (limit < 1 || limit > MAX_LAST_RESULTS) {
+            throw new InvalidDataException("Limit must be between 1 and " + MAX_LAST_RESULTS);
+        }
+        return executionResultRepository.findByTestCaseIdOrderByExecutedOnDesc(testCaseId, Limit.of(limit));
+    }
+
+    public Optional<ExecutionStatisticsDto> statistics(String testCaseId, Date from, Date to) {
+        Date until = to == null ? new Date() : to;
+        Date since = from == null ? Date.from(until.toInstant().minus(defaultWindow)) : from;
+        checkRange(since, until);
+        return executionResultRepository.statistics(testCaseId, since, until);
+    }
+
+    public List<ExecutionStatisticsDto> trend(String testCaseId, TrendUnit unit, Date from, Date to) {
+        Date until = to == null ? new Date() : to;
+        Date since = from == null ? Date.from(until.toInstant().minus(defaultWindow)) : from;
+        checkRange(since, until);
+        return executionResultRepository.trend(testCaseId, unit, since, until);
+    }
+
+    private void ensureCollection() {
+        if (collectionReady) {
+            return;
+        }
+        if (executionResultRepository.ensureCollection(retention)) {
+            log.info("Created time-series collection execution_results with {} retention", retention);
+        }
+        collectionReady = true;
+    }
+
+    private void ingestChunk(List<ExecutionResultDto> chunk, Ingestion ingestion) {
+        long offset = ingestion.received;
+        ingestion.received += chunk.size();
+        String[] messages = new String[chunk.size()];
+        Set<String> testCaseIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ExecutionResultDto executionResultDto = chunk.get(i);
+            if (executionResultDto == null) {
+                messages[i] = "Result must not be null";
+                continue;
+            }
+            Set<ConstraintViolation<ExecutionResultDto>> violations = validator.validate(executionResultDto);
+            if (!violations.isEmpty()) {
+                messages[i] = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            } else if (executionResultDto.getStatus() != Status.Passed && executionResultDto.getStatus() != Status.Failed) {
+                messages[i] = "Status must be Passed or Failed";
+            } else {
+                testCaseIds.add(executionResultDto.getTestCaseId());
+            }
+        }
+
+        Set<String> existingIds = testCaseIds.isEmpty() ? Set.of() : testCaseRepository.findExistingIds(testCaseIds);
+        Date receivedOn = new Date();
+        List<ExecutionResult> toInsert = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ExecutionResultDto executionResultDto = chunk.get(i);
+            if (messages[i] == null && !existingIds.contains(executionResultDto.getTestCaseId())) {
+                messages[i] = "Test case not found with id: " + executionResultDto.getTestCaseId();
+            }
+            if (messages[i] != null) {
+                ingestion.reject(offset + i, executionResultDto == null ? null : executionResultDto.getTestCaseId(), messages[i]);
+                continue;
+            }
+            toInsert.add(ExecutionResult.builder()
+                    .testCaseId(executionResultDto.getTestCaseId())
+                    .runId(executionResultDto.getRunId())
+                    .status(executionResultDto.getStatus())
+                    .durationMillis(executionResultDto.getDurationMillis())
+                    .executedOn(executionResultDto.getExecutedOn() == null ? receivedOn : executionResultDto.getExecutedOn())
+                    .receivedOn(receivedOn)
+                    .build());
+        }
+
+        if (!toInsert.isEmpty()) {
+            executionResultRepository.insertUnordered(toInsert);
+        }
+        ingestion.accepted += toInsert.size();
+        log.info("Result chunk processed: {} results, {} stored", chunk.size(), toInsert.size());
+    }
+
+    private void checkRange(Date from, Date to) {
+        if (!from.before(to)) {
+            throw new InvalidDataException("From must be before to");
+        }
+    }
+
+    private static final class Ingestion {
+        long received;
+        long accepted;
+        long rejected;
+        final List<RejectedResultDto> rejections = new ArrayList<>();
+
+        void reject(long index, String testCaseId, String message) {
+            rejected++;
+            if (rejections.size() < MAX_REJECTIONS) {
+                rejections.add(RejectedResultDto.builder()
+                        .index(index)
+                        .testCaseId(testCaseId)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Exceptions.DuplicateResourceException;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Exceptions.VersionConflictException;
+import com.example.testcasemagementservice.Mapper.TestCaseMapper;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.ReactiveTestCaseRepository;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.PriorityStrategy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+/**
+ * Non-blocking counterpart of {@link TestCaseService} backed by the reactive Mongo driver. It publishes the
+ * same change events and evicts the same cache entries, so counters stay correct whichever stack is serving.
+ */
+@Service
+public class ReactiveTestCaseService {
+
+    private final ReactiveTestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
+    private final PriorityContext priorityContext;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReactiveTestCaseService(ReactiveTestCaseRepository testCaseRepository,
+                                   TestCaseCache testCaseCache,
+                                   PriorityContext priorityContext,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseCache = testCaseCache;
+        this.priorityContext = priorityContext;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Mono<TestCase> createTestCase(AddTestCaseDto addTestCaseDto) {
+        return Mono.defer(() -> testCaseRepository.save(
+                        priorityContext.applyStrategy(TestCaseMapper.mapToTest(addTestCaseDto), new Date())))
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> new DuplicateResourceException("Test case already exists with title: " + addTestCaseDto.getTitle()))
+                .doOnNext(savedTestCase -> eventPublisher.publishEvent(TestCaseChangedEvent.created(savedTestCase)));
+    }
+
+    public Mono<TestCase> getTestCaseById(String id) {
+        return testCaseRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Test case not found with id: " + id)));
+    }
+
+    public Mono<TestCase> updateTestCase(String id, AddTestCaseDto addTestCaseDto) {
+        return patchTestCase(id, TestCaseMapper.mapToPatch(addTestCaseDto));
+    }
+
+    public Mono<TestCase> patchTestCase(String id, PatchTestCaseDto patchTestCaseDto) {
+        Date updatedOn = new Date();
+        return testCaseRepository.patch(id, patchTestCaseDto, updatedOn)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrConflict(id, patchTestCaseDto.getVersion())))
+                .flatMap(previousTestCase -> {
+                    TestCase updatedTestCase = TestCaseMapper.applyPatch(previousTestCase, patchTestCaseDto, updatedOn);
+                    Mono<TestCase> triaged = updatedTestCase.getPriority() == previousTestCase.getPriority()
+                            ? Mono.just(updatedTestCase)
+                            : triage(updatedTestCase, updatedOn);
+                    return triaged.doOnNext(testCase -> {
+                        testCaseCache.invalidate(id);
+                        eventPublisher.publishEvent(TestCaseChangedEvent.updated(previousTestCase, testCase));
+                    });
+                });
+    }
+
+    private Mono<TestCase> triage(TestCase testCase, Date triagedOn) {
+        PriorityStrategy strategy = priorityContext.strategyFor(testCase.getPriority());
+        Date slaDueOn = strategy.slaDueOn(triagedOn);
+        return testCaseRepository.triage(testCase.getId(), testCase.getPriority(), strategy.queue(), slaDueOn)
+                .defaultIfEmpty(testCase);
+    }
+
+    public Mono<Page<TestCase>> getAllTestCases(Pageable pageable, Status status, Priority priority) {
+        Flux<TestCase> content;
+        Mono<Long> total;
+        if ((status == null) && (priority == null)) {
+            content = testCaseRepository.findAllBy(pageable);
+            total = testCaseRepository.count();
+        } else if (status == null) {
+            content = testCaseRepository.findAllByPriority(pageable, priority);
+            total = testCaseRepository.countByPriority(priority);
+        } else if (priority == null) {
+            content = testCaseRepository.findAllByStatus(pageable, status);
+            total = testCaseRepository.countByStatus(status);
+        } else {
+            content = testCaseRepository.findAllByStatusAndPriority(pageable, status, priority);
+            total = testCaseRepository.countByStatusAndPriority(status, priority);
+        }
+        return Mono.zip(content.collectList(), total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    private Mono<TestCase> notFoundOrConflict(String id, Long expectedVersion) {
+        Mono<Boolean> exists = expectedVersion == null ? Mono.just(false) : testCaseRepository.existsById(id);
+        return exists.flatMap(found -> Mono.error(found
+                ? new VersionConflictException("Test case " + id + " no longer has version " + expectedVersion)
+                : new ResourceNotFoundException("Test case not found with id: " + id)));
+    }
+
+    public Mono<Void> deleteTestCase(String id) {
+        return getTestCaseById(id)
+                .flatMap(testCase -> testCaseRepository.delete(testCase)
+                        .then(Mono.fromRunnable(() -> {
+                            testCaseCache.invalidate(id);
+                            eventPublisher.publishEvent(TestCaseChangedEvent.deleted(testCase));
+                        })));
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseTitleFilter;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.BulkItemResultDto;
+import com.example.testcasemagementservice.DTO.BulkResultDto;
+import com.example.testcasemagementservice.Enums.BulkItemStatus;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Mapper.TestCaseMapper;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class TestCaseBulkService {
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseTitleFilter testCaseTitleFilter;
+    private final PriorityContext priorityContext;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public TestCaseBulkService(TestCaseRepository testCaseRepository,
+                               TestCaseTitleFilter testCaseTitleFilter,
+                               PriorityContext priorityContext,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${testcase.bulk.chunk-size:1000}") int chunkSize) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseTitleFilter = testCaseTitleFilter;
+        this.priorityContext = priorityContext;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkResultDto createTestCases(List<AddTestCaseDto> addTestCaseDtos) {
+        return createTestCases(addTestCaseDtos.iterator(), Function.identity());
+    }
+
+    /**
+     * Creates test cases from records parsed one at a time, such as the lines of an NDJSON stream. A record the
+     * parser rejects with an {@link InvalidDataException} is reported as invalid at its index, and the records
+     * around it are still created.
+     */
+    public <T> BulkResultDto createTestCases(Iterator<T> records, Function<T, AddTestCaseDto> parser) {
+        List<BulkItemResultDto> items = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == chunkSize) {
+                items.addAll(createChunk(chunk, parser, items.size()));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            items.addAll(createChunk(chunk, parser, items.size()));
+        }
+        return BulkResultDto.of(items);
+    }
+
+    private <T> List<BulkItemResultDto> createChunk(List<T> records, Function<T, AddTestCaseDto> parser, int offset) {
+        BulkItemResultDto[] results = new BulkItemResultDto[records.size()];
+        List<AddTestCaseDto> chunk = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                chunk.add(parser.apply(records.get(i)));
+            } catch (InvalidDataException ex) {
+                chunk.add(null);
+                results[i] = result(offset + i, null, BulkItemStatus.Invalid, ex.getMessage());
+            }
+        }
+
+        // title -> position in chunk, first occurrence wins
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            AddTestCaseDto addTestCaseDto = chunk.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            if (addTestCaseDto == null) {
+                results[i] = result(offset + i, null, BulkItemStatus.Invalid, "Test case must not be null");
+                continue;
+            }
+            Set<ConstraintViolation<AddTestCaseDto>> violations = validator.validate(addTestCaseDto);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = result(offset + i, addTestCaseDto.getTitle(), BulkItemStatus.Invalid, message);
+            } else if (candidates.putIfAbsent(addTestCaseDto.getTitle(), i) != null) {
+                results[i] = duplicate(offset + i, addTestCaseDto.getTitle());
+            }
+        }
+
+        // Titles the filter has never seen cannot exist, so only the rest are checked against the database
+        List<String> possibleDuplicates = candidates.keySet().stream()
+                .filter(testCaseTitleFilter::mightContain)
+                .toList();
+        Set<String> existingTitles = possibleDuplicates.isEmpty()
+                ? Set.of()
+                : testCaseRepository.findExistingTitles(possibleDuplicates);
+
+        Date createdOn = new Date();
+        List<TestCase> toInsert = new ArrayList<>(candidates.size());
+        List<Integer> positions = new ArrayList<>(candidates.size());
+        candidates.forEach((title, position) -> {
+            if (existingTitles.contains(title)) {
+                results[position] = duplicate(offset + position, title);
+            } else {
+                TestCase testCase = priorityContext.applyStrategy(TestCaseMapper.mapToTest(chunk.get(position)), createdOn);
+                testCase.setId(new ObjectId().toHexString());
+                // With an id and a version set, auditing takes the row for an existing document and leaves
+                // createdOn unset, so both audit dates are filled in here; save() would have set version 0 itself
+                testCase.setVersion(0L);
+                testCase.setCreatedOn(createdOn);
+                testCase.setUpdatedOn(createdOn);
+                toInsert.add(testCase);
+                positions.add(position);
+            }
+        });
+
+        // The unique title index still has the final say for titles inserted concurrently
+        Set<Integer> rejected = toInsert.isEmpty() ? Set.of() : testCaseRepository.insertUnordered(toInsert);
+        for (int i = 0; i < toInsert.size(); i++) {
+            TestCase testCase = toInsert.get(i);
+            int position = positions.get(i);
+            if (rejected.contains(i)) {
+                results[position] = duplicate(offset + position, testCase.getTitle());
+                continue;
+            }
+            eventPublisher.publishEvent(TestCaseChangedEvent.created(testCase));
+            results[position] = BulkItemResultDto.builder()
+                    .index(offset + position)
+                    .title(testCase.getTitle())
+                    .id(testCase.getId())
+                    .status(BulkItemStatus.Created)
+                    .build();
+        }
+
+        log.info("Bulk chunk processed: {} items, {} inserted", chunk.size(), toInsert.size() - rejected.size());
+        return Arrays.asList(results);
+    }
+
+    private BulkItemResultDto duplicate(int index, String title) {
+        return result(index, title, BulkItemStatus.Duplicate, "Test case already exists with title: " + title);
+    }
+
+    private BulkItemResultDto result(int index, String title, BulkItemStatus status, String message) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .title(title)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.CompleteExecutionDto;
+import com.example.testcasemagementservice.Dispatch.TestCaseDispatchQueue;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Exceptions.LeaseLostException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Dispatches Pending test cases to execution workers. A claim moves one test case to InProgress under a lease
+ * in a single findAndModify, trying priorities in the order {@link TestCaseDispatchQueue} schedules them. Workers
+ * renew the lease while executing and end it with the result; leases that run out are returned to Pending by
+ * a periodic sweep, and the lease id keeps the late worker from overwriting whoever claimed the test case next.
+ */
+@Service
+@Slf4j
+public class TestCaseExecutionService {
+
+    private static final int MAX_REQUEUES_PER_SWEEP = 1000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseDispatchQueue dispatchQueue;
+    private final TestCaseCache testCaseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long leaseMillis;
+
+    public TestCaseExecutionService(TestCaseRepository testCaseRepository,
+                                    TestCaseDispatchQueue dispatchQueue,
+                                    TestCaseCache testCaseCache,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${testcase.queue.lease:PT5M}") Duration lease) {
+        this.testCaseRepository = testCaseRepository;
+        this.dispatchQueue = dispatchQueue;
+        this.testCaseCache = testCaseCache;
+        this.eventPublisher = eventPublisher;
+        this.leaseMillis = lease.toMillis();
+    }
+
+    /**
+     * Leases the next Pending test case to {@code worker}.
+     *
+     * @return the claimed test case with its lease, or empty when nothing dispatchable is Pending
+     */
+    public Optional<TestCase> claim(String worker) {
+        if (worker == null || worker.isBlank()) {
+            throw new InvalidDataException("Worker is required");
+        }
+        for (Priority priority : dispatchQueue.nextOrder()) {
+            long arrivals = dispatchQueue.arrivals(priority);
+            String leaseId = UUID.randomUUID().toString();
+            Date claimedOn = new Date();
+            Date leaseExpiresOn = new Date(claimedOn.getTime() + leaseMillis);
+            Optional<TestCase> previous = testCaseRepository.claim(priority, worker, leaseId, claimedOn, leaseExpiresOn);
+            if (previous.isPresent()) {
+                TestCase claimed = previous.get().toBuilder()
+                        .status(Status.InProgress)
+                        .claimedBy(worker)
+                        .leaseId(leaseId)
+                        .leaseExpiresOn(leaseExpiresOn)
+                        .updatedOn(claimedOn)
+                        .version(nextVersion(previous.get()))
+                        .build();
+                changed(previous.get(), claimed);
+                return Optional.of(claimed);
+            }
+            dispatchQueue.markEmpty(priority, arrivals);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Extends the lease on {@code id} by another lease period from now.
+     *
+     * @return the new expiry
+     */
+    public Date renewLease(String id, String leaseId) {
+        Date leaseExpiresOn = new Date(System.currentTimeMillis() + leaseMillis);
+        if (!testCaseRepository.renewLease(id, leaseId, leaseExpiresOn)) {
+            throw leaseLost(id, leaseId);
+        }
+        // Renewal bumps the version, so a cached copy would keep serving the old expiry and ETag
+        testCaseCache.invalidate(id);
+        return leaseExpiresOn;
+    }
+
+    public TestCase complete(String id, CompleteExecutionDto completeExecutionDto) {
+        Status status = completeExecutionDto.getStatus();
+        if (status == null || !Status.InProgress.canTransitionTo(status)) {
+            throw new InvalidDataException("Cannot complete an execution with status " + status);
+        }
+        Date updatedOn = new Date();
+        TestCase previous = testCaseRepository.release(id, completeExecutionDto.getLeaseId(), status, updatedOn)
+                .orElseThrow(() -> leaseLost(id, completeExecutionDto.getLeaseId()));
+        TestCase completed = released(previous, status, updatedOn);
+        changed(previous, completed);
+        return completed;
+    }
+
+    /**
+     * Returns test cases whose lease ran out to Pending, one findAndModify each so every one raises its own
+     * change event, up to a bounded number per sweep.
+     */
+    @Scheduled(fixedDelayString = "${testcase.queue.reap-interval:PT30S}")
+    public void requeueExpiredLeases() {
+        try {
+            int requeued = 0;
+            Date now = new Date();
+            Optional<TestCase> previous;
+            while (requeued < MAX_REQUEUES_PER_SWEEP && (previous = testCaseRepository.requeueExpired(now)).isPresent()) {
+                log.warn("Lease {} of worker {} on test case {} expired; returning it to the queue",
+                        previous.get().getLeaseId(), previous.get().getClaimedBy(), previous.get().getId());
+                changed(previous.get(), released(previous.get(), Status.Pending, now));
+                requeued++;
+            }
+            if (requeued > 0) {
+                log.info("Returned {} test cases with expired leases to the queue", requeued);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to requeue test cases with expired leases", ex);
+        }
+    }
+
+    private void changed(TestCase before, TestCase after) {
+        testCaseCache.invalidate(after.getId());
+        eventPublisher.publishEvent(TestCaseChangedEvent.updated(before, after));
+    }
+
+    private static TestCase released(TestCase previous, Status status, Date updatedOn) {
+        return previous.toBuilder()
+                .status(status)
+                .claimedBy(null)
+                .leaseId(null)
+                .leaseExpiresOn(null)
+                .updatedOn(updatedOn)
+                .version(nextVersion(previous))
+                .build();
+    }
+
+    private static Long nextVersion(TestCase testCase) {
+        return testCase.getVersion() == null ? 1L : testCase.getVersion() + 1;
+    }
+
+    private static LeaseLostException leaseLost(String id, String leaseId) {
+        return new LeaseLostException("Lease " + leaseId + " on test case " + id + " is no longer held");
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Enums.ExportFormat;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes test cases straight from a Mongo cursor to the response, so memory stays constant
+ * regardless of collection size. A slow client blocks the writes and therefore the cursor.
+ */
+@Service
+@Slf4j
+public class TestCaseExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,createdOn,updatedOn";
+
+    private final TestCaseRepository testCaseRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int flushInterval;
+
+    public TestCaseExportService(TestCaseRepository testCaseRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${testcase.export.batch-size:500}") int batchSize,
+                                 @Value("${testcase.export.flush-interval:500}") int flushInterval) {
+        this.testCaseRepository = testCaseRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    public long export(ExportFormat format, Status status, Priority priority, OutputStream outputStream) throws IOException {
+        try (Stream<TestCase> testCases = testCaseRepository.streamByFilter(status, priority, batchSize)) {
+            long exported = format == ExportFormat.Csv
+                    ? writeCsv(testCases.iterator(), outputStream)
+                    : writeNdjson(testCases.iterator(), outputStream);
+            log.info("Exported {} test cases as {}", exported, format);
+            return exported;
+        }
+    }
+
+    private long writeNdjson(Iterator<TestCase> testCases, OutputStream outputStream) throws IOException {
+        long count = 0;
+        SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+        while (testCases.hasNext()) {
+            writer.write(testCases.next());
+            if (++count % flushInterval == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        if (count > 0) {
+            outputStream.write('\n');
+            outputStream.flush();
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<TestCase> testCases, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (testCases.hasNext()) {
+            TestCase testCase = testCases.next();
+            writer.write(csv(testCase.getId()));
+            writer.write(',');
+            writer.write(csv(testCase.getTitle()));
+            writer.write(',');
+            writer.write(csv(testCase.getDescription()));
+            writer.write(',');
+            writer.write(csv(testCase.getStatus() == null ? null : testCase.getStatus().name()));
+            writer.write(',');
+            writer.write(csv(testCase.getPriority() == null ? null : testCase.getPriority().name()));
+            writer.write(',');
+            writer.write(csv(testCase.getCreatedOn()));
+            writer.write(',');
+            writer.write(csv(testCase.getUpdatedOn()));
+            writer.write('\n');
+            if (++count % flushInterval == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private String csv(Date value) {
+        return value == null ? "" : value.toInstant().toString();
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
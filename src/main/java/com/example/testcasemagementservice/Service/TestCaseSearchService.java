@@ -0,0 +1,73 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Pagination.SearchCursorToken;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Search.TestCaseTitleIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class TestCaseSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // Each page re-ranks every match and skips the earlier ones, so deep pages are refused rather than slow
+    private static final int MAX_OFFSET = 10_000;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseTitleIndex testCaseTitleIndex;
+
+    public TestCaseSearchService(TestCaseRepository testCaseRepository, TestCaseTitleIndex testCaseTitleIndex) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseTitleIndex = testCaseTitleIndex;
+    }
+
+    public CursorPageDto<TestCaseSearchHitDto> search(String text, Status status, Priority priority, String cursor, int size) {
+        if (text == null || text.isBlank()) {
+            throw new InvalidDataException("Search text is required");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        SearchCursorToken token = cursor == null
+                ? SearchCursorToken.first(text, status, priority)
+                : SearchCursorToken.decode(cursor, text, status, priority);
+        if (token.getOffset() > MAX_OFFSET) {
+            throw new InvalidDataException("Search results beyond " + MAX_OFFSET + " are not available; refine the search");
+        }
+
+        List<TestCaseSearchHitDto> hits = testCaseRepository.search(text, status, priority, token.getOffset(), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<TestCaseSearchHitDto> content = hasNext ? hits.subList(0, size) : hits;
+        return CursorPageDto.<TestCaseSearchHitDto>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? token.next(size).encode() : null)
+                .build();
+    }
+
+    public List<TitleSuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidDataException("Prefix is required");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new InvalidDataException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        if (testCaseTitleIndex.isReady()) {
+            return testCaseTitleIndex.suggest(prefix, limit);
+        }
+        List<String> words = TestCaseTitleIndex.tokenize(prefix);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        return testCaseRepository.findTitleSuggestions(words, limit);
+    }
+}
@@ -1,71 +1,130 @@
 package com.example.testcasemagementservice.Service;
 
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.Conditional.TestCaseETags;
 import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.TestCaseSummaryDto;
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
 import com.example.testcasemagementservice.Exceptions.DuplicateResourceException;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Exceptions.PreconditionFailedException;
 import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Exceptions.VersionConflictException;
 import com.example.testcasemagementservice.Mapper.TestCaseMapper;
 import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Pagination.CursorToken;
 import com.example.testcasemagementservice.Repository.TestCaseRepository;
 import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.PriorityStrategy;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import com.example.testcasemagementservice.Tag.TagExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class TestCaseService {
 
-    private final TestCaseRepository testCaseRepository;
-    private final PriorityContext priorityContext = new PriorityContext();
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
-    public TestCaseService(TestCaseRepository testCaseRepository) {
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
+    private final PriorityContext priorityContext;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TestCaseService(TestCaseRepository testCaseRepository,
+                           TestCaseCache testCaseCache,
+                           PriorityContext priorityContext,
+                           ApplicationEventPublisher eventPublisher) {
         this.testCaseRepository = testCaseRepository;
+        this.testCaseCache = testCaseCache;
+        this.priorityContext = priorityContext;
+        this.eventPublisher = eventPublisher;
     }
 
     public TestCase createTestCase(AddTestCaseDto addTestCaseDto) {
-        if (testCaseRepository.existsByTitle(addTestCaseDto.getTitle())) {
+        TestCase newTestCase = priorityContext.applyStrategy(TestCaseMapper.mapToTest(addTestCaseDto), new Date());
+        TestCase savedTestCase;
+        try {
+            // Insert first: the unique title index rejects duplicates without a separate existence check
+            savedTestCase = testCaseRepository.save(newTestCase);
+        } catch (DuplicateKeyException ex) {
             throw new DuplicateResourceException("Test case already exists with title: " + addTestCaseDto.getTitle());
         }
-        priorityContext.setStrategy(addTestCaseDto.getPriority());
-        priorityContext.applyStrategy();
-        TestCase newTestCase = TestCaseMapper.mapToTest(addTestCaseDto);
-        return testCaseRepository.save(newTestCase);
+        eventPublisher.publishEvent(TestCaseChangedEvent.created(savedTestCase));
+        return savedTestCase;
     }
 
     public Optional<TestCase> getTestCaseById(String id) {
-        return Optional.ofNullable(testCaseRepository.findById(id)
+        return Optional.ofNullable(testCaseCache.get(id, testCaseRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Test case not found with id: " + id)));
     }
 
-    public TestCase updateTestCase(String id, AddTestCaseDto addTestCaseDto) {
-        return testCaseRepository.findById(id)
-                .map(existingTestCase -> {
-                    if (addTestCaseDto.getTitle() != null) {
-                        existingTestCase.setTitle(addTestCaseDto.getTitle());
-                    }
-
-                    if (addTestCaseDto.getDescription() != null) {
-                        existingTestCase.setDescription(addTestCaseDto.getDescription());
-                    }
-
-                    if (addTestCaseDto.getPriority() != null) {
-                        existingTestCase.setPriority(addTestCaseDto.getPriority());
-                    }
-                    if (addTestCaseDto.getStatus() != null) {
-                        existingTestCase.setStatus(addTestCaseDto.getStatus());
-                    }
-
-                    // Save and return updated test case
-                    return testCaseRepository.save(existingTestCase);
-                })
+    /**
+     * The current entity tag of a test case, from the cache when it holds the test case and otherwise from a
+     * projection of the tagged fields, so a conditional read never loads the document.
+     */
+    public String getTestCaseETag(String id) {
+        TestCase cached = testCaseCache.getIfPresent(id);
+        if (cached != null) {
+            return TestCaseETags.of(cached);
+        }
+        return testCaseRepository.findVersionById(id)
+                .map(TestCaseETags::of)
                 .orElseThrow(() -> new ResourceNotFoundException("Test case not found with id: " + id));
     }
 
+    public TestCase updateTestCase(String id, AddTestCaseDto addTestCaseDto) {
+        return updateTestCase(id, addTestCaseDto, null);
+    }
+
+    /**
+     * Replaces a test case, only if it still has {@code expectedVersion} unless that is null.
+     *
+     * @throws PreconditionFailedException when it no longer has {@code expectedVersion}
+     */
+    public TestCase updateTestCase(String id, AddTestCaseDto addTestCaseDto, Long expectedVersion) {
+        PatchTestCaseDto patch = TestCaseMapper.mapToPatch(addTestCaseDto);
+        patch.setVersion(expectedVersion);
+        try {
+            return patchTestCase(id, patch);
+        } catch (VersionConflictException ex) {
+            throw new PreconditionFailedException(ex.getMessage());
+        }
+    }
 
-    public Page<TestCase> getAllTestCases(Pageable pageable, Status status, Priority priority) {
+    public TestCase patchTestCase(String id, PatchTestCaseDto patchTestCaseDto) {
+        Date updatedOn = new Date();
+        TestCase previousTestCase = testCaseRepository.patch(id, patchTestCaseDto, updatedOn)
+                .orElseThrow(() -> notFoundOrConflict(id, patchTestCaseDto.getVersion()));
+        TestCase updatedTestCase = TestCaseMapper.applyPatch(previousTestCase, patchTestCaseDto, updatedOn);
+        if (updatedTestCase.getPriority() != previousTestCase.getPriority()) {
+            updatedTestCase = triage(updatedTestCase, updatedOn);
+        }
+        testCaseCache.invalidate(id);
+        eventPublisher.publishEvent(TestCaseChangedEvent.updated(previousTestCase, updatedTestCase));
+        return updatedTestCase;
+    }
+
+    public Page<TestCase> getAllTestCases(Pageable pageable, Status status, Priority priority, String suite, String tags) {
+        if (suite != null || tags != null) {
+            return testCaseRepository.findFiltered(suite == null ? null : SuitePath.normalize(suite),
+                    TagExpression.parse(tags), status, priority, pageable, TestCase.class);
+        }
         if ((status == null) && (priority == null)) {
             return testCaseRepository.findAll(pageable);
         }
@@ -78,11 +137,107 @@ public class TestCaseService {
         }
     }
 
+    /**
+     * The entity tag of the page {@link #getAllTestCases} returns, from the ids and tagged fields of its test
+     * cases alone.
+     */
+    public String getAllTestCasesETag(Pageable pageable, Status status, Priority priority, String suite, String tags) {
+        Page<TestCaseVersionDto> versions;
+        if (suite != null || tags != null) {
+            versions = testCaseRepository.findFiltered(suite == null ? null : SuitePath.normalize(suite),
+                    TagExpression.parse(tags), status, priority, pageable, TestCaseVersionDto.class);
+        } else if ((status == null) && (priority == null)) {
+            versions = testCaseRepository.findAllBy(pageable, TestCaseVersionDto.class);
+        } else if (status == null) {
+            versions = testCaseRepository.findAllByPriority(pageable, priority, TestCaseVersionDto.class);
+        } else if (priority == null) {
+            versions = testCaseRepository.findAllByStatus(pageable, status, TestCaseVersionDto.class);
+        } else {
+            versions = testCaseRepository.findAllByStatusAndPriority(pageable, status, priority, TestCaseVersionDto.class);
+        }
+        return TestCaseETags.ofVersions(versions);
+    }
+
+    public Page<TestCaseSummaryDto> getAllTestCaseSummaries(Pageable pageable, Status status, Priority priority) {
+        if ((status == null) && (priority == null)) {
+            return testCaseRepository.findAllBy(pageable, TestCaseSummaryDto.class);
+        }
+        if (status == null) {
+            return testCaseRepository.findAllByPriority(pageable, priority, TestCaseSummaryDto.class);
+        } else if (priority == null) {
+            return testCaseRepository.findAllByStatus(pageable, status, TestCaseSummaryDto.class);
+        } else {
+            return testCaseRepository.findAllByStatusAndPriority(pageable, status, priority, TestCaseSummaryDto.class);
+        }
+    }
+
+    public CursorPageDto<TestCase> getTestCasesAfter(String cursor, int size, CursorSort sort,
+                                                    Status status, Priority priority, boolean withCount) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidDataException("Size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        CursorToken after = cursor == null ? null : CursorToken.decode(cursor, sort);
+        Slice<TestCase> slice = testCaseRepository.findSlice(status, priority, sort, after, size);
+
+        List<TestCase> content = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? CursorToken.after(content.get(content.size() - 1), sort).encode()
+                : null;
+        return CursorPageDto.<TestCase>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .totalElements(withCount ? testCaseRepository.countByFilter(status, priority) : null)
+                .build();
+    }
+
+    private TestCase triage(TestCase testCase, Date triagedOn) {
+        // A second write, only when the priority changed: the new SLA cannot be part of the patch without
+        // knowing the stored priority first. It bumps the version, so the stored test case is returned
+        PriorityStrategy strategy = priorityContext.strategyFor(testCase.getPriority());
+        Date slaDueOn = strategy.slaDueOn(triagedOn);
+        return testCaseRepository.triage(testCase.getId(), testCase.getPriority(), strategy.queue(), slaDueOn)
+                .orElse(testCase);
+    }
+
+    private RuntimeException notFoundOrConflict(String id, Long expectedVersion) {
+        // Only a versioned patch can miss an existing document, so the extra lookup stays off the happy path
+        if (expectedVersion != null && testCaseRepository.existsById(id)) {
+            return new VersionConflictException("Test case " + id + " no longer has version " + expectedVersion);
+        }
+        return new ResourceNotFoundException("Test case not found with id: " + id);
+    }
+
     public void deleteTestCase(String id) {
+        deleteTestCase(id, null);
+    }
+
+    /**
+     * Deletes a test case, only if it still has {@code expectedVersion} unless that is null.
+     *
+     * @throws PreconditionFailedException when it no longer has {@code expectedVersion}
+     */
+    public void deleteTestCase(String id, Long expectedVersion) {
         TestCase testCase = testCaseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Test case not found with id: " + id));
+        // Test cases written before versioning have no version, which their ETag reports as 0
+        long version = testCase.getVersion() == null ? 0 : testCase.getVersion();
+        if (expectedVersion != null && expectedVersion != version) {
+            throw new PreconditionFailedException("Test case " + id + " no longer has version " + expectedVersion);
+        }
 
-        testCaseRepository.delete(testCase);
+        try {
+            // The delete is conditional on the version read, so an edit in between fails it
+            testCaseRepository.delete(testCase);
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Test case " + id + " no longer has version " + expectedVersion);
+            }
+            throw ex;
+        }
+        testCaseCache.invalidate(id);
+        eventPublisher.publishEvent(TestCaseChangedEvent.deleted(testCase));
     }
 
 }
@@ -0,0 +1,74 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.AsyncCacheLoader;
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.TestCaseStatisticsDto;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Mapper.StatisticsMapper;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+@Service
+@Slf4j
+public class TestCaseStatisticsService {
+
+    private final TestCaseRepository testCaseRepository;
+
+    // Concurrent callers for the same key wait on a single aggregation, so polling dashboards
+    // cost one aggregation per TTL interval
+    private final AsyncCache<StatisticsKey, TestCaseStatisticsDto> cache;
+
+    public TestCaseStatisticsService(TestCaseRepository testCaseRepository,
+                                     @Value("${testcase.statistics.cache-ttl:PT5S}") Duration cacheTtl) {
+        this.testCaseRepository = testCaseRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(cacheTtl)
+                .buildAsync();
+    }
+
+    public TestCaseStatisticsDto getStatistics(StatisticsBucket bucket, Date from, Date to, boolean fresh) {
+        if (from != null && to != null && !from.before(to)) {
+            throw new InvalidDataException("'from' must be before 'to'");
+        }
+        StatisticsKey key = new StatisticsKey(bucket, from, to);
+        if (fresh) {
+            TestCaseStatisticsDto statistics = compute(key);
+            cache.synchronous().put(key, statistics);
+            return statistics;
+        }
+        return AsyncCacheLoader.get(cache, key, this::compute);
+    }
+
+    private TestCaseStatisticsDto compute(StatisticsKey key) {
+        long start = System.currentTimeMillis();
+        List<StatusPriorityCountDto> counts = testCaseRepository.countByStatusAndPriority(key.bucket(), key.from(), key.to());
+        log.info("Aggregated test case statistics by {} in {} ms", key.bucket(), System.currentTimeMillis() - start);
+
+        List<StatisticsMatrixDto> matrices = StatisticsMapper.toMatrices(counts);
+        if (matrices.isEmpty() && key.bucket() == StatisticsBucket.None) {
+            matrices.add(StatisticsMapper.emptyMatrix(null));
+        }
+
+        return TestCaseStatisticsDto.builder()
+                .bucket(key.bucket())
+                .total(matrices.stream().mapToLong(StatisticsMatrixDto::getTotal).sum())
+                .matrices(matrices)
+                .computedAt(Instant.now())
+                .build();
+    }
+
+    private record StatisticsKey(StatisticsBucket bucket, Date from, Date to) {
+    }
+}
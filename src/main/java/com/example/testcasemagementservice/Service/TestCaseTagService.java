@@ -0,0 +1,54 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.AsyncCacheLoader;
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@Slf4j
+public class TestCaseTagService {
+
+    private final TestCaseRepository testCaseRepository;
+
+    // The count unwinds the tags of every test case, so concurrent callers for the same prefix share one
+    // aggregation per TTL interval
+    private final AsyncCache<String, List<TagCountDto>> cache;
+
+    public TestCaseTagService(TestCaseRepository testCaseRepository,
+                              @Value("${testcase.tags.cache-ttl:PT30S}") Duration cacheTtl) {
+        this.testCaseRepository = testCaseRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(cacheTtl)
+                .buildAsync();
+    }
+
+    /**
+     * Test case counts per tag starting with {@code prefix} (every tag when null or blank), most used first.
+     */
+    public List<TagCountDto> getTagCounts(String prefix, boolean fresh) {
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        if (fresh) {
+            List<TagCountDto> counts = compute(key);
+            cache.synchronous().put(key, counts);
+            return counts;
+        }
+        return AsyncCacheLoader.get(cache, key, this::compute);
+    }
+
+    private List<TagCountDto> compute(String prefix) {
+        long start = System.currentTimeMillis();
+        List<TagCountDto> counts = testCaseRepository.countByTag(prefix.isEmpty() ? null : prefix);
+        log.info("Counted {} tags with prefix '{}' in {} ms", counts.size(), prefix, System.currentTimeMillis() - start);
+        return counts;
+    }
+}
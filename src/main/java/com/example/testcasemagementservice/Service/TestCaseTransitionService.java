@@ -0,0 +1,206 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.FilterTransitionDto;
+import com.example.testcasemagementservice.DTO.FilterTransitionResultDto;
+import com.example.testcasemagementservice.DTO.StatusTransitionDto;
+import com.example.testcasemagementservice.DTO.StatusTransitionResultDto;
+import com.example.testcasemagementservice.DTO.TransitionItemResultDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TransitionItemStatus;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk status transitions. Each write is an updateMany over test cases sharing one source status and priority,
+ * guarded on that status, so the modified count is an exact counter delta and a test case that moved
+ * concurrently is left alone instead of being overwritten.
+ */
+@Service
+@Slf4j
+public class TestCaseTransitionService {
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public TestCaseTransitionService(TestCaseRepository testCaseRepository,
+                                     TestCaseCache testCaseCache,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${testcase.bulk.chunk-size:1000}") int chunkSize) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseCache = testCaseCache;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public StatusTransitionResultDto transition(StatusTransitionDto statusTransitionDto) {
+        List<FilterTransitionDto> byFilter = statusTransitionDto.getByFilter() == null ? List.of() : statusTransitionDto.getByFilter();
+        byFilter.forEach(TestCaseTransitionService::validate);
+
+        Date updatedOn = new Date();
+        List<TransitionItemResultDto> items = new ArrayList<>();
+        if (statusTransitionDto.getById() != null) {
+            List<Map.Entry<String, Status>> chunk = new ArrayList<>(chunkSize);
+            for (Map.Entry<String, Status> entry : statusTransitionDto.getById().entrySet()) {
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    items.addAll(transitionChunk(chunk, updatedOn));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                items.addAll(transitionChunk(chunk, updatedOn));
+            }
+        }
+
+        List<FilterTransitionResultDto> filters = new ArrayList<>(byFilter.size());
+        for (FilterTransitionDto filterTransitionDto : byFilter) {
+            filters.add(transitionFilter(filterTransitionDto, updatedOn));
+        }
+        return StatusTransitionResultDto.of(items, filters);
+    }
+
+    private List<TransitionItemResultDto> transitionChunk(List<Map.Entry<String, Status>> chunk, Date updatedOn) {
+        TransitionItemResultDto[] results = new TransitionItemResultDto[chunk.size()];
+        Map<String, TestCase> current = testCaseRepository.findStatesByIds(chunk.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(TestCase::getId, Function.identity()));
+
+        // (from, priority, to) -> positions in chunk
+        Map<Group, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            String id = chunk.get(i).getKey();
+            Status to = chunk.get(i).getValue();
+            TestCase testCase = current.get(id);
+            if (to == null) {
+                results[i] = result(id, null, null, TransitionItemStatus.InvalidTransition, "Target status is required");
+            } else if (testCase == null) {
+                results[i] = result(id, null, to, TransitionItemStatus.NotFound, "Test case not found with id: " + id);
+            } else if (testCase.getStatus() == to) {
+                results[i] = result(id, to, to, TransitionItemStatus.Unchanged, null);
+            } else if (!canTransition(testCase.getStatus(), to)) {
+                results[i] = result(id, testCase.getStatus(), to, TransitionItemStatus.InvalidTransition,
+                        "Cannot move from " + testCase.getStatus() + " to " + to);
+            } else {
+                groups.computeIfAbsent(new Group(testCase.getStatus(), testCase.getPriority(), to), group -> new ArrayList<>()).add(i);
+            }
+        }
+
+        groups.forEach((group, positions) -> {
+            List<String> ids = positions.stream().map(position -> chunk.get(position).getKey()).toList();
+            long modified = testCaseRepository.updateStatus(ids, group.from(), group.priority(), group.to(), updatedOn);
+            ids.forEach(testCaseCache::invalidate);
+
+            Set<String> updated = modified == ids.size() ? Set.copyOf(ids) : updatedIds(ids, group.to(), updatedOn);
+            List<String> updatedInOrder = new ArrayList<>(updated.size());
+            for (int position : positions) {
+                String id = chunk.get(position).getKey();
+                if (updated.contains(id)) {
+                    updatedInOrder.add(id);
+                    results[position] = result(id, group.from(), group.to(), TransitionItemStatus.Updated, null);
+                } else {
+                    results[position] = result(id, group.from(), group.to(), TransitionItemStatus.Conflict,
+                            "Test case changed while the transition was running");
+                }
+            }
+            if (modified > 0) {
+                eventPublisher.publishEvent(new TestCasesTransitionedEvent(group.from(), group.to(), group.priority(), modified, updatedInOrder));
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    private Set<String> updatedIds(List<String> ids, Status to, Date updatedOn) {
+        // Some of the group moved concurrently; ours are the ones carrying this transition's timestamp
+        return testCaseRepository.findStatesByIds(ids).stream()
+                .filter(testCase -> testCase.getStatus() == to && updatedOn.equals(testCase.getUpdatedOn()))
+                .map(TestCase::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private FilterTransitionResultDto transitionFilter(FilterTransitionDto filterTransitionDto, Date updatedOn) {
+        Status to = filterTransitionDto.getTarget();
+        List<Status> sources = filterTransitionDto.getStatus() != null
+                ? List.of(filterTransitionDto.getStatus())
+                : withNull(Arrays.stream(Status.values()).filter(status -> status.canTransitionTo(to)).toList());
+        List<Priority> priorities = filterTransitionDto.getPriority() != null
+                ? List.of(filterTransitionDto.getPriority())
+                : withNull(List.of(Priority.values()));
+
+        long updated = 0;
+        for (Status from : sources) {
+            for (Priority priority : priorities) {
+                long modified = testCaseRepository.updateStatus(null, from, priority, to, updatedOn);
+                if (modified > 0) {
+                    eventPublisher.publishEvent(new TestCasesTransitionedEvent(from, to, priority, modified, null));
+                    updated += modified;
+                }
+            }
+        }
+        if (updated > 0) {
+            testCaseCache.invalidateAll();
+        }
+        log.info("Moved {} test cases with status {} and priority {} to {}",
+                updated, filterTransitionDto.getStatus(), filterTransitionDto.getPriority(), to);
+        return FilterTransitionResultDto.builder()
+                .status(filterTransitionDto.getStatus())
+                .priority(filterTransitionDto.getPriority())
+                .target(to)
+                .updated(updated)
+                .build();
+    }
+
+    private static boolean canTransition(Status from, Status to) {
+        // Test cases created without a status may move anywhere
+        return from == null || from.canTransitionTo(to);
+    }
+
+    private static void validate(FilterTransitionDto filterTransitionDto) {
+        Status from = filterTransitionDto.getStatus();
+        Status to = filterTransitionDto.getTarget();
+        if (to == null) {
+            throw new InvalidDataException("Target status is required");
+        }
+        if (from != null && !from.canTransitionTo(to)) {
+            throw new InvalidDataException("Cannot move from " + from + " to " + to);
+        }
+    }
+
+    private static <T> List<T> withNull(List<T> values) {
+        List<T> withNull = new ArrayList<>(values);
+        withNull.add(null);
+        return withNull;
+    }
+
+    private static TransitionItemResultDto result(String id, Status from, Status to, TransitionItemStatus status, String message) {
+        return TransitionItemResultDto.builder()
+                .id(id)
+                .from(from)
+                .to(to)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private record Group(Status from, Priority priority, Status to) {
+    }
+}
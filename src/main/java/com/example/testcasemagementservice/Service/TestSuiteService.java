@@ -0,0 +1,71 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveResultDto;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Mapper.StatisticsMapper;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Suite.SuitePath;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Suites over the materialized {@code suitePath} of test cases. Listing and rollups of a subtree are single
+ * range queries on the suite index; a move re-roots the subtree in batches of bounded size. A move is not
+ * atomic: until it finishes, part of the subtree may still be under the old path, and repeating a move that
+ * failed part-way completes it.
+ */
+@Service
+@Slf4j
+public class TestSuiteService {
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
+    private final int moveBatchSize;
+
+    public TestSuiteService(TestCaseRepository testCaseRepository,
+                            TestCaseCache testCaseCache,
+                            @Value("${testcase.suites.move-batch-size:1000}") int moveBatchSize) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseCache = testCaseCache;
+        this.moveBatchSize = moveBatchSize;
+    }
+
+    public List<String> getSuites(String under) {
+        return testCaseRepository.findSuitePaths(SuitePath.normalize(under == null ? SuitePath.ROOT : under));
+    }
+
+    public StatisticsMatrixDto getRollup(String path) {
+        return StatisticsMapper.toMatrix(testCaseRepository.countByStatusAndPriorityInSuite(SuitePath.normalize(path)));
+    }
+
+    public SuiteMoveResultDto moveSuite(SuiteMoveDto suiteMoveDto) {
+        String from = SuitePath.normalize(suiteMoveDto.getFrom());
+        String to = SuitePath.normalize(suiteMoveDto.getTo());
+        if (SuitePath.contains(from, to)) {
+            throw new InvalidDataException("Cannot move suite " + from + " into itself");
+        }
+
+        long start = System.currentTimeMillis();
+        long moved = 0;
+        List<String> batch;
+        do {
+            batch = testCaseRepository.moveSuite(from, to, new Date(), moveBatchSize);
+            batch.forEach(testCaseCache::invalidate);
+            moved += batch.size();
+        } while (batch.size() == moveBatchSize);
+        log.info("Moved {} test cases from suite {} to {} in {} ms", moved, from, to, System.currentTimeMillis() - start);
+
+        return SuiteMoveResultDto.builder()
+                .from(from)
+                .to(to)
+                .moved(moved)
+                .build();
+    }
+}
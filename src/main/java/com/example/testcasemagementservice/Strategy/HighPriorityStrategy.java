@@ -1,11 +1,14 @@
 package com.example.testcasemagementservice.Strategy;
 
-import lombok.extern.slf4j.Slf4j;
+import com.example.testcasemagementservice.Enums.Priority;
+import org.springframework.stereotype.Component;
 
-@Slf4j
-public class HighPriorityStrategy implements PriorityStrategy{
-    @Override
-    public void applyPriority() {
-        log.info("Applying High Priority Strategy.....");
+import java.time.Duration;
+
+@Component
+public class HighPriorityStrategy extends SlaPriorityStrategy {
+
+    public HighPriorityStrategy() {
+        super(Priority.High, "critical", Duration.ofDays(1), 6);
     }
 }
@@ -1,13 +1,14 @@
 package com.example.testcasemagementservice.Strategy;
 
+import com.example.testcasemagementservice.Enums.Priority;
+import org.springframework.stereotype.Component;
 
-import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
 
-@Slf4j
-public class LowPriorityStrategy implements PriorityStrategy{
+@Component
+public class LowPriorityStrategy extends SlaPriorityStrategy {
 
-    @Override
-    public void applyPriority() {
-        log.info("Applying Low Priority Strategy........");
+    public LowPriorityStrategy() {
+        super(Priority.Low, "backlog", Duration.ofDays(14), 1);
     }
 }
@@ -1,12 +1,14 @@
 package com.example.testcasemagementservice.Strategy;
 
+import com.example.testcasemagementservice.Enums.Priority;
+import org.springframework.stereotype.Component;
 
-import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
 
-@Slf4j
-public class MediumPriorityStrategy implements PriorityStrategy{
-    @Override
-    public void applyPriority() {
-        log.info("Applying Medium Priority Strategy......");
+@Component
+public class MediumPriorityStrategy extends SlaPriorityStrategy {
+
+    public MediumPriorityStrategy() {
+        super(Priority.Medium, "standard", Duration.ofDays(3), 3);
     }
 }
@@ -1,31 +1,61 @@
 package com.example.testcasemagementservice.Strategy;
 
 import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.springframework.stereotype.Component;
 
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the priority strategy beans, one per priority plus one for test cases without a priority.
+ * Built once and never modified, so a single instance resolves strategies for concurrent requests without
+ * allocating or sharing mutable state.
+ */
+@Component
 public class PriorityContext {
-    private PriorityStrategy strategy;
 
-    public void setStrategy(Priority priority) {
-        switch (priority) {
-            case High:
-                strategy = new HighPriorityStrategy();
-                break;
-            case Medium:
-                strategy = new MediumPriorityStrategy();
-                break;
-            case Low:
-                strategy = new LowPriorityStrategy();
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown priority: " + priority);
+    private final Map<Priority, PriorityStrategy> strategies = new EnumMap<>(Priority.class);
+    private final PriorityStrategy unprioritised;
+
+    public PriorityContext(List<PriorityStrategy> strategies) {
+        PriorityStrategy withoutPriority = null;
+        for (PriorityStrategy strategy : strategies) {
+            boolean duplicate;
+            if (strategy.priority() == null) {
+                duplicate = withoutPriority != null;
+                withoutPriority = strategy;
+            } else {
+                duplicate = this.strategies.putIfAbsent(strategy.priority(), strategy) != null;
+            }
+            if (duplicate) {
+                throw new IllegalStateException("More than one strategy for priority " + strategy.priority());
+            }
+        }
+        for (Priority priority : Priority.values()) {
+            if (!this.strategies.containsKey(priority)) {
+                throw new IllegalStateException("No strategy for priority " + priority);
+            }
+        }
+        if (withoutPriority == null) {
+            throw new IllegalStateException("No strategy for test cases without a priority");
         }
+        this.unprioritised = withoutPriority;
     }
 
-    public void applyStrategy() {
-        if (strategy != null) {
-            strategy.applyPriority();
-        } else {
-            throw new IllegalStateException("Strategy not set");
-        }
+    public PriorityStrategy strategyFor(Priority priority) {
+        return priority == null ? unprioritised : strategies.get(priority);
+    }
+
+    /**
+     * Routes {@code testCase} to the queue of its priority and sets its SLA deadline from {@code triagedOn}.
+     */
+    public TestCase applyStrategy(TestCase testCase, Date triagedOn) {
+        PriorityStrategy strategy = strategyFor(testCase.getPriority());
+        testCase.setQueue(strategy.queue());
+        testCase.setSlaDueOn(strategy.slaDueOn(triagedOn));
+        return testCase;
     }
-}
\ No newline at end of file
+}
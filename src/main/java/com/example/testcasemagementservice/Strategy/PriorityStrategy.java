@@ -1,5 +1,29 @@
 package com.example.testcasemagementservice.Strategy;
 
+import com.example.testcasemagementservice.Enums.Priority;
+
+import java.util.Date;
+
 public interface PriorityStrategy {
-    void applyPriority();
+
+    /**
+     * The priority this strategy handles, or {@code null} for test cases created without one.
+     */
+    Priority priority();
+
+    /**
+     * The work queue test cases of this priority are routed to.
+     */
+    String queue();
+
+    /**
+     * The SLA deadline of a test case given this priority at {@code triagedOn}.
+     */
+    Date slaDueOn(Date triagedOn);
+
+    /**
+     * The relative share of execution claims this priority gets while every priority has work waiting.
+     * Zero keeps test cases of this priority out of dispatch.
+     */
+    int dispatchWeight();
 }
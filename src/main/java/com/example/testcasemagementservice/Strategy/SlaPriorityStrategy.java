@@ -0,0 +1,41 @@
+package com.example.testcasemagementservice.Strategy;
+
+import com.example.testcasemagementservice.Enums.Priority;
+
+import java.time.Duration;
+import java.util.Date;
+
+abstract class SlaPriorityStrategy implements PriorityStrategy {
+
+    private final Priority priority;
+    private final String queue;
+    private final long slaMillis;
+    private final int dispatchWeight;
+
+    SlaPriorityStrategy(Priority priority, String queue, Duration sla, int dispatchWeight) {
+        this.priority = priority;
+        this.queue = queue;
+        this.slaMillis = sla.toMillis();
+        this.dispatchWeight = dispatchWeight;
+    }
+
+    @Override
+    public Priority priority() {
+        return priority;
+    }
+
+    @Override
+    public String queue() {
+        return queue;
+    }
+
+    @Override
+    public Date slaDueOn(Date triagedOn) {
+        return new Date(triagedOn.getTime() + slaMillis);
+    }
+
+    @Override
+    public int dispatchWeight() {
+        return dispatchWeight;
+    }
+}
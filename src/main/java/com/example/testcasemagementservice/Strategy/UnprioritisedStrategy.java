@@ -0,0 +1,17 @@
+package com.example.testcasemagementservice.Strategy;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Test cases created without a priority keep none, and wait in the triage queue until someone assigns one.
+ * They are not dispatched for execution until then.
+ */
+@Component
+public class UnprioritisedStrategy extends SlaPriorityStrategy {
+
+    public UnprioritisedStrategy() {
+        super(null, "triage", Duration.ofDays(2), 0);
+    }
+}
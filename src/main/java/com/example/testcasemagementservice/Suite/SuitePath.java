@@ -0,0 +1,54 @@
+package com.example.testcasemagementservice.Suite;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import lombok.experimental.UtilityClass;
+
+import java.util.regex.Pattern;
+
+/**
+ * Suites are a materialized path stored on each test case, such as {@code /Payments/Checkout/}, with a slash
+ * after every segment so that a suite's subtree is exactly the paths starting with its own: one index range
+ * from the path up to {@link #upperBound}. {@code /} is the root and holds every suite.
+ */
+@UtilityClass
+public class SuitePath {
+
+    public final String PATTERN = "^/?[^/]+(/[^/]+)*/?$";
+
+    public final int MAX_LENGTH = 300;
+
+    public final String ROOT = "/";
+
+    private final Pattern COMPILED = Pattern.compile(PATTERN);
+
+    /**
+     * The stored form of {@code path}, with a leading and trailing slash, or null for null.
+     *
+     * @throws InvalidDataException when {@code path} has an empty segment or is too long
+     */
+    public String normalize(String path) {
+        if (path == null) {
+            return null;
+        }
+        if (path.equals(ROOT)) {
+            return ROOT;
+        }
+        if (path.length() > MAX_LENGTH || !COMPILED.matcher(path).matches()) {
+            throw new InvalidDataException("Invalid suite path: " + path);
+        }
+        String normalized = path.startsWith("/") ? path : "/" + path;
+        return normalized.endsWith("/") ? normalized : normalized + "/";
+    }
+
+    /**
+     * The least string above every path in the subtree of {@code path}: the trailing slash replaced by the
+     * next character, '0'.
+     */
+    public String upperBound(String path) {
+        return path.substring(0, path.length() - 1) + '0';
+    }
+
+    public boolean contains(String path, String other) {
+        return other.startsWith(path);
+    }
+}
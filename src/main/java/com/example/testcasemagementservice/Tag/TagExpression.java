@@ -0,0 +1,41 @@
+package com.example.testcasemagementservice.Tag;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A tag filter in disjunctive normal form: a test case matches when it has every tag of any group. Written
+ * with {@code ,} for AND and {@code |} for OR, so {@code team:checkout,env:staging|team:payments} matches
+ * staging test cases of the checkout team and every test case of the payments team.
+ *
+ * @param anyOf groups of normalized tags
+ */
+public record TagExpression(List<List<String>> anyOf) {
+
+    private static final int MAX_GROUPS = 10;
+
+    /**
+     * Parses {@code expression}, or returns null for null.
+     *
+     * @throws InvalidDataException when a group is empty, a tag is malformed or there are too many groups
+     */
+    public static TagExpression parse(String expression) {
+        if (expression == null) {
+            return null;
+        }
+        List<List<String>> anyOf = new ArrayList<>();
+        for (String group : expression.split("\\|", -1)) {
+            if (group.isBlank()) {
+                throw new InvalidDataException("Empty group in tag expression: " + expression);
+            }
+            anyOf.add(Tags.normalize(Arrays.stream(group.split(",", -1)).map(String::trim).toList()));
+        }
+        if (anyOf.size() > MAX_GROUPS) {
+            throw new InvalidDataException("A tag expression can have at most " + MAX_GROUPS + " groups");
+        }
+        return new TagExpression(anyOf);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.testcasemagementservice.Tag;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Tags label test cases by component, team or environment, such as {@code team:checkout}. They are stored
+ * lower-cased, de-duplicated and sorted in {@code tags}, and every unordered pair of them is stored in
+ * {@code tagPairs}, so that requiring two tags is a single equality on a multikey index rather than a scan of
+ * every test case carrying the first one.
+ */
+@UtilityClass
+public class Tags {
+
+    public final String PATTERN = "^[A-Za-z0-9][A-Za-z0-9:._-]*$";
+
+    public final int MAX_TAGS = 10;
+
+    public final int MAX_LENGTH = 50;
+
+    private final Pattern COMPILED = Pattern.compile(PATTERN);
+
+    /**
+     * The stored form of {@code tags}, or null for null.
+     *
+     * @throws InvalidDataException when a tag is malformed or there are too many
+     */
+    public List<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return null;
+        }
+        List<String> normalized = tags.stream()
+                .map(Tags::normalize)
+                .distinct()
+                .sorted()
+                .toList();
+        if (normalized.size() > MAX_TAGS) {
+            throw new InvalidDataException("A test case can have at most " + MAX_TAGS + " tags");
+        }
+        return normalized;
+    }
+
+    public String normalize(String tag) {
+        if (tag == null || tag.length() > MAX_LENGTH || !COMPILED.matcher(tag).matches()) {
+            throw new InvalidDataException("Invalid tag: " + tag);
+        }
+        return tag.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Every unordered pair of normalized {@code tags}, or null for null.
+     */
+    public List<String> pairs(List<String> tags) {
+        if (tags == null) {
+            return null;
+        }
+        List<String> pairs = new ArrayList<>(tags.size() * (tags.size() - 1) / 2);
+        for (int i = 0; i < tags.size(); i++) {
+            for (int j = i + 1; j < tags.size(); j++) {
+                pairs.add(pair(tags.get(i), tags.get(j)));
+            }
+        }
+        return pairs;
+    }
+
+    public String pair(String tag, String other) {
+        // ',' cannot occur in a tag, so the pair is unambiguous
+        return tag.compareTo(other) < 0 ? tag + "," + other : other + "," + tag;
+    }
+}
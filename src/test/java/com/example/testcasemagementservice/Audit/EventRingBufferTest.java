@@ -0,0 +1,92 @@
+package com.example.testcasemagementservice.Audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRingBufferTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int PER_PRODUCER = 100_000;
+
+    @Test
+    void offer_WhenFull_RejectsUntilDrained() {
+        // Arrange
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // Act
+        boolean whileFull = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 2);
+        boolean afterDrain = buffer.offer(4);
+
+        // Assert
+        assertFalse(whileFull);
+        assertEquals(List.of(0, 1), drained);
+        assertTrue(afterDrain);
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void constructor_WithCapacityNotPowerOfTwo_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EventRingBuffer<>(1000));
+    }
+
+    @Test
+    void drainTo_WithConcurrentProducers_DeliversEveryElementOnceInProducerOrder() throws Exception {
+        // Arrange
+        EventRingBuffer<long[]> buffer = new EventRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] lastSeen = new long[PRODUCERS];
+        Arrays.fill(lastSeen, -1);
+        long received = 0;
+        long outOfOrder = 0;
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                long id = producer;
+                executor.submit(() -> {
+                    start.await();
+                    for (long sequence = 0; sequence < PER_PRODUCER; sequence++) {
+                        while (!buffer.offer(new long[]{id, sequence})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            List<long[]> batch = new ArrayList<>();
+            while (received < (long) PRODUCERS * PER_PRODUCER) {
+                buffer.drainTo(batch, 256);
+                for (long[] element : batch) {
+                    int producer = (int) element[0];
+                    if (element[1] != lastSeen[producer] + 1) {
+                        outOfOrder++;
+                    }
+                    lastSeen[producer] = element[1];
+                }
+                received += batch.size();
+                batch.clear();
+            }
+        }
+
+        // Assert
+        assertEquals((long) PRODUCERS * PER_PRODUCER, received);
+        assertEquals(0, outOfOrder);
+        assertEquals(0, buffer.size());
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.testcasemagementservice.Audit;
+
+import com.example.testcasemagementservice.Enums.AuditOverflowPolicy;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TestCaseEventType;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Model.TestCaseEvent;
+import com.example.testcasemagementservice.Repository.TestCaseEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseAuditLogTest {
+
+    @Mock
+    private TestCaseEventRepository testCaseEventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void stop_DrainsBufferedEventsInBatches() {
+        // Arrange
+        List<TestCaseEvent> written = capturingInsert();
+        TestCaseAuditLog auditLog = auditLog(1024, 2, AuditOverflowPolicy.Drop, Duration.ofMinutes(1));
+        TestCase pending = TestCase.builder().id("1").status(Status.Pending).priority(Priority.High).version(0L).build();
+        TestCase passed = pending.toBuilder().status(Status.Passed).version(1L).build();
+        auditLog.start();
+
+        // Act
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.created(pending));
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.updated(pending, passed));
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.deleted(passed));
+        auditLog.stop();
+
+        // Assert
+        assertEquals(List.of(TestCaseEventType.Created, TestCaseEventType.Updated, TestCaseEventType.Deleted),
+                written.stream().map(TestCaseEvent::getType).toList());
+        TestCaseEvent updated = written.get(1);
+        assertEquals(Status.Pending, updated.getFromStatus());
+        assertEquals(Status.Passed, updated.getToStatus());
+        assertEquals(1L, updated.getVersion());
+        assertNull(written.get(2).getToStatus());
+        verify(testCaseEventRepository, atLeast(2)).insert(anyList());
+        assertFalse(auditLog.isRunning());
+    }
+
+    @Test
+    void record_WhenFullWithDropPolicy_CountsDroppedEvent() {
+        // Arrange
+        TestCaseAuditLog auditLog = auditLog(2, 2, AuditOverflowPolicy.Drop, Duration.ofMinutes(1));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            auditLog.onTestCaseChanged(TestCaseChangedEvent.created(TestCase.builder().id(String.valueOf(i)).build()));
+        }
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("testcase.audit.events").tag("outcome", "dropped").counter().count());
+        assertEquals(2.0, meterRegistry.get("testcase.audit.buffered").gauge().value());
+        verifyNoInteractions(testCaseEventRepository);
+    }
+
+    @Test
+    void record_WhenFullWithWaitPolicy_WakesWriterInsteadOfDropping() {
+        // Arrange
+        List<TestCaseEvent> written = capturingInsert();
+        TestCaseAuditLog auditLog = auditLog(2, 2, AuditOverflowPolicy.Wait, Duration.ofMinutes(1));
+        auditLog.start();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            auditLog.onTestCaseChanged(TestCaseChangedEvent.created(TestCase.builder().id(String.valueOf(i)).build()));
+        }
+        auditLog.stop();
+
+        // Assert
+        assertEquals(100, written.size());
+        assertEquals(0.0, meterRegistry.get("testcase.audit.events").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void onTestCasesTransitioned_RecordsEachIdButNotFilterTransitions() {
+        // Arrange
+        List<TestCaseEvent> written = capturingInsert();
+        TestCaseAuditLog auditLog = auditLog(16, 16, AuditOverflowPolicy.Drop, Duration.ofMinutes(1));
+        auditLog.start();
+
+        // Act
+        auditLog.onTestCasesTransitioned(new TestCasesTransitionedEvent(Status.InProgress, Status.Failed, Priority.Low, 2, List.of("1", "2")));
+        auditLog.onTestCasesTransitioned(new TestCasesTransitionedEvent(Status.Failed, Status.Pending, null, 7, null));
+        auditLog.stop();
+
+        // Assert
+        assertEquals(List.of("1", "2"), written.stream().map(TestCaseEvent::getTestCaseId).toList());
+        assertTrue(written.stream().allMatch(event -> event.getType() == TestCaseEventType.Transitioned
+                && event.getToStatus() == Status.Failed));
+    }
+
+    @Test
+    void writeLoop_WhenBatchFails_CountsItAndKeepsWriting() {
+        // Arrange
+        List<TestCaseEvent> written = new ArrayList<>();
+        when(testCaseEventRepository.insert(anyList()))
+                .thenThrow(new IllegalStateException("Mongo unavailable"))
+                .thenAnswer(invocation -> {
+                    written.addAll(invocation.getArgument(0));
+                    return invocation.getArgument(0);
+                });
+        TestCaseAuditLog auditLog = auditLog(16, 1, AuditOverflowPolicy.Drop, Duration.ofMinutes(1));
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.created(TestCase.builder().id("1").build()));
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.created(TestCase.builder().id("2").build()));
+        auditLog.start();
+
+        // Act
+        auditLog.stop();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("testcase.audit.events").tag("outcome", "failed").counter().count());
+        assertEquals("2", written.get(0).getTestCaseId());
+    }
+
+    @Test
+    void start_WhenDisabled_RecordsNothing() {
+        // Arrange
+        TestCaseAuditLog auditLog = new TestCaseAuditLog(testCaseEventRepository, meterRegistry, false, 16, 16,
+                Duration.ofMillis(10), AuditOverflowPolicy.Drop, Duration.ZERO, Duration.ofSeconds(5));
+
+        // Act
+        auditLog.start();
+        auditLog.onTestCaseChanged(TestCaseChangedEvent.created(TestCase.builder().id("1").build()));
+        auditLog.stop();
+
+        // Assert
+        assertFalse(auditLog.isRunning());
+        assertEquals(0.0, meterRegistry.get("testcase.audit.buffered").gauge().value());
+    }
+
+    private List<TestCaseEvent> capturingInsert() {
+        List<TestCaseEvent> written = new ArrayList<>();
+        when(testCaseEventRepository.insert(anyList())).thenAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        return written;
+    }
+
+    private TestCaseAuditLog auditLog(int capacity, int batchSize, AuditOverflowPolicy overflowPolicy, Duration flushInterval) {
+        return new TestCaseAuditLog(testCaseEventRepository, meterRegistry, true, capacity, batchSize, flushInterval,
+                overflowPolicy, Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCaseCacheTest {
+
+    @Test
+    void get_WhenEnabled_LoadsOnceAndCountsHits() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(true, 10, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            testCaseCache.get("id", id -> {
+                loads.incrementAndGet();
+                return Optional.of(TestCase.builder().id(id).build());
+            });
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(2, testCaseCache.stats().getHits());
+        assertEquals(1, testCaseCache.stats().getMisses());
+    }
+
+    @Test
+    void get_WhenMissing_DoesNotCacheAbsence() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(true, 10, Duration.ofMinutes(5));
+
+        // Act
+        Optional<TestCase> first = testCaseCache.get("id", id -> Optional.empty());
+        Optional<TestCase> second = testCaseCache.get("id", id -> Optional.of(TestCase.builder().id(id).build()));
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isPresent());
+    }
+
+    @Test
+    void invalidate_ForcesReload() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(true, 10, Duration.ofMinutes(5));
+        testCaseCache.get("id", id -> Optional.of(TestCase.builder().id(id).title("Old").build()));
+
+        // Act
+        testCaseCache.invalidate("id");
+        Optional<TestCase> reloaded = testCaseCache.get("id", id -> Optional.of(TestCase.builder().id(id).title("New").build()));
+
+        // Assert
+        assertEquals("New", reloaded.get().getTitle());
+    }
+
+    @Test
+    void get_WhenFull_EvictsEntries() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(true, 2, Duration.ofMinutes(5));
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            testCaseCache.get("id-" + i, id -> Optional.of(TestCase.builder().id(id).build()));
+        }
+        testCaseCache.cleanUp();
+
+        // Assert
+        assertTrue(testCaseCache.stats().getSize() <= 2);
+        assertTrue(testCaseCache.stats().getEvictions() >= 8);
+    }
+
+    @Test
+    void get_WhenDisabled_AlwaysLoads() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(false, 10, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        testCaseCache.get("id", id -> {
+            loads.incrementAndGet();
+            return Optional.of(TestCase.builder().id(id).build());
+        });
+        testCaseCache.get("id", id -> {
+            loads.incrementAndGet();
+            return Optional.of(TestCase.builder().id(id).build());
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, testCaseCache.stats().getSize());
+    }
+}
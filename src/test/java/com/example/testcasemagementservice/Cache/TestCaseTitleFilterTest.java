@@ -0,0 +1,74 @@
+package com.example.testcasemagementservice.Cache;
+
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseTitleFilterTest {
+
+    private static final int TITLES = 10_000;
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Test
+    void mightContain_AfterSeed_HasNoFalseNegativesAndBoundedFalsePositives() {
+        // Arrange
+        TestCaseTitleFilter testCaseTitleFilter = new TestCaseTitleFilter(testCaseRepository, true, TITLES, 0.01);
+        when(testCaseRepository.streamTitles(anyInt()))
+                .thenReturn(IntStream.range(0, TITLES).mapToObj(i -> TestCase.builder().id(String.valueOf(i)).title("Stored Title " + i).build()));
+
+        // Act
+        testCaseTitleFilter.seed();
+
+        // Assert
+        assertTrue(IntStream.range(0, TITLES).allMatch(i -> testCaseTitleFilter.mightContain("Stored Title " + i)));
+        long falsePositives = IntStream.range(0, TITLES).filter(i -> testCaseTitleFilter.mightContain("New Title " + i)).count();
+        assertTrue(falsePositives < TITLES * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_BeforeSeedOrWhenDisabled_AssumesEveryTitleMayExist() {
+        // Arrange
+        TestCaseTitleFilter unseeded = new TestCaseTitleFilter(testCaseRepository, true, TITLES, 0.01);
+        TestCaseTitleFilter disabled = new TestCaseTitleFilter(testCaseRepository, false, TITLES, 0.01);
+
+        // Act
+        disabled.onApplicationReady();
+
+        // Assert
+        assertTrue(unseeded.mightContain("Any Title"));
+        assertTrue(disabled.mightContain("Any Title"));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    void onTestCaseChanged_AddsCreatedAndRenamedTitles() {
+        // Arrange
+        TestCaseTitleFilter testCaseTitleFilter = new TestCaseTitleFilter(testCaseRepository, true, TITLES, 0.01);
+        when(testCaseRepository.streamTitles(anyInt())).thenReturn(Stream.empty());
+        testCaseTitleFilter.seed();
+        TestCase created = TestCase.builder().id("1").title("Created Title").build();
+
+        // Act
+        testCaseTitleFilter.onTestCaseChanged(TestCaseChangedEvent.created(created));
+        testCaseTitleFilter.onTestCaseChanged(TestCaseChangedEvent.updated(created, created.toBuilder().title("Renamed Title").build()));
+
+        // Assert
+        assertTrue(testCaseTitleFilter.mightContain("Created Title"));
+        assertTrue(testCaseTitleFilter.mightContain("Renamed Title"));
+        assertFalse(testCaseTitleFilter.mightContain("Unknown Title"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.testcasemagementservice.Conditional;
+
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
+import com.example.testcasemagementservice.Exceptions.PreconditionFailedException;
+import com.example.testcasemagementservice.Model.ResultHistory;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCaseETagsTest {
+
+    @Test
+    void of_IsTheVersionAlone() {
+        // Arrange
+        TestCase testCase = TestCase.builder().id("1").version(3L)
+                .resultHistory(ResultHistory.builder().analyzedUpTo(new Date(1000)).build())
+                .leaseExpiresOn(new Date(2000)).queue("critical").slaDueOn(new Date(3000)).build();
+
+        // Act & Assert
+        assertEquals("\"3\"", TestCaseETags.of(testCase));
+        assertEquals("\"0\"", TestCaseETags.of(TestCase.builder().id("1").build()));
+        assertEquals(TestCaseETags.of(testCase), TestCaseETags.of(TestCaseVersionDto.builder().id("1").version(3L).build()));
+        assertEquals(3L, TestCaseETags.expectedVersion(TestCaseETags.of(testCase)));
+    }
+
+    @Test
+    void ofTestCases_MatchesTagOfSameVersionsAndChangesWithAnyOfThem() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 2);
+        List<TestCase> testCases = List.of(TestCase.builder().id("1").version(1L).build(), TestCase.builder().id("2").version(5L).build());
+        List<TestCaseVersionDto> versions = List.of(TestCaseVersionDto.builder().id("1").version(1L).build(),
+                TestCaseVersionDto.builder().id("2").version(5L).build());
+        List<TestCaseVersionDto> edited = List.of(versions.get(0), TestCaseVersionDto.builder().id("2").version(6L).build());
+
+        // Act
+        String etag = TestCaseETags.ofTestCases(new PageImpl<>(testCases, pageable, 7));
+
+        // Assert
+        assertEquals(etag, TestCaseETags.ofVersions(new PageImpl<>(versions, pageable, 7)));
+        assertNotEquals(etag, TestCaseETags.ofVersions(new PageImpl<>(edited, pageable, 7)));
+        assertNotEquals(etag, TestCaseETags.ofVersions(new PageImpl<>(versions, pageable, 8)));
+    }
+
+    @Test
+    void matches_ComparesWeaklyAgainstEveryListedTag() {
+        // Act & Assert
+        assertTrue(TestCaseETags.matches("\"2\", W/\"3\"", "\"3\""));
+        assertTrue(TestCaseETags.matches("*", "\"3\""));
+        assertFalse(TestCaseETags.matches("\"2\"", "\"3\""));
+        assertFalse(TestCaseETags.matches(null, "\"3\""));
+    }
+
+    @Test
+    void expectedVersion_ReadsVersionOfSingleStrongTag() {
+        // Act & Assert
+        assertEquals(3L, TestCaseETags.expectedVersion("\"3\""));
+        assertNull(TestCaseETags.expectedVersion("*"));
+        assertNull(TestCaseETags.expectedVersion(null));
+        assertThrows(PreconditionFailedException.class, () -> TestCaseETags.expectedVersion("W/\"3\""));
+        assertThrows(PreconditionFailedException.class, () -> TestCaseETags.expectedVersion("\"2\", \"3\""));
+        assertThrows(PreconditionFailedException.class, () -> TestCaseETags.expectedVersion("\"p-0a1b\""));
+        assertThrows(PreconditionFailedException.class, () -> TestCaseETags.expectedVersion("\"3.00ff00ff00ff00ff\""));
+    }
+}
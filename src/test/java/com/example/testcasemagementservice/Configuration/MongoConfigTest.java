@@ -0,0 +1,36 @@
+package com.example.testcasemagementservice.Configuration;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MongoConfigTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withUserConfiguration(MongoConfig.class)
+            .withBean(MongoMappingContext.class, MongoMappingContext::new);
+
+    @Test
+    void reactiveCreate_FillsInBothAuditDates() {
+        contextRunner.run(context -> {
+            // Arrange
+            TestCase testCase = TestCase.builder().title("Reactive Title").priority(Priority.High).build();
+
+            // Act
+            TestCase converted = ReactiveEntityCallbacks.create(context)
+                    .callback(ReactiveBeforeConvertCallback.class, testCase, "test_cases")
+                    .block();
+
+            // Assert
+            assertNotNull(converted);
+            assertNotNull(converted.getCreatedOn());
+            assertNotNull(converted.getUpdatedOn());
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.testcasemagementservice.Configuration;
+
+import com.example.testcasemagementservice.Model.TestCase;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class TestCaseIndexManagerTest {
+
+    private final TestCaseIndexManager indexManager =
+            new TestCaseIndexManager(null, new MongoMappingContext(), TestCaseIndexManager.Mode.Report);
+
+    @Test
+    void missingIndexes_ReportsDeclaredIndexesNotLive() {
+        // Arrange
+        List<IndexDefinition> declared = indexManager.declaredIndexes(TestCase.class);
+        List<Document> live = List.of(
+                index("_id_", new Document("_id", 1)),
+                index("title", new Document("title", 1)).append("unique", true),
+                index("status_priority_createdOn", new Document("status", 1).append("priority", 1)
+                        .append("createdOn", 1).append("_id", 1)));
+
+        // Act
+        List<IndexDefinition> missing = TestCaseIndexManager.missingIndexes(declared, live);
+
+        // Assert
+        assertEquals(declared.size() - 2, missing.size());
+        assertTrue(missing.stream().noneMatch(index -> index.getIndexKeys().keySet().equals(Set.of("title"))));
+        assertTrue(missing.stream().anyMatch(index -> "text".equals(index.getIndexKeys().get("description"))));
+        assertTrue(missing.stream().anyMatch(index -> index.getIndexKeys().keySet()
+                .equals(Set.of("priority", "createdOn", "_id"))));
+    }
+
+    @Test
+    void unexpectedIndexes_ReportsLiveIndexesNotDeclared() {
+        // Arrange
+        List<IndexDefinition> declared = indexManager.declaredIndexes(TestCase.class);
+        List<Document> live = List.of(
+                index("_id_", new Document("_id", 1)),
+                index("status_1", new Document("status", 1)));
+
+        // Act
+        List<TestCaseIndexManager.IndexSpec> unexpected = TestCaseIndexManager.unexpectedIndexes(declared, live);
+
+        // Assert
+        assertEquals(1, unexpected.size());
+        assertEquals("status_1", unexpected.get(0).name());
+    }
+
+    @Test
+    void differingIndexes_ReportsLiveIndexesOnDeclaredKeysWithOtherOptions() {
+        // Arrange
+        List<IndexDefinition> declared = indexManager.declaredIndexes(TestCase.class);
+        List<Document> live = List.of(
+                index("title_1", new Document("title", 1)),
+                index("TestCase_TextIndex", new Document("_fts", "text").append("_ftsx", 1))
+                        .append("weights", new Document("title", 1).append("description", 1)),
+                index("flakiness", new Document("flakiness", -1)));
+
+        // Act
+        List<TestCaseIndexManager.IndexDifference> differing = TestCaseIndexManager.differingIndexes(declared, live);
+
+        // Assert
+        assertEquals(List.of("title_1", "TestCase_TextIndex"), differing.stream().map(difference -> difference.live().name()).toList());
+        assertEquals(List.of("unique false instead of true"), differing.get(0).differences());
+        assertTrue(differing.get(1).differences().get(0).startsWith("weights"));
+        assertTrue(TestCaseIndexManager.missingIndexes(declared, live).stream()
+                .noneMatch(index -> index.getIndexKeys().containsKey("title")));
+    }
+
+    @Test
+    void differingIndexes_WhenTextWeightsMatch_ReportsNothing() {
+        // Arrange
+        List<IndexDefinition> declared = indexManager.declaredIndexes(TestCase.class);
+        List<Document> live = List.of(
+                index("TestCase_TextIndex", new Document("_fts", "text").append("_ftsx", 1))
+                        .append("weights", new Document("description", 1).append("title", 3)));
+
+        // Act & Assert
+        assertTrue(TestCaseIndexManager.differingIndexes(declared, live).isEmpty());
+    }
+
+    @Test
+    void ensureUniqueIndexes_EnsuresOnlyUniqueIndexes() {
+        // Arrange
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        IndexOperations indexOps = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps(TestCase.class)).thenReturn(indexOps);
+        TestCaseIndexManager manager = new TestCaseIndexManager(mongoTemplate, new MongoMappingContext(), TestCaseIndexManager.Mode.Off);
+
+        // Act
+        manager.ensureUniqueIndexes(TestCase.class);
+
+        // Assert
+        verify(indexOps, times(1)).ensureIndex(argThat(index -> index.getIndexKeys().keySet().equals(Set.of("title"))
+                && Boolean.TRUE.equals(index.getIndexOptions().get("unique"))));
+        verifyNoMoreInteractions(indexOps);
+    }
+
+    @Test
+    void ensureUniqueIndexes_WhenBuildFails_FailsStartup() {
+        // Arrange
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        IndexOperations indexOps = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps(TestCase.class)).thenReturn(indexOps);
+        when(indexOps.ensureIndex(any())).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        TestCaseIndexManager manager = new TestCaseIndexManager(mongoTemplate, new MongoMappingContext(), TestCaseIndexManager.Mode.Build);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> manager.ensureUniqueIndexes(TestCase.class));
+    }
+
+    private Document index(String name, Document key) {
+        return new Document("v", 2).append("key", key).append("name", name);
+    }
+}
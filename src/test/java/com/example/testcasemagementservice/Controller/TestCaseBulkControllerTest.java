@@ -0,0 +1,73 @@
+package com.example.testcasemagementservice.Controller;
+
+import com.example.testcasemagementservice.Cache.TestCaseTitleFilter;
+import com.example.testcasemagementservice.DTO.BulkResultDto;
+import com.example.testcasemagementservice.Enums.BulkItemStatus;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Service.TestCaseBulkService;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseBulkControllerTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void streamTestCases_WhenLineAfterFirstChunkIsMalformed_ReportsItAndContinues() throws Exception {
+        // Arrange
+        TestCaseBulkService testCaseBulkService = new TestCaseBulkService(testCaseRepository,
+                new TestCaseTitleFilter(testCaseRepository, false, 1000, 0.01),
+                new PriorityContext(List.of(new HighPriorityStrategy(), new MediumPriorityStrategy(),
+                        new LowPriorityStrategy(), new UnprioritisedStrategy())),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2);
+        TestCaseBulkController controller = new TestCaseBulkController(testCaseBulkService,
+                Jackson2ObjectMapperBuilder.json().build());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(String.join("\n",
+                "{\"title\":\"First\",\"priority\":\"Low\",\"status\":\"Pending\"}",
+                "{\"title\":\"Second\",\"priority\":\"Low\",\"status\":\"Pending\"}",
+                "{\"title\":\"Third\",\"priority\":",
+                "",
+                "{\"title\":\"Fourth\",\"priority\":\"Low\",\"status\":\"Pending\"}").getBytes(StandardCharsets.UTF_8));
+        when(testCaseRepository.findExistingTitles(anyCollection())).thenReturn(Set.of());
+        when(testCaseRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // Act
+        BulkResultDto result = controller.streamTestCases(request).getBody();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(3, result.getCreated());
+        assertEquals(1, result.getInvalid());
+        assertEquals(BulkItemStatus.Invalid, result.getItems().get(2).getStatus());
+        assertEquals(2, result.getItems().get(2).getIndex());
+        assertTrue(result.getItems().get(2).getMessage().startsWith("Malformed NDJSON line"));
+        assertEquals("Fourth", result.getItems().get(3).getTitle());
+        verify(testCaseRepository, times(2)).insertUnordered(anyList());
+    }
+}
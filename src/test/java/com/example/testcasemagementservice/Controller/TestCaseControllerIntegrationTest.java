@@ -1,6 +1,7 @@
 package com.example.testcasemagementservice.Controller;
 
 import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
 import com.example.testcasemagementservice.Model.TestCase;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -72,6 +74,31 @@ public class TestCaseControllerIntegrationTest {
                 .andExpect(jsonPath("$.title").value("New Test Case"));
     }
 
+    @Test
+    void bulkCreateTestCases_ReturnsPerItemResults() throws Exception {
+        // Arrange
+        AddTestCaseDto newTestCase = AddTestCaseDto.builder()
+                .title("Bulk Test Case")
+                .priority(Priority.Low)
+                .status(Status.Pending)
+                .build();
+        AddTestCaseDto duplicateTestCase = AddTestCaseDto.builder()
+                .title("Integration Test Case")
+                .build();
+
+        // Act
+        ResultActions response = mockMvc.perform(post("/api/testcases/_bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(java.util.List.of(newTestCase, duplicateTestCase))));
+
+        // Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("Created"))
+                .andExpect(jsonPath("$.items[1].status").value("Duplicate"));
+    }
+
     @Test
     void getTestCaseById_WhenExists_ReturnsTestCase() throws Exception {
         // Act
@@ -92,6 +119,42 @@ public class TestCaseControllerIntegrationTest {
         response.andExpect(status().isNotFound());
     }
 
+    @Test
+    void getTestCaseById_WithMatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/testcases/" + testCase.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        ResultActions response = mockMvc.perform(get("/api/testcases/" + testCase.getId()).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        // Assert
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void updateTestCase_WithStaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        // Arrange
+        AddTestCaseDto updatedTestCase = AddTestCaseDto.builder()
+                .title("Updated Title")
+                .priority(Priority.Low)
+                .status(Status.Passed)
+                .build();
+
+        // Act
+        ResultActions response = mockMvc.perform(put("/api/testcases/" + testCase.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + (testCase.getVersion() + 1) + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedTestCase)));
+
+        // Assert
+        response.andExpect(status().isPreconditionFailed());
+        assertEquals("Integration Test Case", testCaseRepository.findById(testCase.getId()).orElseThrow().getTitle());
+    }
+
     @Test
     void getAllTestCases_ReturnsListOfTestCases() throws Exception {
         // Act
@@ -123,6 +186,42 @@ public class TestCaseControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("Passed"));
     }
 
+    @Test
+    void patchTestCase_WhenVersionMatches_UpdatesOnlyGivenFields() throws Exception {
+        // Arrange
+        PatchTestCaseDto patch = PatchTestCaseDto.builder()
+                .status(Status.Failed)
+                .version(testCase.getVersion())
+                .build();
+
+        // Act
+        ResultActions response = mockMvc.perform(patch("/api/testcases/" + testCase.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Integration Test Case"))
+                .andExpect(jsonPath("$.status").value("Failed"))
+                .andExpect(jsonPath("$.version").value(testCase.getVersion() + 1));
+    }
+
+    @Test
+    void patchTestCase_WhenVersionIsStale_ReturnsConflict() throws Exception {
+        // Arrange
+        PatchTestCaseDto patch = PatchTestCaseDto.builder()
+                .status(Status.Failed)
+                .version(testCase.getVersion() + 1)
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/testcases/" + testCase.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patch)))
+                .andExpect(status().isConflict());
+        assertEquals(Status.Pending, testCaseRepository.findById(testCase.getId()).orElseThrow().getStatus());
+    }
+
     @Test
     void deleteTestCase_WhenExists_ReturnsNoContent() throws Exception {
         // Act
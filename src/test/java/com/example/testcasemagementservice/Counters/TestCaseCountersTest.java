@@ -0,0 +1,155 @@
+package com.example.testcasemagementservice.Counters;
+
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseCountersTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @InjectMocks
+    private TestCaseCounters testCaseCounters;
+
+    @Test
+    void seed_LoadsCountsFromAggregation() {
+        // Arrange
+        when(testCaseRepository.countByStatusAndPriority(StatisticsBucket.None, null, null)).thenReturn(List.of(
+                StatusPriorityCountDto.builder().status(Status.Passed).priority(Priority.High).count(7).build(),
+                StatusPriorityCountDto.builder().status(null).priority(Priority.Low).count(2).build()));
+
+        // Act
+        testCaseCounters.seed();
+
+        // Assert
+        assertTrue(testCaseCounters.isSeeded());
+        assertEquals(7, testCaseCounters.get(Status.Passed, Priority.High));
+        assertEquals(2, testCaseCounters.get(null, Priority.Low));
+        assertEquals(0, testCaseCounters.get(Status.Failed, Priority.High));
+    }
+
+    @Test
+    void onTestCaseChanged_MovesCountsBetweenCells() {
+        // Arrange
+        TestCase created = testCase(Status.Pending, Priority.High);
+        TestCase updated = testCase(Status.Passed, Priority.High);
+
+        // Act
+        testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.created(created));
+        testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.updated(created, updated));
+
+        // Assert
+        assertEquals(0, testCaseCounters.get(Status.Pending, Priority.High));
+        assertEquals(1, testCaseCounters.get(Status.Passed, Priority.High));
+
+        // Act
+        testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.deleted(updated));
+
+        // Assert
+        assertTrue(testCaseCounters.snapshot().isEmpty());
+    }
+
+    @Test
+    void onTestCasesTransitioned_MovesCountBetweenCells() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.created(testCase(Status.InProgress, Priority.High)));
+        }
+
+        // Act
+        testCaseCounters.onTestCasesTransitioned(new TestCasesTransitionedEvent(Status.InProgress, Status.Failed, Priority.High, 3, null));
+
+        // Assert
+        assertEquals(2, testCaseCounters.get(Status.InProgress, Priority.High));
+        assertEquals(3, testCaseCounters.get(Status.Failed, Priority.High));
+    }
+
+    @Test
+    void onTestCaseChanged_UnderConcurrentWrites_MatchesFullRecount() throws Exception {
+        // Arrange: replay random mutations from many threads while tracking the resulting "database" state
+        ConcurrentHashMap<Integer, TestCase> database = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int base = thread * 1_000;
+            executor.submit(() -> {
+                Random random = new Random(base);
+                for (int i = 0; i < 1_000; i++) {
+                    TestCase testCase = testCase(random);
+                    database.put(base + i, testCase);
+                    testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.created(testCase));
+                    if (random.nextBoolean()) {
+                        TestCase updated = testCase(random);
+                        database.put(base + i, updated);
+                        testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.updated(testCase, updated));
+                    } else if (random.nextInt(4) == 0) {
+                        database.remove(base + i);
+                        testCaseCounters.onTestCaseChanged(TestCaseChangedEvent.deleted(testCase));
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Act
+        List<StatusPriorityCountDto> recount = new ArrayList<>();
+        for (Status status : statusesWithNull()) {
+            for (Priority priority : prioritiesWithNull()) {
+                long count = database.values().stream()
+                        .filter(testCase -> testCase.getStatus() == status && testCase.getPriority() == priority)
+                        .count();
+                if (count > 0) {
+                    recount.add(StatusPriorityCountDto.builder().status(status).priority(priority).count(count).build());
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(recount, testCaseCounters.snapshot());
+    }
+
+    private TestCase testCase(Random random) {
+        List<Status> statuses = statusesWithNull();
+        List<Priority> priorities = prioritiesWithNull();
+        return testCase(statuses.get(random.nextInt(statuses.size())), priorities.get(random.nextInt(priorities.size())));
+    }
+
+    private TestCase testCase(Status status, Priority priority) {
+        return TestCase.builder().status(status).priority(priority).build();
+    }
+
+    private List<Status> statusesWithNull() {
+        List<Status> statuses = new ArrayList<>(List.of(Status.values()));
+        statuses.add(null);
+        return statuses;
+    }
+
+    private List<Priority> prioritiesWithNull() {
+        List<Priority> priorities = new ArrayList<>(List.of(Priority.values()));
+        priorities.add(null);
+        return priorities;
+    }
+}
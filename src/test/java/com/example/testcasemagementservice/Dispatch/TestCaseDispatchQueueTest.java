@@ -0,0 +1,104 @@
+package com.example.testcasemagementservice.Dispatch;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCaseDispatchQueueTest {
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    private final TestCaseDispatchQueue dispatchQueue = new TestCaseDispatchQueue(priorityContext, Duration.ofMinutes(1));
+
+    @Test
+    void nextOrder_SharesFirstChoiceByDispatchWeight() {
+        // Arrange
+        Map<Priority, Integer> firstChoices = new EnumMap<>(Priority.class);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            firstChoices.merge(dispatchQueue.nextOrder().get(0), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(600, firstChoices.get(Priority.High));
+        assertEquals(300, firstChoices.get(Priority.Medium));
+        assertEquals(100, firstChoices.get(Priority.Low));
+    }
+
+    @Test
+    void nextOrder_FallsBackToEveryOtherPriorityByWeight() {
+        // Act
+        List<Priority> order = dispatchQueue.nextOrder();
+
+        // Assert
+        assertEquals(List.of(Priority.High, Priority.Medium, Priority.Low), order);
+    }
+
+    @Test
+    void schedule_InterleavesPrioritiesInsteadOfRunningEachInTurn() {
+        // Act
+        Priority[] schedule = TestCaseDispatchQueue.schedule(new int[]{1, 3, 6});
+
+        // Assert
+        assertEquals(List.of(Priority.High, Priority.Medium, Priority.High, Priority.High, Priority.Medium,
+                Priority.High, Priority.Low, Priority.High, Priority.Medium, Priority.High), List.of(schedule));
+    }
+
+    @Test
+    void markEmpty_SkipsPriorityUntilATestCaseArrives() {
+        // Arrange
+        dispatchQueue.markEmpty(Priority.Low, dispatchQueue.arrivals(Priority.Low));
+
+        // Act
+        List<Priority> whileEmpty = dispatchQueue.nextOrder();
+        dispatchQueue.onTestCaseChanged(TestCaseChangedEvent.created(
+                TestCase.builder().id("1").status(Status.Pending).priority(Priority.Low).build()));
+        List<Priority> afterArrival = dispatchQueue.nextOrder();
+
+        // Assert
+        assertFalse(whileEmpty.contains(Priority.Low));
+        assertTrue(afterArrival.contains(Priority.Low));
+    }
+
+    @Test
+    void markEmpty_WhenTestCaseArrivedDuringClaim_KeepsPriority() {
+        // Arrange
+        long observed = dispatchQueue.arrivals(Priority.Medium);
+        dispatchQueue.onTestCasesTransitioned(new TestCasesTransitionedEvent(Status.Failed, Status.Pending, Priority.Medium, 3, null));
+
+        // Act
+        dispatchQueue.markEmpty(Priority.Medium, observed);
+
+        // Assert
+        assertTrue(dispatchQueue.nextOrder().contains(Priority.Medium));
+    }
+
+    @Test
+    void markEmpty_AfterRecheckInterval_TriesPriorityAgain() {
+        // Arrange
+        TestCaseDispatchQueue rechecking = new TestCaseDispatchQueue(priorityContext, Duration.ZERO);
+
+        // Act
+        rechecking.markEmpty(Priority.High, rechecking.arrivals(Priority.High));
+
+        // Assert
+        assertTrue(rechecking.nextOrder().contains(Priority.High));
+    }
+}
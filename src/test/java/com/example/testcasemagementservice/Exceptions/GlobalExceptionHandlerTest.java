@@ -0,0 +1,31 @@
+package com.example.testcasemagementservice.Exceptions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
+
+    @Test
+    void handleResourceNotFoundException_CountsByExceptionAndStatus() {
+        // Act
+        ResponseEntity<String> response = globalExceptionHandler
+                .handleResourceNotFoundException(new ResourceNotFoundException("Test case not found"));
+        globalExceptionHandler.handleResourceNotFoundException(new ResourceNotFoundException("Test case not found"));
+        globalExceptionHandler.handleDuplicateResourceException(new DuplicateResourceException("Duplicate"));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(2, meterRegistry.get("testcase.errors")
+                .tag("exception", "ResourceNotFoundException").tag("status", "404").counter().count());
+        assertEquals(1, meterRegistry.get("testcase.errors")
+                .tag("exception", "DuplicateResourceException").tag("status", "409").counter().count());
+    }
+}
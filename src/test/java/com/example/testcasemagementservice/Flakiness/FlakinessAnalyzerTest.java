@@ -0,0 +1,171 @@
+package com.example.testcasemagementservice.Flakiness;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.Model.FlakinessCheckpoint;
+import com.example.testcasemagementservice.Model.ResultHistory;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.ExecutionResultRepository;
+import com.example.testcasemagementservice.Repository.FlakinessCheckpointRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FlakinessAnalyzerTest {
+
+    private static final Date ANALYZED_UP_TO = new Date(1_700_000_000_000L);
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private ExecutionResultRepository executionResultRepository;
+
+    @Mock
+    private FlakinessCheckpointRepository flakinessCheckpointRepository;
+
+    @Test
+    void analyze_AppendsNewResultsToStoredHistoryAndMovesCheckpoint() {
+        // Arrange
+        FlakinessAnalyzer analyzer = analyzer(1);
+        checkpoint(FlakinessCheckpoint.builder().id(FlakinessAnalyzer.CHECKPOINT_ID).analyzedUpTo(ANALYZED_UP_TO).build());
+        when(flakinessCheckpointRepository.begin(any(), any(), any())).thenReturn(true);
+        when(flakinessCheckpointRepository.complete(any(), any(), any())).thenReturn(true);
+        when(executionResultRepository.outcomeWindows(eq(ANALYZED_UP_TO), any()))
+                .thenReturn(Map.of("1", alternating(8), "2", alternating(2), "deleted", alternating(8)));
+        when(testCaseRepository.findResultHistoriesByIds(anyList())).thenReturn(List.of(
+                TestCase.builder().id("1").resultHistory(ResultHistory.builder().outcomes(0).runs(2).build()).build(),
+                TestCase.builder().id("2").build()));
+        ArgumentCaptor<List<TestCase>> updates = ArgumentCaptor.captor();
+        when(testCaseRepository.updateFlakiness(updates.capture())).thenReturn(2L);
+
+        // Act
+        long updated = analyzer.analyze();
+
+        // Assert
+        assertEquals(2, updated);
+        Map<String, TestCase> byId = updates.getValue().stream()
+                .collect(Collectors.toMap(TestCase::getId, testCase -> testCase));
+        assertEquals(2, byId.size());
+        assertEquals(10, byId.get("1").getResultHistory().getRuns());
+        assertEquals(8.0 / 9, byId.get("1").getFlakiness(), 1e-9);
+        assertEquals(0.5, byId.get("1").getResultHistory().getRecentFailureRate());
+        assertNull(byId.get("2").getFlakiness());
+        Date upTo = byId.get("1").getResultHistory().getAnalyzedUpTo();
+        String owner = ownerOf();
+        verify(flakinessCheckpointRepository).complete(FlakinessAnalyzer.CHECKPOINT_ID, owner, upTo);
+        verify(flakinessCheckpointRepository, never()).release(any(), any());
+    }
+
+    @Test
+    void analyze_WhenLockedByAnotherNode_DoesNothing() {
+        // Arrange
+        FlakinessAnalyzer analyzer = analyzer(4);
+        when(flakinessCheckpointRepository.acquire(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        // Act
+        long updated = analyzer.analyze();
+
+        // Assert
+        assertEquals(0, updated);
+        verifyNoInteractions(executionResultRepository, testCaseRepository);
+    }
+
+    @Test
+    void analyze_RepeatsPendingWindowWithoutCountingItTwice() {
+        // Arrange
+        Date pendingUpTo = new Date(ANALYZED_UP_TO.getTime() + 60_000);
+        FlakinessAnalyzer analyzer = analyzer(1);
+        checkpoint(FlakinessCheckpoint.builder().analyzedUpTo(ANALYZED_UP_TO).pendingUpTo(pendingUpTo).build());
+        when(flakinessCheckpointRepository.begin(any(), any(), any())).thenReturn(true);
+        when(flakinessCheckpointRepository.complete(any(), any(), any())).thenReturn(true);
+        when(executionResultRepository.outcomeWindows(ANALYZED_UP_TO, pendingUpTo)).thenReturn(Map.of("1", alternating(8)));
+        when(testCaseRepository.findResultHistoriesByIds(anyList())).thenReturn(List.of(
+                TestCase.builder().id("1").resultHistory(ResultHistory.builder().runs(8).analyzedUpTo(pendingUpTo).build()).build()));
+
+        // Act
+        long updated = analyzer.analyze();
+
+        // Assert
+        assertEquals(0, updated);
+        verify(testCaseRepository, never()).updateFlakiness(anyList());
+        verify(flakinessCheckpointRepository).complete(any(), any(), eq(pendingUpTo));
+    }
+
+    @Test
+    void analyze_WhenWriteFails_ReleasesLockKeepingPendingWindow() {
+        // Arrange
+        FlakinessAnalyzer analyzer = analyzer(1);
+        checkpoint(FlakinessCheckpoint.builder().analyzedUpTo(ANALYZED_UP_TO).build());
+        when(flakinessCheckpointRepository.begin(any(), any(), any())).thenReturn(true);
+        when(executionResultRepository.outcomeWindows(any(), any())).thenReturn(Map.of("1", alternating(8)));
+        when(testCaseRepository.findResultHistoriesByIds(anyList())).thenReturn(List.of(TestCase.builder().id("1").build()));
+        when(testCaseRepository.updateFlakiness(anyList())).thenThrow(new IllegalStateException("Mongo unavailable"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, analyzer::analyze);
+        verify(flakinessCheckpointRepository, never()).complete(any(), any(), any());
+        verify(flakinessCheckpointRepository).release(eq(FlakinessAnalyzer.CHECKPOINT_ID), any());
+    }
+
+    @Test
+    void outcomeWindows_CombinesSlicesInTimeOrder() {
+        // Arrange
+        FlakinessAnalyzer analyzer = analyzer(4);
+        Date upTo = new Date(ANALYZED_UP_TO.getTime() + 4_000);
+        // Each slice holds one result of test case 1; only the second one failed
+        when(executionResultRepository.outcomeWindows(any(), any())).thenAnswer(invocation -> {
+            long slice = (((Date) invocation.getArgument(0)).getTime() - ANALYZED_UP_TO.getTime()) / 1_000;
+            return Map.of("1", OutcomeWindow.EMPTY.append(slice == 1));
+        });
+
+        // Act
+        Map<String, OutcomeWindow> windows = analyzer.outcomeWindows(ANALYZED_UP_TO, upTo);
+
+        // Assert
+        assertEquals(new OutcomeWindow(0b0100, 4), windows.get("1"));
+        verify(executionResultRepository, times(4)).outcomeWindows(any(), any());
+        verify(executionResultRepository).outcomeWindows(new Date(ANALYZED_UP_TO.getTime() + 3_000), upTo);
+    }
+
+    private FlakinessAnalyzer analyzer(int partitions) {
+        return new FlakinessAnalyzer(testCaseRepository, executionResultRepository, flakinessCheckpointRepository,
+                new TestCaseCache(false, 100, Duration.ofMinutes(5)), true, partitions, 500, 8, 4, 0.2,
+                Duration.ofMinutes(15), Duration.ofMinutes(10), Duration.ofDays(90));
+    }
+
+    private void checkpoint(FlakinessCheckpoint checkpoint) {
+        when(flakinessCheckpointRepository.acquire(eq(FlakinessAnalyzer.CHECKPOINT_ID), any(), any(), any()))
+                .thenReturn(Optional.of(checkpoint));
+    }
+
+    private String ownerOf() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(flakinessCheckpointRepository).acquire(any(), owner.capture(), any(), any());
+        return owner.getValue();
+    }
+
+    private OutcomeWindow alternating(int runs) {
+        OutcomeWindow window = OutcomeWindow.EMPTY;
+        for (int i = 0; i < runs; i++) {
+            window = window.append(i % 2 == 0);
+        }
+        return window;
+    }
+}
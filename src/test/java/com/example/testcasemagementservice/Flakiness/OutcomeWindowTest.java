@@ -0,0 +1,64 @@
+package com.example.testcasemagementservice.Flakiness;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutcomeWindowTest {
+
+    @Test
+    void flipRate_ScoresAlternatingAboveStableAndRegressed() {
+        // Arrange
+        OutcomeWindow alternating = OutcomeWindow.EMPTY;
+        OutcomeWindow regressed = OutcomeWindow.EMPTY;
+        for (int i = 0; i < 10; i++) {
+            alternating = alternating.append(i % 2 == 0);
+            regressed = regressed.append(i >= 5);
+        }
+
+        // Act & Assert
+        assertEquals(1.0, alternating.flipRate());
+        assertEquals(1.0 / 9, regressed.flipRate(), 1e-9);
+        assertEquals(0.5, regressed.failureRate(OutcomeWindow.SIZE));
+        assertEquals(1.0, regressed.failureRate(4));
+    }
+
+    @Test
+    void append_KeepsOnlyTheLast64Results() {
+        // Arrange
+        OutcomeWindow window = OutcomeWindow.EMPTY;
+        for (int i = 0; i < 100; i++) {
+            window = window.append(i < 36);
+        }
+
+        // Act & Assert
+        assertEquals(OutcomeWindow.SIZE, window.runs());
+        assertEquals(0.0, window.failureRate(OutcomeWindow.SIZE));
+        assertEquals(0.0, window.flipRate());
+    }
+
+    @Test
+    void then_MatchesAppendingInOrder() {
+        // Arrange
+        OutcomeWindow whole = OutcomeWindow.EMPTY;
+        OutcomeWindow first = OutcomeWindow.EMPTY;
+        OutcomeWindow second = OutcomeWindow.EMPTY;
+        for (int i = 0; i < 90; i++) {
+            boolean failed = i % 3 == 0 || i % 7 == 0;
+            whole = whole.append(failed);
+            if (i < 40) {
+                first = first.append(failed);
+            } else {
+                second = second.append(failed);
+            }
+        }
+
+        // Act
+        OutcomeWindow combined = first.then(second);
+
+        // Assert
+        assertEquals(whole, combined);
+        assertEquals(first, first.then(OutcomeWindow.EMPTY));
+        assertEquals(second, OutcomeWindow.EMPTY.then(second));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.testcasemagementservice.Load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load driver shared by the load tests: keeps {@code concurrency} GETs in flight and
+ * reports throughput and latency percentiles.
+ */
+final class HttpLoad {
+
+    private HttpLoad() {
+    }
+
+    static LoadResult fire(int port, int concurrency, int requests) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] futures = new Future<?>[requests];
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                inFlight.acquire();
+                futures[i] = executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/testcases/id-" + request)).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[request] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+                requests * 1_000_000_000.0 / elapsed,
+                latencies[requests / 2] / 1_000_000.0,
+                latencies[(int) (requests * 0.99)] / 1_000_000.0,
+                errors.get());
+    }
+
+    record LoadResult(double throughput, double p50Millis, double p99Millis, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%8.0f req/s  p50 %6.1f ms  p99 %6.1f ms  errors %d", throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.testcasemagementservice.Load;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Seeding.TestCaseGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Closed-loop driver for a mixed CRUD workload against the {@code /api/testcases} endpoints. Operations are
+ * drawn at random in the configured ratios over a shared pool of known ids, and each operation's latency
+ * percentiles and error rate are reported separately.
+ */
+final class MixedHttpLoad {
+
+    enum Operation {
+        Create,
+        Get,
+        List,
+        Update,
+        Delete
+    }
+
+    private static final String BASE_PATH = "/api/testcases";
+    // Attempts at drawing a live id before an id-based operation falls back to a list
+    private static final int ID_ATTEMPTS = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUri;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final TestCaseGenerator generator = new TestCaseGenerator(System.nanoTime());
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReferenceArray<String> ids;
+    private final AtomicInteger idCount = new AtomicInteger();
+
+    MixedHttpLoad(int port, Map<Operation, Integer> mix, Collection<String> seededIds, int capacity) {
+        this.baseUri = "http://localhost:" + port + BASE_PATH;
+        this.mix = new EnumMap<>(mix);
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.ids = new AtomicReferenceArray<>(seededIds.size() + capacity);
+        seededIds.forEach(this::remember);
+    }
+
+    /**
+     * Parses ratios such as {@code create=10,get=50,list=20,update=15,delete=5}.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Operation operation = Arrays.stream(Operation.values())
+                    .filter(candidate -> candidate.name().equalsIgnoreCase(parts[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + parts[0]));
+            weights.put(operation, Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    Report fire(int concurrency, int requests) throws Exception {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(requests));
+        }
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        execute(draw(), recorders);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<Operation, OperationResult> results = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            if (recorder.count.get() > 0) {
+                results.put(operation, recorder.result());
+            }
+        });
+        return new Report(requests * 1_000_000_000.0 / elapsed, results);
+    }
+
+    private Operation draw() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.List;
+    }
+
+    private void execute(Operation operation, Map<Operation, Recorder> recorders) {
+        String id = null;
+        if (operation == Operation.Get || operation == Operation.Update || operation == Operation.Delete) {
+            id = operation == Operation.Delete ? takeId() : pickId();
+            if (id == null) {
+                operation = Operation.List;
+            }
+        }
+        HttpRequest request = switch (operation) {
+            case Create -> json(HttpRequest.newBuilder(URI.create(baseUri)), "POST", createBody());
+            case Get -> HttpRequest.newBuilder(URI.create(baseUri + "/" + id)).build();
+            case List -> HttpRequest.newBuilder(URI.create(baseUri + listQuery())).build();
+            case Update -> json(HttpRequest.newBuilder(URI.create(baseUri + "/" + id)), "PATCH", "{\"status\":\"InProgress\"}");
+            case Delete -> HttpRequest.newBuilder(URI.create(baseUri + "/" + id)).DELETE().build();
+        };
+
+        long sent = System.nanoTime();
+        boolean failed;
+        String body = null;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            // The list endpoint answers an empty page with 404
+            failed = response.statusCode() >= 400 && !(operation == Operation.List && response.statusCode() == 404);
+            body = response.body();
+        } catch (Exception ex) {
+            failed = true;
+        }
+        recorders.get(operation).record(System.nanoTime() - sent, failed);
+
+        if (operation == Operation.Create && !failed) {
+            try {
+                remember(objectMapper.readTree(body).get("id").asText());
+            } catch (Exception ex) {
+                // The create was measured; only its id is lost to later operations
+            }
+        }
+    }
+
+    private String createBody() {
+        TestCase testCase = generator.next(sequence.getAndIncrement());
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "title", testCase.getTitle(),
+                    "description", testCase.getDescription(),
+                    "priority", testCase.getPriority(),
+                    "status", testCase.getStatus()));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String listQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder query = new StringBuilder("?size=20&page=").append(random.nextInt(5));
+        if (random.nextBoolean()) {
+            query.append("&status=").append(Status.values()[random.nextInt(Status.values().length)]);
+        }
+        if (random.nextBoolean()) {
+            query.append("&priority=").append(Priority.values()[random.nextInt(Priority.values().length)]);
+        }
+        return query.toString();
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void remember(String id) {
+        int slot = idCount.getAndIncrement();
+        if (slot < ids.length()) {
+            ids.set(slot, id);
+        }
+    }
+
+    private String pickId() {
+        int bound = Math.min(idCount.get(), ids.length());
+        for (int attempt = 0; bound > 0 && attempt < ID_ATTEMPTS; attempt++) {
+            String id = ids.get(ThreadLocalRandom.current().nextInt(bound));
+            if (id != null) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private String takeId() {
+        int bound = Math.min(idCount.get(), ids.length());
+        for (int attempt = 0; bound > 0 && attempt < ID_ATTEMPTS; attempt++) {
+            int slot = ThreadLocalRandom.current().nextInt(bound);
+            String id = ids.getAndSet(slot, null);
+            if (id != null) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private static final class Recorder {
+        private final long[] latencies;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        Recorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long nanos, boolean failed) {
+            latencies[count.getAndIncrement()] = nanos;
+            if (failed) {
+                errors.incrementAndGet();
+            }
+        }
+
+        OperationResult result() {
+            int n = count.get();
+            long[] sorted = Arrays.copyOf(latencies, n);
+            Arrays.sort(sorted);
+            return new OperationResult(n, errors.get(),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 0.999));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1_000_000.0;
+        }
+    }
+
+    record OperationResult(int requests, int errors, double p50Millis, double p95Millis, double p99Millis,
+                           double p999Millis) {
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%7d req  p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms  p99.9 %6.1f ms  errors %d (%.2f%%)",
+                    requests, p50Millis, p95Millis, p99Millis, p999Millis, errors, errorRate() * 100);
+        }
+    }
+
+    record Report(double throughput, Map<Operation, OperationResult> operations) {
+        double errorRate() {
+            int requests = operations.values().stream().mapToInt(OperationResult::requests).sum();
+            int errors = operations.values().stream().mapToInt(OperationResult::errors).sum();
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder(String.format("%8.0f req/s  errors %.2f%%%n", throughput, errorRate() * 100));
+            operations.forEach((operation, result) -> report.append(String.format("  %-7s %s%n", operation, result)));
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.testcasemagementservice.Load;
+
+import com.example.testcasemagementservice.Load.MixedHttpLoad.Operation;
+import com.example.testcasemagementservice.Load.MixedHttpLoad.Report;
+import com.example.testcasemagementservice.Repository.InMemoryTestCaseRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Seeding.TestCaseGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives create, get, filtered list, update and delete against the real servlet endpoints in configurable
+ * ratios, over {@link InMemoryTestCaseRepository} so the numbers are reproducible offline and isolate the
+ * application from Mongo. Run with {@code mvn test -Dtest=MixedWorkloadLoadTest -Dloadtest=true}; tune with
+ * {@code -Dloadtest.mix=create=10,get=50,list=20,update=15,delete=5}, {@code -Dloadtest.concurrency},
+ * {@code -Dloadtest.requests} and {@code -Dloadtest.seed}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "testcase.indexes.mode=Off",
+        "testcase.audit.enabled=false",
+        "logging.level.com.example.testcasemagementservice=WARN"
+})
+public class MixedWorkloadLoadTest {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @LocalServerPort
+    int port;
+
+    @TestBean
+    TestCaseRepository testCaseRepository;
+
+    static TestCaseRepository testCaseRepository() {
+        return InMemoryTestCaseRepository.create();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        // Arrange
+        Map<Operation, Integer> mix = MixedHttpLoad.parseMix(
+                System.getProperty("loadtest.mix", "create=10,get=50,list=20,update=15,delete=5"));
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int requests = Integer.getInteger("loadtest.requests", 20_000);
+        int seed = Integer.getInteger("loadtest.seed", 10_000);
+        List<String> ids = new ArrayList<>(seed);
+        TestCaseGenerator generator = new TestCaseGenerator(42);
+        for (int i = 0; i < seed; i++) {
+            ids.add(testCaseRepository.save(generator.next(i)).getId());
+        }
+        MixedHttpLoad load = new MixedHttpLoad(port, mix, ids, 2 * requests);
+
+        // Act
+        load.fire(concurrency, requests / 10);
+        Report report = load.fire(concurrency, requests);
+
+        // Assert
+        System.out.printf("mixed %s at concurrency %d%n%s", mix, concurrency, report);
+        assertTrue(report.errorRate() <= MAX_ERROR_RATE, "error rate " + report.errorRate());
+    }
+}
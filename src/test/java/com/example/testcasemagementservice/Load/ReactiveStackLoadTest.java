@@ -0,0 +1,106 @@
+package com.example.testcasemagementservice.Load;
+
+import com.example.testcasemagementservice.Load.HttpLoad.LoadResult;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.ReactiveTestCaseRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares GET /api/testcases/{id} on the servlet stack (Tomcat's default pool, blocking repository) with the
+ * reactive stack (Netty, non-blocking repository) at {@value #CONCURRENCY} concurrent connections. Both
+ * repositories take {@value #REPOSITORY_LATENCY_MS} ms, standing in for a Mongo round trip.
+ * Run with {@code mvn test -Dtest=ReactiveStackLoadTest -Dloadtest=true}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "testcase.cache.enabled=false",
+        "testcase.indexes.mode=Off",
+        "logging.level.com.example.testcasemagementservice=WARN"
+})
+public class ReactiveStackLoadTest {
+
+    static final long REPOSITORY_LATENCY_MS = 100;
+    static final int CONCURRENCY = 1024;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    private static final Map<String, LoadResult> RESULTS = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void compare() {
+        RESULTS.forEach((stack, result) -> System.out.printf("%-8s %s%n", stack, result));
+        LoadResult servlet = RESULTS.get("servlet");
+        LoadResult reactive = RESULTS.get("reactive");
+        if (servlet != null && reactive != null) {
+            assertTrue(reactive.throughput() > servlet.throughput(),
+                    "the reactive stack should out-serve a bounded servlet pool at " + CONCURRENCY + " connections");
+        }
+    }
+
+    @Nested
+    class ServletStack {
+
+        @LocalServerPort
+        int port;
+
+        @MockitoBean
+        TestCaseRepository testCaseRepository;
+
+        @Test
+        void reads() throws Exception {
+            when(testCaseRepository.findById(anyString())).thenAnswer(invocation -> {
+                Thread.sleep(REPOSITORY_LATENCY_MS);
+                return Optional.of(TestCase.builder().id(invocation.getArgument(0)).title("Load").build());
+            });
+            RESULTS.put("servlet", run(port));
+        }
+    }
+
+    @Nested
+    @ActiveProfiles("reactive")
+    class ReactiveStack {
+
+        @LocalServerPort
+        int port;
+
+        @MockitoBean
+        TestCaseRepository testCaseRepository;
+
+        @MockitoBean
+        ReactiveTestCaseRepository reactiveTestCaseRepository;
+
+        @Test
+        void reads() throws Exception {
+            when(reactiveTestCaseRepository.findById(anyString())).thenAnswer(invocation ->
+                    Mono.delay(Duration.ofMillis(REPOSITORY_LATENCY_MS))
+                            .map(tick -> TestCase.builder().id(invocation.getArgument(0)).title("Load").build()));
+            RESULTS.put("reactive", run(port));
+        }
+    }
+
+    static LoadResult run(int port) throws Exception {
+        HttpLoad.fire(port, CONCURRENCY, WARMUP_REQUESTS);
+        LoadResult result = HttpLoad.fire(port, CONCURRENCY, REQUESTS);
+        assertEquals(0, result.errors());
+        return result;
+    }
+}
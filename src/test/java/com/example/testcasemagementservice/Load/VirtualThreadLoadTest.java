@@ -0,0 +1,99 @@
+package com.example.testcasemagementservice.Load;
+
+import com.example.testcasemagementservice.Load.HttpLoad.LoadResult;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares GET /api/testcases/{id} throughput and latency on platform versus virtual request threads while
+ * the repository blocks for {@value #REPOSITORY_LATENCY_MS} ms, standing in for a synchronous Mongo round trip.
+ * Run with {@code mvn test -Dtest=VirtualThreadLoadTest -Dloadtest=true}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + VirtualThreadLoadTest.PLATFORM_THREADS,
+        "testcase.cache.enabled=false",
+        "testcase.indexes.mode=Off",
+        "logging.level.com.example.testcasemagementservice=WARN"
+})
+public class VirtualThreadLoadTest {
+
+    static final int PLATFORM_THREADS = 32;
+    static final long REPOSITORY_LATENCY_MS = 100;
+    private static final int CONCURRENCY = 512;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 10_000;
+
+    private static final Map<String, LoadResult> RESULTS = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void compare() {
+        RESULTS.forEach((mode, result) -> System.out.printf("%-8s %s%n", mode, result));
+        LoadResult platform = RESULTS.get("platform");
+        LoadResult virtual = RESULTS.get("virtual");
+        if (platform != null && virtual != null) {
+            assertTrue(virtual.throughput() > platform.throughput(),
+                    "virtual threads should out-serve " + PLATFORM_THREADS + " platform threads on blocking I/O");
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class PlatformThreads {
+
+        @LocalServerPort
+        int port;
+
+        @MockitoBean
+        TestCaseRepository testCaseRepository;
+
+        @Test
+        void blockingReads() throws Exception {
+            RESULTS.put("platform", run(port, testCaseRepository));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @LocalServerPort
+        int port;
+
+        @MockitoBean
+        TestCaseRepository testCaseRepository;
+
+        @Test
+        void blockingReads() throws Exception {
+            RESULTS.put("virtual", run(port, testCaseRepository));
+        }
+    }
+
+    static LoadResult run(int port, TestCaseRepository testCaseRepository) throws Exception {
+        when(testCaseRepository.findById(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(REPOSITORY_LATENCY_MS);
+            return Optional.of(TestCase.builder().id(invocation.getArgument(0)).title("Load").build());
+        });
+        HttpLoad.fire(port, CONCURRENCY, WARMUP_REQUESTS);
+        LoadResult result = HttpLoad.fire(port, CONCURRENCY, REQUESTS);
+        assertEquals(0, result.errors());
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Flakiness.OutcomeWindow;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DataMongoTest
+public class ExecutionResultRepositoryTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Autowired
+    private ExecutionResultRepository executionResultRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final long now = System.currentTimeMillis();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(ExecutionResult.class);
+        executionResultRepository.ensureCollection(Duration.ofDays(90));
+    }
+
+    @Test
+    void outcomeWindows_IncludesResultsUploadedAfterTheirExecutionWasAnalysed() {
+        // Arrange
+        Date analyzedUpTo = new Date(now - 2 * HOUR);
+        Date upTo = new Date(now - HOUR);
+        executionResultRepository.insertUnordered(List.of(
+                // Ran and arrived before the previous run, so already analysed
+                result("1", Status.Passed, now - 4 * HOUR, now - 4 * HOUR),
+                // Ran before the previous run but arrived after it
+                result("1", Status.Failed, now - 3 * HOUR, now - 90 * 60_000L),
+                result("1", Status.Passed, now - 100 * 60_000L, now - 80 * 60_000L),
+                // Arrives after this run's window
+                result("1", Status.Failed, now - 70 * 60_000L, now - 30 * 60_000L)));
+
+        // Act
+        Map<String, OutcomeWindow> windows = executionResultRepository.outcomeWindows(analyzedUpTo, upTo);
+
+        // Assert
+        assertEquals(new OutcomeWindow(0b10, 2), windows.get("1"));
+    }
+
+    @Test
+    void outcomeWindows_MatchesResultsWithoutReceivedOnByExecutedOn() {
+        // Arrange
+        executionResultRepository.insertUnordered(List.of(
+                result("1", Status.Failed, now - 90 * 60_000L, null),
+                result("1", Status.Failed, now - 3 * HOUR, null)));
+
+        // Act
+        Map<String, OutcomeWindow> windows = executionResultRepository.outcomeWindows(new Date(now - 2 * HOUR),
+                new Date(now - HOUR));
+
+        // Assert
+        assertEquals(new OutcomeWindow(0b1, 1), windows.get("1"));
+    }
+
+    private ExecutionResult result(String testCaseId, Status status, long executedOn, Long receivedOn) {
+        return ExecutionResult.builder()
+                .testCaseId(testCaseId)
+                .status(status)
+                .durationMillis(100L)
+                .executedOn(new Date(executedOn))
+                .receivedOn(receivedOn == null ? null : new Date(receivedOn))
+                .build();
+    }
+}
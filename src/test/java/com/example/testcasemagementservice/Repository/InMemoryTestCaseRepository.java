@@ -0,0 +1,230 @@
+package com.example.testcasemagementservice.Repository;
+
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Mapper.TestCaseMapper;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Map-backed stand-in for the Mongo repository, for load tests and benchmarks that should measure the
+ * service and web layers rather than the driver and the network. Supports the methods the servlet CRUD
+ * endpoints, the counters and the execution queue call, and enforces the unique title index; anything else
+ * throws.
+ */
+public final class InMemoryTestCaseRepository {
+
+    private final Map<String, TestCase> testCases = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByTitle = new ConcurrentHashMap<>();
+
+    private InMemoryTestCaseRepository() {
+    }
+
+    public static TestCaseRepository create() {
+        InMemoryTestCaseRepository store = new InMemoryTestCaseRepository();
+        return (TestCaseRepository) Proxy.newProxyInstance(TestCaseRepository.class.getClassLoader(),
+                new Class<?>[]{TestCaseRepository.class}, (proxy, method, args) -> store.invoke(method, args));
+    }
+
+    private Object invoke(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save" -> save((TestCase) args[0]);
+            case "findById" -> Optional.ofNullable(testCases.get((String) args[0]));
+            case "existsById" -> testCases.containsKey((String) args[0]);
+            case "delete" -> {
+                delete(((TestCase) args[0]).getId());
+                yield null;
+            }
+            case "deleteAll" -> {
+                testCases.clear();
+                idsByTitle.clear();
+                yield null;
+            }
+            case "count" -> (long) testCases.size();
+            case "patch" -> patch((String) args[0], (PatchTestCaseDto) args[1], (Date) args[2]);
+            case "triage" -> triage((String) args[0], (Priority) args[1], (String) args[2], (Date) args[3]);
+            case "claim" -> claim((Priority) args[0], (String) args[1], (String) args[2], (Date) args[3], (Date) args[4]);
+            case "renewLease" -> renewLease((String) args[0], (String) args[1], (Date) args[2]);
+            case "release" -> release((String) args[0], (String) args[1], (Status) args[2], (Date) args[3]);
+            case "requeueExpired" -> requeueExpired((Date) args[0]);
+            case "findAll" -> page((Pageable) args[0], testCase -> true);
+            case "findAllByStatus" -> page((Pageable) args[0], testCase -> testCase.getStatus() == args[1]);
+            case "findAllByPriority" -> page((Pageable) args[0], testCase -> testCase.getPriority() == args[1]);
+            case "findAllByStatusAndPriority" -> page((Pageable) args[0],
+                    testCase -> testCase.getStatus() == args[1] && testCase.getPriority() == args[2]);
+            case "countByStatusAndPriority" -> countByStatusAndPriority();
+            case "hashCode" -> System.identityHashCode(this);
+            case "equals" -> false;
+            case "toString" -> "InMemoryTestCaseRepository";
+            default -> throw new UnsupportedOperationException(method.getName() + " is not supported in memory");
+        };
+    }
+
+    private TestCase save(TestCase testCase) {
+        if (testCase.getId() == null) {
+            testCase.setId(new ObjectId().toHexString());
+            testCase.setVersion(0L);
+            if (testCase.getCreatedOn() == null) {
+                testCase.setCreatedOn(new Date());
+            }
+        }
+        String owner = idsByTitle.putIfAbsent(testCase.getTitle(), testCase.getId());
+        if (owner != null && !owner.equals(testCase.getId())) {
+            throw new DuplicateKeyException("Duplicate title: " + testCase.getTitle());
+        }
+        testCase.setUpdatedOn(new Date());
+        TestCase previous = testCases.put(testCase.getId(), testCase);
+        if (previous != null && !previous.getTitle().equals(testCase.getTitle())) {
+            idsByTitle.remove(previous.getTitle(), testCase.getId());
+        }
+        return testCase;
+    }
+
+    private void delete(String id) {
+        TestCase removed = testCases.remove(id);
+        if (removed != null) {
+            idsByTitle.remove(removed.getTitle(), id);
+        }
+    }
+
+    private Optional<TestCase> patch(String id, PatchTestCaseDto patch, Date updatedOn) {
+        TestCase previous = testCases.get(id);
+        if (previous == null || (patch.getVersion() != null && !Objects.equals(patch.getVersion(), previous.getVersion()))) {
+            return Optional.empty();
+        }
+        TestCase patched = TestCaseMapper.applyPatch(previous, patch, updatedOn);
+        if (!patched.getTitle().equals(previous.getTitle())) {
+            if (idsByTitle.putIfAbsent(patched.getTitle(), id) != null) {
+                throw new DuplicateKeyException("Duplicate title: " + patched.getTitle());
+            }
+            idsByTitle.remove(previous.getTitle(), id);
+        }
+        testCases.put(id, patched);
+        return Optional.of(previous);
+    }
+
+    private Optional<TestCase> triage(String id, Priority priority, String queue, Date slaDueOn) {
+        TestCase triaged = testCases.computeIfPresent(id, (key, testCase) -> testCase.getPriority() != priority
+                ? testCase
+                : testCase.toBuilder().queue(queue).slaDueOn(slaDueOn).version(testCase.getVersion() + 1).build());
+        return Optional.ofNullable(triaged).filter(testCase -> testCase.getPriority() == priority);
+    }
+
+    private Optional<TestCase> claim(Priority priority, String worker, String leaseId, Date claimedOn, Date leaseExpiresOn) {
+        List<TestCase> candidates = testCases.values().stream()
+                .filter(testCase -> testCase.getStatus() == Status.Pending && testCase.getPriority() == priority)
+                .sorted(Comparator.comparing(TestCase::getSlaDueOn, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(TestCase::getId))
+                .toList();
+        for (TestCase candidate : candidates) {
+            // compute is atomic per key, so of several claimers racing for one candidate only one sees it Pending
+            Optional<TestCase> previous = swap(candidate.getId(),
+                    testCase -> testCase.getStatus() == Status.Pending && testCase.getPriority() == priority,
+                    testCase -> testCase.toBuilder()
+                            .status(Status.InProgress)
+                            .claimedBy(worker)
+                            .leaseId(leaseId)
+                            .leaseExpiresOn(leaseExpiresOn)
+                            .updatedOn(claimedOn)
+                            .version(testCase.getVersion() + 1)
+                            .build());
+            if (previous.isPresent()) {
+                return previous;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean renewLease(String id, String leaseId, Date leaseExpiresOn) {
+        return swap(id, testCase -> holds(testCase, leaseId),
+                testCase -> testCase.toBuilder().leaseExpiresOn(leaseExpiresOn).version(testCase.getVersion() + 1).build()).isPresent();
+    }
+
+    private Optional<TestCase> release(String id, String leaseId, Status status, Date updatedOn) {
+        return swap(id, testCase -> holds(testCase, leaseId), testCase -> endLease(testCase, status, updatedOn));
+    }
+
+    private Optional<TestCase> requeueExpired(Date now) {
+        for (TestCase candidate : testCases.values()) {
+            Optional<TestCase> previous = swap(candidate.getId(),
+                    testCase -> testCase.getStatus() == Status.InProgress && testCase.getLeaseExpiresOn() != null
+                            && testCase.getLeaseExpiresOn().before(now),
+                    testCase -> endLease(testCase, Status.Pending, now));
+            if (previous.isPresent()) {
+                return previous;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<TestCase> swap(String id, Predicate<TestCase> condition, UnaryOperator<TestCase> update) {
+        TestCase[] previous = new TestCase[1];
+        testCases.computeIfPresent(id, (key, testCase) -> {
+            if (!condition.test(testCase)) {
+                return testCase;
+            }
+            previous[0] = testCase;
+            return update.apply(testCase);
+        });
+        return Optional.ofNullable(previous[0]);
+    }
+
+    private static boolean holds(TestCase testCase, String leaseId) {
+        return testCase.getStatus() == Status.InProgress && Objects.equals(testCase.getLeaseId(), leaseId);
+    }
+
+    private static TestCase endLease(TestCase testCase, Status status, Date updatedOn) {
+        return testCase.toBuilder()
+                .status(status)
+                .claimedBy(null)
+                .leaseId(null)
+                .leaseExpiresOn(null)
+                .updatedOn(updatedOn)
+                .version(testCase.getVersion() + 1)
+                .build();
+    }
+
+    private Page<TestCase> page(Pageable pageable, Predicate<TestCase> filter) {
+        List<TestCase> matching = testCases.values().stream().filter(filter).toList();
+        List<TestCase> content = matching.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, matching.size());
+    }
+
+    private List<StatusPriorityCountDto> countByStatusAndPriority() {
+        return testCases.values().stream()
+                .collect(Collectors.groupingBy(testCase -> new Cell(testCase.getStatus(), testCase.getPriority()),
+                        Collectors.counting()))
+                .entrySet().stream()
+                .map(entry -> StatusPriorityCountDto.builder()
+                        .status(entry.getKey().status())
+                        .priority(entry.getKey().priority())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    private record Cell(Status status, Priority priority) {
+    }
+}
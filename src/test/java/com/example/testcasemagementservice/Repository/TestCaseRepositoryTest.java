@@ -1,29 +1,57 @@
 package com.example.testcasemagementservice.Repository;
 
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TestCaseSummaryDto;
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
 import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
 import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Mapper.TestCaseMapper;
+import com.example.testcasemagementservice.Model.ResultHistory;
 import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Pagination.CursorToken;
+import com.example.testcasemagementservice.Search.TestCaseTitleIndex;
+import com.example.testcasemagementservice.Tag.TagExpression;
+import com.example.testcasemagementservice.Tag.Tags;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
-@DataMongoTest
+@DataMongoTest(properties = "spring.data.mongodb.auto-index-creation=true")
 public class TestCaseRepositoryTest {
 
     @Autowired
     private TestCaseRepository testCaseRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     private TestCase testCase1, testCase2;
 
     @BeforeEach
@@ -105,6 +133,422 @@ public class TestCaseRepositoryTest {
         assertEquals(Status.Pending, pendingCases.getContent().get(0).getStatus());
     }
 
+    @Test
+    void findAllByStatus_WithSummaryProjection_ReturnsSummaryFields() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // Act
+        Page<TestCaseSummaryDto> summaries = testCaseRepository.findAllByStatus(pageable, Status.Pending, TestCaseSummaryDto.class);
+
+        // Assert
+        assertEquals(1, summaries.getTotalElements());
+        assertEquals(testCase1.getId(), summaries.getContent().get(0).getId());
+        assertEquals("Test Case 1", summaries.getContent().get(0).getTitle());
+        assertEquals(Priority.High, summaries.getContent().get(0).getPriority());
+    }
+
+    @Test
+    void findSlice_WalksAllTestCasesInKeyOrder() {
+        // Act
+        Slice<TestCase> first = testCaseRepository.findSlice(null, null, CursorSort.CreatedOn, null, 1);
+        CursorToken after = CursorToken.after(first.getContent().get(0), CursorSort.CreatedOn);
+        Slice<TestCase> second = testCaseRepository.findSlice(null, null, CursorSort.CreatedOn, after, 1);
+
+        // Assert
+        assertTrue(first.hasNext());
+        assertEquals("Test Case 1", first.getContent().get(0).getTitle());
+        assertFalse(second.hasNext());
+        assertEquals("Test Case 2", second.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void countByStatusAndPriority_GroupsAllTestCases() {
+        // Act
+        List<StatusPriorityCountDto> counts = testCaseRepository.countByStatusAndPriority(StatisticsBucket.None, null, null);
+
+        // Assert
+        assertEquals(2, counts.size());
+        assertTrue(counts.stream().anyMatch(count -> count.getStatus() == Status.Pending
+                && count.getPriority() == Priority.High && count.getCount() == 1));
+    }
+
+    @Test
+    void patch_WhenVersionMatches_ReturnsPreviousAndIncrementsVersion() {
+        // Arrange
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Passed).version(testCase1.getVersion()).build();
+        Date updatedOn = new Date();
+
+        // Act
+        Optional<TestCase> previous = testCaseRepository.patch(testCase1.getId(), patch, updatedOn);
+
+        // Assert
+        assertTrue(previous.isPresent());
+        assertEquals(Status.Pending, previous.get().getStatus());
+        TestCase stored = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        assertEquals(Status.Passed, stored.getStatus());
+        assertEquals("Sample description 1", stored.getDescription());
+        assertEquals(testCase1.getVersion() + 1, stored.getVersion());
+    }
+
+    @Test
+    void patch_StoresWhatApplyPatchDerivesForEveryPatchableField() {
+        // Arrange
+        Date claimedOn = new Date();
+        testCaseRepository.claim(Priority.High, "worker-1", "lease-1", claimedOn, new Date(claimedOn.getTime() + 60_000));
+        TestCase claimed = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        PatchTestCaseDto patch = PatchTestCaseDto.builder()
+                .title("Patched Title")
+                .description("Patched description")
+                .priority(Priority.Low)
+                .status(Status.Failed)
+                .suitePath("Payments/Checkout")
+                .tags(List.of("Team:Checkout", "smoke"))
+                .version(claimed.getVersion())
+                .build();
+        // A field added to the patch without a case here would otherwise go unchecked
+        BeanWrapperImpl fields = new BeanWrapperImpl(patch);
+        for (Field field : PatchTestCaseDto.class.getDeclaredFields()) {
+            if (field.isSynthetic()) {
+                continue;
+            }
+            assertNotNull(fields.getPropertyValue(field.getName()), field.getName() + " is not set by this test");
+        }
+        Date updatedOn = new Date();
+
+        // Act
+        TestCase previous = testCaseRepository.patch(testCase1.getId(), patch, updatedOn).orElseThrow();
+
+        // Assert
+        assertEquals(TestCaseMapper.applyPatch(previous, patch, updatedOn),
+                testCaseRepository.findById(testCase1.getId()).orElseThrow());
+    }
+
+    @Test
+    void patch_WhenVersionIsStale_LeavesDocumentUnchanged() {
+        // Arrange
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Passed).version(testCase1.getVersion() + 1).build();
+
+        // Act
+        Optional<TestCase> previous = testCaseRepository.patch(testCase1.getId(), patch, new Date());
+
+        // Assert
+        assertTrue(previous.isEmpty());
+        assertEquals(Status.Pending, testCaseRepository.findById(testCase1.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateStatus_OnlyMovesTestCasesStillInSourceStatus() {
+        // Arrange
+        Date updatedOn = new Date();
+
+        // Act
+        long modified = testCaseRepository.updateStatus(List.of(testCase1.getId(), testCase2.getId()),
+                Status.InProgress, Priority.Low, Status.Failed, updatedOn);
+
+        // Assert
+        assertEquals(1, modified);
+        assertEquals(Status.Pending, testCaseRepository.findById(testCase1.getId()).orElseThrow().getStatus());
+        TestCase moved = testCaseRepository.findStatesByIds(List.of(testCase2.getId())).get(0);
+        assertEquals(Status.Failed, moved.getStatus());
+        assertEquals(updatedOn, moved.getUpdatedOn());
+        assertNull(moved.getTitle());
+    }
+
+    @Test
+    void claim_TakesEarliestSlaOfPriorityOnlyOnce() {
+        // Arrange
+        Date now = new Date();
+        TestCase urgent = testCaseRepository.save(TestCase.builder()
+                .title("Urgent")
+                .priority(Priority.High)
+                .status(Status.Pending)
+                .slaDueOn(new Date(now.getTime() - 1000))
+                .build());
+        testCaseRepository.deleteById(testCase1.getId());
+
+        // Act
+        Optional<TestCase> first = testCaseRepository.claim(Priority.High, "worker-1", "lease-1", now, new Date(now.getTime() + 60_000));
+        Optional<TestCase> second = testCaseRepository.claim(Priority.High, "worker-2", "lease-2", now, new Date(now.getTime() + 60_000));
+
+        // Assert
+        assertEquals(urgent.getId(), first.orElseThrow().getId());
+        assertEquals(Status.Pending, first.get().getStatus());
+        assertTrue(second.isEmpty());
+        TestCase claimed = testCaseRepository.findById(urgent.getId()).orElseThrow();
+        assertEquals(Status.InProgress, claimed.getStatus());
+        assertEquals("worker-1", claimed.getClaimedBy());
+        assertEquals("lease-1", claimed.getLeaseId());
+    }
+
+    @Test
+    void release_WhenLeaseWasRequeuedAndReclaimed_RejectsStaleLease() {
+        // Arrange
+        Date claimedOn = new Date(System.currentTimeMillis() - 60_000);
+        testCaseRepository.claim(Priority.High, "worker-1", "lease-1", claimedOn, new Date(claimedOn.getTime() + 1000));
+        Optional<TestCase> expired = testCaseRepository.requeueExpired(new Date());
+        Date now = new Date();
+        testCaseRepository.claim(Priority.High, "worker-2", "lease-2", now, new Date(now.getTime() + 60_000));
+
+        // Act
+        boolean renewed = testCaseRepository.renewLease(testCase1.getId(), "lease-1", new Date(now.getTime() + 120_000));
+        Optional<TestCase> stale = testCaseRepository.release(testCase1.getId(), "lease-1", Status.Passed, now);
+        Optional<TestCase> current = testCaseRepository.release(testCase1.getId(), "lease-2", Status.Failed, now);
+
+        // Assert
+        assertEquals("lease-1", expired.orElseThrow().getLeaseId());
+        assertFalse(renewed);
+        assertTrue(stale.isEmpty());
+        assertEquals("lease-2", current.orElseThrow().getLeaseId());
+        TestCase completed = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        assertEquals(Status.Failed, completed.getStatus());
+        assertNull(completed.getLeaseId());
+        assertNull(completed.getLeaseExpiresOn());
+    }
+
+    @Test
+    void patch_WhenStatusSetOutsideLease_EndsLease() {
+        // Arrange
+        Date claimedOn = new Date(System.currentTimeMillis() - 60_000);
+        testCaseRepository.claim(Priority.High, "worker-1", "lease-1", claimedOn, new Date(claimedOn.getTime() + 1000));
+
+        // Act
+        testCaseRepository.patch(testCase1.getId(), PatchTestCaseDto.builder().status(Status.Failed).build(), new Date());
+        testCaseRepository.patch(testCase1.getId(), PatchTestCaseDto.builder().status(Status.InProgress).build(), new Date());
+        Optional<TestCase> requeued = testCaseRepository.requeueExpired(new Date());
+        Optional<TestCase> stale = testCaseRepository.release(testCase1.getId(), "lease-1", Status.Passed, new Date());
+
+        // Assert
+        assertTrue(requeued.isEmpty());
+        assertTrue(stale.isEmpty());
+        TestCase stored = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        assertEquals(Status.InProgress, stored.getStatus());
+        assertNull(stored.getClaimedBy());
+        assertNull(stored.getLeaseId());
+        assertNull(stored.getLeaseExpiresOn());
+    }
+
+    @Test
+    void updateStatus_EndsLease() {
+        // Arrange
+        Date now = new Date();
+        testCaseRepository.claim(Priority.High, "worker-1", "lease-1", now, new Date(now.getTime() + 60_000));
+
+        // Act
+        long updated = testCaseRepository.updateStatus(List.of(testCase1.getId()), Status.InProgress, Priority.High, Status.Failed, now);
+
+        // Assert
+        assertEquals(1, updated);
+        TestCase stored = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        assertNull(stored.getLeaseId());
+        assertNull(stored.getLeaseExpiresOn());
+        assertFalse(testCaseRepository.renewLease(testCase1.getId(), "lease-1", new Date(now.getTime() + 120_000)));
+    }
+
+    @Test
+    void search_RanksByRelevanceWithinFilter() {
+        // Arrange
+        testCaseRepository.save(TestCase.builder()
+                .title("Checkout payment")
+                .description("Payment with saved card")
+                .priority(Priority.High)
+                .status(Status.Pending)
+                .build());
+
+        // Act
+        List<TestCaseSearchHitDto> hits = testCaseRepository.search("payment", Status.Pending, null, 0, 10);
+        List<TestCaseSearchHitDto> filteredOut = testCaseRepository.search("payment", Status.Passed, null, 0, 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals("Checkout payment", hits.get(0).getTitle());
+        assertTrue(hits.get(0).getScore() > 0);
+        assertTrue(filteredOut.isEmpty());
+    }
+
+    @Test
+    void findTitleSuggestions_MatchesTheTitleIndex() {
+        // Arrange
+        for (String title : List.of("Login page", "User login", "Logout flow", "Checkout LOGIN retry", "Blog post")) {
+            testCaseRepository.save(TestCase.builder().title(title).priority(Priority.Low).status(Status.Pending).build());
+        }
+        TestCaseTitleIndex index = new TestCaseTitleIndex(testCaseRepository, true);
+        index.seed();
+
+        for (String query : List.of("log", "LOG", "Login", "user log", "login re", "test case", "case 1", "blo")) {
+            // Act
+            List<TitleSuggestionDto> fallback = testCaseRepository.findTitleSuggestions(TestCaseTitleIndex.tokenize(query), 10);
+
+            // Assert
+            assertEquals(index.suggest(query, 10), fallback, query);
+        }
+        assertEquals(List.of("Checkout LOGIN retry", "Login page", "User login", "Logout flow"),
+                testCaseRepository.findTitleSuggestions(List.of("log"), 10).stream().map(TitleSuggestionDto::getTitle).toList());
+    }
+
+    @Test
+    void findExistingIds_ReturnsOnlyStoredIds() {
+        // Act
+        Set<String> existing = testCaseRepository.findExistingIds(List.of(testCase1.getId(), new ObjectId().toHexString()));
+
+        // Assert
+        assertEquals(Set.of(testCase1.getId()), existing);
+    }
+
+    @Test
+    void renewLeaseAndTriage_IncrementVersion() {
+        // Arrange
+        Date now = new Date();
+        testCaseRepository.claim(Priority.High, "worker-1", "lease-1", now, new Date(now.getTime() + 60_000));
+        long claimedVersion = testCaseRepository.findById(testCase1.getId()).orElseThrow().getVersion();
+
+        // Act
+        boolean renewed = testCaseRepository.renewLease(testCase1.getId(), "lease-1", new Date(now.getTime() + 120_000));
+        Optional<TestCase> triaged = testCaseRepository.triage(testCase1.getId(), Priority.High, "critical", now);
+        Optional<TestCase> stale = testCaseRepository.triage(testCase1.getId(), Priority.Low, "backlog", now);
+
+        // Assert
+        assertTrue(renewed);
+        assertEquals(claimedVersion + 2, triaged.orElseThrow().getVersion());
+        assertEquals("critical", triaged.get().getQueue());
+        assertEquals(new Date(now.getTime() + 120_000), triaged.get().getLeaseExpiresOn());
+        assertTrue(stale.isEmpty());
+        assertEquals(claimedVersion + 2, testCaseRepository.findById(testCase1.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void updateFlakiness_SkipsHistoryAlreadyAtSameCheckpoint() {
+        // Arrange
+        Date analyzedUpTo = new Date();
+        TestCase update = TestCase.builder()
+                .id(testCase1.getId())
+                .flakiness(0.5)
+                .resultHistory(ResultHistory.builder().outcomes(0b1010).runs(4).flipRate(0.5).analyzedUpTo(analyzedUpTo).build())
+                .build();
+
+        // Act
+        long first = testCaseRepository.updateFlakiness(List.of(update));
+        long repeated = testCaseRepository.updateFlakiness(List.of(update));
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(0, repeated);
+        TestCase stored = testCaseRepository.findById(testCase1.getId()).orElseThrow();
+        assertEquals(0.5, stored.getFlakiness());
+        assertEquals(4, stored.getResultHistory().getRuns());
+        // Only the first write changed the test case, so only it bumps the version
+        assertEquals(testCase1.getVersion() + 1, stored.getVersion());
+        assertEquals(List.of(testCase1.getId()), testCaseRepository
+                .findByFlakinessGreaterThanEqualOrderByFlakinessDesc(0.2, Limit.of(10)).stream().map(TestCase::getId).toList());
+    }
+
+    @Test
+    void moveSuite_ReRootsSubtreeOnly() {
+        // Arrange
+        TestCase card = testCaseRepository.save(TestCase.builder().title("Card").status(Status.Failed).suitePath("/Payments/Checkout/Cards/").build());
+        TestCase sibling = testCaseRepository.save(TestCase.builder().title("Sibling").status(Status.Failed).suitePath("/Payments/CheckoutV2/").build());
+
+        // Act
+        List<String> moved = testCaseRepository.moveSuite("/Payments/Checkout/", "/Billing/Checkout/", new Date(), 10);
+        List<String> nothingLeft = testCaseRepository.moveSuite("/Payments/Checkout/", "/Billing/Checkout/", new Date(), 10);
+
+        // Assert
+        assertEquals(List.of(card.getId()), moved);
+        assertTrue(nothingLeft.isEmpty());
+        TestCase movedCard = testCaseRepository.findById(card.getId()).orElseThrow();
+        assertEquals("/Billing/Checkout/Cards/", movedCard.getSuitePath());
+        assertEquals(card.getVersion() + 1, movedCard.getVersion());
+        assertEquals("/Payments/CheckoutV2/", testCaseRepository.findById(sibling.getId()).orElseThrow().getSuitePath());
+        assertEquals(List.of("/Billing/Checkout/Cards/"), testCaseRepository.findSuitePaths("/Billing/"));
+        assertEquals(1, testCaseRepository.findFiltered("/Billing/", null, Status.Failed, null, PageRequest.of(0, 10), TestCase.class).getTotalElements());
+        assertEquals(1, testCaseRepository.countByStatusAndPriorityInSuite("/Payments/").get(0).getCount());
+    }
+
+    @Test
+    void findFiltered_WithTagExpression_MatchesAnyGroupHavingEveryTag() {
+        // Arrange
+        TestCase checkoutStaging = testCaseRepository.save(tagged("Checkout staging", Status.Failed, "env:staging", "team:checkout"));
+        TestCase checkoutProd = testCaseRepository.save(tagged("Checkout prod", Status.Failed, "env:prod", "team:checkout"));
+        TestCase payments = testCaseRepository.save(tagged("Payments", Status.Passed, "env:prod", "team:payments", "flaky"));
+
+        // Act
+        Page<TestCase> staging = testCaseRepository.findFiltered(null, TagExpression.parse("team:checkout,env:staging"),
+                Status.Failed, null, PageRequest.of(0, 10), TestCase.class);
+        Page<TestCase> either = testCaseRepository.findFiltered(null, TagExpression.parse("env:staging|team:payments,env:prod,flaky"),
+                null, null, PageRequest.of(0, 10), TestCase.class);
+        Page<TestCase> singles = testCaseRepository.findFiltered(null, TagExpression.parse("env:prod|env:staging"),
+                null, null, PageRequest.of(0, 10), TestCase.class);
+
+        // Assert
+        assertEquals(List.of(checkoutStaging.getId()), staging.map(TestCase::getId).getContent());
+        assertEquals(Set.of(checkoutStaging.getId(), payments.getId()), Set.copyOf(either.map(TestCase::getId).getContent()));
+        assertEquals(3, singles.getTotalElements());
+        assertEquals(List.of("env:prod,team:checkout"), testCaseRepository.findById(checkoutProd.getId()).orElseThrow().getTagPairs());
+    }
+
+    @Test
+    void countByTag_CountsMatchingTagsMostUsedFirst() {
+        // Arrange
+        testCaseRepository.save(tagged("Checkout staging", Status.Failed, "env:staging", "team:checkout"));
+        testCaseRepository.save(tagged("Checkout prod", Status.Failed, "env:prod", "team:checkout"));
+
+        // Act
+        List<TagCountDto> all = testCaseRepository.countByTag(null);
+        List<TagCountDto> environments = testCaseRepository.countByTag("env:");
+
+        // Assert
+        assertEquals("team:checkout", all.get(0).getTag());
+        assertEquals(2, all.get(0).getCount());
+        assertEquals(3, all.size());
+        assertEquals(Set.of("env:prod", "env:staging"), Set.copyOf(environments.stream().map(TagCountDto::getTag).toList()));
+    }
+
+    @Test
+    void findVersionById_ReadsOnlyTaggedFields() {
+        // Act
+        TestCaseVersionDto version = testCaseRepository.findVersionById(testCase1.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(testCase1.getId(), version.getId());
+        assertEquals(testCase1.getVersion(), version.getVersion());
+        assertTrue(testCaseRepository.findVersionById(new ObjectId().toHexString()).isEmpty());
+    }
+
+    @Test
+    void moveSuite_WhenTestCaseHasNoVersion_StartsVersioningIt() {
+        // Arrange
+        String id = new ObjectId().toHexString();
+        mongoTemplate.insert(new Document("_id", new ObjectId(id)).append("title", "Unversioned")
+                .append("status", Status.Failed.name()).append("suitePath", "/Legacy/"), "testcases");
+
+        // Act
+        testCaseRepository.moveSuite("/Legacy/", "/Billing/", new Date(), 10);
+        Optional<TestCase> patched = testCaseRepository.patch(id, PatchTestCaseDto.builder().status(Status.Passed).build(), new Date());
+
+        // Assert
+        assertTrue(patched.isPresent());
+        TestCase stored = testCaseRepository.findById(id).orElseThrow();
+        assertEquals("/Billing/", stored.getSuitePath());
+        assertEquals(2L, stored.getVersion());
+    }
+
+    @Test
+    void patch_WhenUnversionedAndExpectedVersionZero_Applies() {
+        // Arrange
+        String id = new ObjectId().toHexString();
+        mongoTemplate.insert(new Document("_id", new ObjectId(id)).append("title", "Unversioned")
+                .append("status", Status.Pending.name()), "testcases");
+
+        // Act
+        Optional<TestCase> patched = testCaseRepository.patch(id, PatchTestCaseDto.builder().status(Status.Passed).version(0L).build(), new Date());
+        Optional<TestCase> stale = testCaseRepository.patch(id, PatchTestCaseDto.builder().status(Status.Failed).version(0L).build(), new Date());
+
+        // Assert
+        assertTrue(patched.isPresent());
+        assertTrue(stale.isEmpty());
+        assertEquals(1L, testCaseRepository.findById(id).orElseThrow().getVersion());
+    }
+
     @Test
     void existsByTitle_WhenExists_ReturnsTrue() {
         // Act
@@ -122,4 +566,9 @@ public class TestCaseRepositoryTest {
         // Assert
         assertFalse(exists);
     }
+
+    private TestCase tagged(String title, Status status, String... tags) {
+        List<String> normalized = Tags.normalize(List.of(tags));
+        return TestCase.builder().title(title).status(status).tags(normalized).tagPairs(Tags.pairs(normalized)).build();
+    }
 }
@@ -0,0 +1,108 @@
+package com.example.testcasemagementservice.Search;
+
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseTitleIndexTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private TestCaseTitleIndex testCaseTitleIndex;
+
+    @BeforeEach
+    void setUp() {
+        testCaseTitleIndex = new TestCaseTitleIndex(testCaseRepository, true);
+    }
+
+    @Test
+    public void suggest_WithSingleWord_MatchesAnyTitleWordByPrefix() {
+        // Arrange
+        seed(titled("1", "Login with SSO"), titled("2", "Checkout flow"), titled("3", "Logout clears session"));
+
+        // Act
+        List<TitleSuggestionDto> suggestions = testCaseTitleIndex.suggest("LOG", 10);
+
+        // Assert
+        assertTrue(testCaseTitleIndex.isReady());
+        assertEquals(List.of("Login with SSO", "Logout clears session"),
+                suggestions.stream().map(TitleSuggestionDto::getTitle).toList());
+    }
+
+    @Test
+    public void suggest_WithSeveralWords_RequiresEveryWord() {
+        // Arrange
+        seed(titled("1", "Login with SSO"), titled("2", "Login with password"), titled("3", "Password reset"));
+
+        // Act
+        List<TitleSuggestionDto> suggestions = testCaseTitleIndex.suggest("login pass", 10);
+
+        // Assert
+        assertEquals(1, suggestions.size());
+        assertEquals("2", suggestions.get(0).getId());
+    }
+
+    @Test
+    public void onTestCaseChanged_WhenTitleChanges_ReplacesOldWords() {
+        // Arrange
+        TestCase before = titled("1", "Login with SSO");
+        seed(before);
+
+        // Act
+        testCaseTitleIndex.onTestCaseChanged(TestCaseChangedEvent.updated(before, titled("1", "Signup with SSO")));
+
+        // Assert
+        assertTrue(testCaseTitleIndex.suggest("login", 10).isEmpty());
+        assertEquals("Signup with SSO", testCaseTitleIndex.suggest("sign", 10).get(0).getTitle());
+    }
+
+    @Test
+    public void onTestCaseChanged_WhenDeleted_DropsSuggestion() {
+        // Arrange
+        TestCase testCase = titled("1", "Login with SSO");
+        seed(testCase);
+
+        // Act
+        testCaseTitleIndex.onTestCaseChanged(TestCaseChangedEvent.deleted(testCase));
+
+        // Assert
+        assertTrue(testCaseTitleIndex.suggest("sso", 10).isEmpty());
+    }
+
+    @Test
+    public void isReady_WhenDisabled_ReturnsFalse() {
+        // Arrange
+        TestCaseTitleIndex disabled = new TestCaseTitleIndex(testCaseRepository, false);
+
+        // Act
+        disabled.onApplicationReady();
+
+        // Assert
+        assertFalse(disabled.isReady());
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    private void seed(TestCase... testCases) {
+        when(testCaseRepository.streamTitles(anyInt())).thenReturn(Stream.of(testCases));
+        testCaseTitleIndex.seed();
+    }
+
+    private TestCase titled(String id, String title) {
+        return TestCase.builder().id(id).title(title).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.testcasemagementservice.Seeding;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseSeederTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(), new MediumPriorityStrategy(),
+            new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    @Test
+    public void seed_InsertsInBatchesAndCountsRejectedTitles() {
+        // Arrange
+        List<Integer> batchSizes = new ArrayList<>();
+        when(testCaseRepository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            List<TestCase> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            assertTrue(batch.stream().allMatch(testCase -> testCase.getId() != null && testCase.getVersion() == 0L
+                    && testCase.getQueue() != null));
+            return batchSizes.size() == 1 ? Set.of(0, 1) : Set.of();
+        });
+        TestCaseSeeder seeder = new TestCaseSeeder(testCaseRepository, priorityContext, 25, 10, 42);
+
+        // Act
+        long inserted = seeder.seed();
+
+        // Assert
+        assertEquals(List.of(10, 10, 5), batchSizes);
+        assertEquals(23, inserted);
+    }
+
+    @Test
+    public void run_WhenCountIsZero_DoesNothing() {
+        // Act
+        new TestCaseSeeder(testCaseRepository, priorityContext, 0, 10, 42).run(null);
+
+        // Assert
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    public void next_WithSameSeed_RepeatsTitlesAndSkewsTowardsPassingLowPriority() {
+        // Arrange
+        TestCaseGenerator generator = new TestCaseGenerator(7);
+        TestCaseGenerator replay = new TestCaseGenerator(7);
+        Map<Status, Integer> statuses = new EnumMap<>(Status.class);
+        Map<Priority, Integer> priorities = new EnumMap<>(Priority.class);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            TestCase testCase = generator.next(i);
+            assertEquals(testCase.getTitle(), replay.next(i).getTitle());
+            assertFalse(testCase.getUpdatedOn().before(testCase.getCreatedOn()));
+            statuses.merge(testCase.getStatus(), 1, Integer::sum);
+            priorities.merge(testCase.getPriority(), 1, Integer::sum);
+        }
+
+        // Assert
+        assertTrue(statuses.get(Status.Passed) > 5_000);
+        assertTrue(statuses.get(Status.Failed) < statuses.get(Status.Pending));
+        assertTrue(priorities.get(Priority.Low) > priorities.get(Priority.Medium));
+        assertTrue(priorities.get(Priority.Medium) > priorities.get(Priority.High));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.ExecutionResultDto;
+import com.example.testcasemagementservice.DTO.ExecutionStatisticsDto;
+import com.example.testcasemagementservice.DTO.RejectedResultDto;
+import com.example.testcasemagementservice.DTO.ResultIngestionDto;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TrendUnit;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.ExecutionResult;
+import com.example.testcasemagementservice.Repository.ExecutionResultRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExecutionResultServiceTest {
+
+    @Mock
+    private ExecutionResultRepository executionResultRepository;
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private ExecutionResultService executionResultService;
+
+    @BeforeEach
+    void setUp() {
+        executionResultService = new ExecutionResultService(executionResultRepository, testCaseRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, Duration.ofDays(90), Duration.ofDays(30));
+    }
+
+    @Test
+    void ingest_StoresValidResultsAndReportsRejections() {
+        // Arrange
+        List<ExecutionResultDto> results = new ArrayList<>();
+        results.add(result("1", Status.Passed));
+        results.add(result("missing", Status.Failed));
+        results.add(result("1", Status.Pending));
+        results.add(ExecutionResultDto.builder().testCaseId("1").status(Status.Passed).durationMillis(-1L).build());
+        results.add(result("2", Status.Failed));
+        when(testCaseRepository.findExistingIds(anyCollection())).thenReturn(Set.of("1", "2"));
+        List<ExecutionResult> stored = capturingInsert();
+
+        // Act
+        ResultIngestionDto ingestion = executionResultService.ingest(results);
+
+        // Assert
+        assertEquals(2, ingestion.getAccepted());
+        assertEquals(3, ingestion.getRejected());
+        assertEquals(List.of(1L, 2L, 3L), ingestion.getRejections().stream().map(RejectedResultDto::getIndex).toList());
+        assertEquals("Test case not found with id: missing", ingestion.getRejections().get(0).getMessage());
+        assertEquals("Status must be Passed or Failed", ingestion.getRejections().get(1).getMessage());
+        assertEquals("Duration must not be negative", ingestion.getRejections().get(2).getMessage());
+        assertEquals(List.of("1", "2"), stored.stream().map(ExecutionResult::getTestCaseId).toList());
+        assertTrue(stored.stream().allMatch(result -> result.getExecutedOn() != null));
+        verify(executionResultRepository, times(1)).ensureCollection(Duration.ofDays(90));
+    }
+
+    @Test
+    void ingest_ChecksTestCasesOncePerChunk() {
+        // Arrange
+        when(testCaseRepository.findExistingIds(anyCollection())).thenReturn(Set.of("1"));
+        List<ExecutionResult> stored = capturingInsert();
+
+        // Act
+        ResultIngestionDto ingestion = executionResultService.ingest(IntStream.range(0, 5)
+                .mapToObj(i -> result("1", Status.Passed))
+                .iterator());
+
+        // Assert
+        assertEquals(5, ingestion.getAccepted());
+        assertEquals(5, stored.size());
+        verify(testCaseRepository, times(3)).findExistingIds(Set.of("1"));
+        verify(executionResultRepository, times(3)).insertUnordered(anyList());
+    }
+
+    @Test
+    void ingest_CapsReportedRejections() {
+        // Act
+        ResultIngestionDto ingestion = executionResultService.ingest(IntStream.range(0, 1500)
+                .mapToObj(i -> ExecutionResultDto.builder().build())
+                .iterator());
+
+        // Assert
+        assertEquals(1500, ingestion.getRejected());
+        assertEquals(1000, ingestion.getRejections().size());
+        verify(testCaseRepository, never()).findExistingIds(anyCollection());
+        verify(executionResultRepository, never()).insertUnordered(anyList());
+    }
+
+    @Test
+    void ingest_KeepsExecutedOnWhenGiven() {
+        // Arrange
+        Date executedOn = new Date(1_700_000_000_000L);
+        when(testCaseRepository.findExistingIds(anyCollection())).thenReturn(Set.of("1"));
+        List<ExecutionResult> stored = capturingInsert();
+
+        // Act
+        executionResultService.ingest(List.of(ExecutionResultDto.builder()
+                .testCaseId("1")
+                .runId("run-7")
+                .status(Status.Passed)
+                .durationMillis(1200L)
+                .executedOn(executedOn)
+                .build()));
+
+        // Assert
+        assertEquals(executedOn, stored.get(0).getExecutedOn());
+        assertEquals("run-7", stored.get(0).getRunId());
+    }
+
+    @Test
+    void ingest_StampsReceivedOnForResultsUploadedLate() {
+        // Arrange
+        Date executedOn = new Date(System.currentTimeMillis() - Duration.ofDays(1).toMillis());
+        when(testCaseRepository.findExistingIds(anyCollection())).thenReturn(Set.of("1"));
+        List<ExecutionResult> stored = capturingInsert();
+
+        // Act
+        executionResultService.ingest(List.of(ExecutionResultDto.builder()
+                .testCaseId("1")
+                .runId("run-8")
+                .status(Status.Failed)
+                .durationMillis(900L)
+                .executedOn(executedOn)
+                .build()));
+
+        // Assert
+        assertEquals(executedOn, stored.get(0).getExecutedOn());
+        assertTrue(stored.get(0).getReceivedOn().getTime() - executedOn.getTime() >= Duration.ofDays(1).toMillis());
+    }
+
+    @Test
+    void statistics_DefaultsToWindowEndingNow() {
+        // Arrange
+        ArgumentCaptor<Date> from = ArgumentCaptor.forClass(Date.class);
+        ArgumentCaptor<Date> to = ArgumentCaptor.forClass(Date.class);
+        ExecutionStatisticsDto statistics = ExecutionStatisticsDto.builder().total(4).passed(3).failed(1).passRate(0.75).build();
+        when(executionResultRepository.statistics(eq("1"), from.capture(), to.capture())).thenReturn(Optional.of(statistics));
+
+        // Act
+        Optional<ExecutionStatisticsDto> result = executionResultService.statistics("1", null, null);
+
+        // Assert
+        assertEquals(Optional.of(statistics), result);
+        assertEquals(Duration.ofDays(30).toMillis(), to.getValue().getTime() - from.getValue().getTime());
+    }
+
+    @Test
+    void trend_WithInvertedRange_Throws() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class,
+                () -> executionResultService.trend("1", TrendUnit.Day, new Date(2_000), new Date(1_000)));
+        verify(executionResultRepository, never()).trend(any(), any(), any(), any());
+    }
+
+    @Test
+    void lastResults_WithLimitOutOfRange_Throws() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> executionResultService.lastResults("1", 0));
+        assertThrows(InvalidDataException.class, () -> executionResultService.lastResults("1", 1001));
+    }
+
+    private List<ExecutionResult> capturingInsert() {
+        List<ExecutionResult> stored = new ArrayList<>();
+        doAnswer(invocation -> stored.addAll(invocation.getArgument(0)))
+                .when(executionResultRepository).insertUnordered(anyList());
+        return stored;
+    }
+
+    private ExecutionResultDto result(String testCaseId, Status status) {
+        return ExecutionResultDto.builder()
+                .testCaseId(testCaseId)
+                .status(status)
+                .durationMillis(1200L)
+                .build();
+    }
+}
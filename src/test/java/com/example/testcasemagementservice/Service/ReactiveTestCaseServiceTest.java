@@ -0,0 +1,208 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Exceptions.DuplicateResourceException;
+import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Exceptions.VersionConflictException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.ReactiveTestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTestCaseServiceTest {
+
+    @Mock
+    private ReactiveTestCaseRepository testCaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TestCaseCache testCaseCache = new TestCaseCache(true, 100, Duration.ofMinutes(5));
+
+    @Spy
+    private PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    @InjectMocks
+    private ReactiveTestCaseService testCaseService;
+
+    @Test
+    public void createTestCase_WhenTestCaseExists_ErrorsWithDuplicateResourceException() {
+        // Arrange
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").priority(Priority.High).build();
+        when(testCaseRepository.save(any(TestCase.class))).thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.createTestCase(testCaseDto))
+                .expectError(DuplicateResourceException.class)
+                .verify();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void createTestCase_WhenTestCaseDoesNotExist_SavesAndPublishesEvent() {
+        // Arrange
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder()
+                .title("Mock Title")
+                .priority(Priority.Low)
+                .status(Status.Pending)
+                .build();
+        when(testCaseRepository.save(any(TestCase.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.<TestCase>getArgument(0).toBuilder().id("1").build()));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.createTestCase(testCaseDto))
+                .assertNext(testCase -> {
+                    assertEquals("1", testCase.getId());
+                    assertEquals("Mock Title", testCase.getTitle());
+                })
+                .verifyComplete();
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) -> event.getBefore() == null
+                && "1".equals(event.getAfter().getId())));
+    }
+
+    @Test
+    public void getTestCaseById_WhenTestCaseDoesNotExist_ErrorsWithResourceNotFoundException() {
+        // Arrange
+        when(testCaseRepository.findById("1")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.getTestCaseById("1"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void updateTestCase_WhenTestCaseExists_UpdatesFieldsAndInvalidatesCache() {
+        // Arrange
+        TestCase existing = TestCase.builder().id("1").title("Old").status(Status.Pending).priority(Priority.Low).version(0L).build();
+        AddTestCaseDto update = AddTestCaseDto.builder().status(Status.Passed).build();
+        when(testCaseRepository.patch(eq("1"), any(PatchTestCaseDto.class), any(Date.class))).thenReturn(Mono.just(existing));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.updateTestCase("1", update))
+                .assertNext(testCase -> {
+                    assertEquals("Old", testCase.getTitle());
+                    assertEquals(Status.Passed, testCase.getStatus());
+                    assertEquals(1L, testCase.getVersion());
+                })
+                .verifyComplete();
+        verify(testCaseRepository, never()).save(any(TestCase.class));
+        verify(testCaseCache).invalidate("1");
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) ->
+                event.getBefore().getStatus() == Status.Pending && event.getAfter().getStatus() == Status.Passed));
+    }
+
+    @Test
+    public void patchTestCase_WhenPriorityChanges_MovesToNewQueue() {
+        // Arrange
+        TestCase existing = TestCase.builder().id("1").title("Old").priority(Priority.High).queue("critical").version(0L).build();
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().priority(Priority.Medium).build();
+        when(testCaseRepository.patch(eq("1"), eq(patch), any(Date.class))).thenReturn(Mono.just(existing));
+        when(testCaseRepository.triage(eq("1"), eq(Priority.Medium), eq("standard"), any(Date.class)))
+                .thenAnswer(invocation -> Mono.just(existing.toBuilder().priority(Priority.Medium).queue("standard")
+                        .slaDueOn(invocation.getArgument(3)).version(2L).build()));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.patchTestCase("1", patch))
+                .assertNext(testCase -> {
+                    assertEquals("standard", testCase.getQueue());
+                    assertNotNull(testCase.getSlaDueOn());
+                    assertEquals(2L, testCase.getVersion());
+                })
+                .verifyComplete();
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) ->
+                "critical".equals(event.getBefore().getQueue()) && "standard".equals(event.getAfter().getQueue())));
+    }
+
+    @Test
+    public void patchTestCase_WhenVersionIsStale_ErrorsWithVersionConflictException() {
+        // Arrange
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Failed).version(5L).build();
+        when(testCaseRepository.patch(eq("1"), eq(patch), any(Date.class))).thenReturn(Mono.empty());
+        when(testCaseRepository.existsById("1")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.patchTestCase("1", patch))
+                .expectError(VersionConflictException.class)
+                .verify();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void getAllTestCases_WithStatusFilter_CombinesContentAndCount() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, 2);
+        when(testCaseRepository.findAllByStatus(pageable, Status.Failed))
+                .thenReturn(Flux.just(TestCase.builder().id("3").build(), TestCase.builder().id("4").build()));
+        when(testCaseRepository.countByStatus(Status.Failed)).thenReturn(Mono.just(5L));
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.getAllTestCases(pageable, Status.Failed, null))
+                .assertNext(page -> {
+                    assertEquals(2, page.getContent().size());
+                    assertEquals(5L, page.getTotalElements());
+                    assertEquals(3, page.getTotalPages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void deleteTestCase_WhenTestCaseExists_DeletesAndPublishesEvent() {
+        // Arrange
+        TestCase existing = TestCase.builder().id("1").title("Gone").build();
+        when(testCaseRepository.findById("1")).thenReturn(Mono.just(existing));
+        when(testCaseRepository.delete(existing)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.deleteTestCase("1")).verifyComplete();
+        verify(testCaseCache).invalidate("1");
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) -> event.getAfter() == null));
+    }
+
+    @Test
+    public void deleteTestCase_WhenTestCaseDoesNotExist_ErrorsWithoutDeleting() {
+        // Arrange
+        when(testCaseRepository.findById("1")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(testCaseService.deleteTestCase("1"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        verify(testCaseRepository, never()).delete(any(TestCase.class));
+    }
+}
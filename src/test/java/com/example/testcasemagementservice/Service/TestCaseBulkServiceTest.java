@@ -0,0 +1,170 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseTitleFilter;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.BulkResultDto;
+import com.example.testcasemagementservice.Enums.BulkItemStatus;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseBulkServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    private TestCaseBulkService testCaseBulkService;
+
+    @BeforeEach
+    void setUp() {
+        testCaseBulkService = new TestCaseBulkService(testCaseRepository, new TestCaseTitleFilter(testCaseRepository, false, 1000, 0.01),
+                priorityContext,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2);
+    }
+
+    @Test
+    public void createTestCases_ReportsPerItemResults() {
+        // Arrange
+        List<AddTestCaseDto> testCaseDtos = new ArrayList<>();
+        testCaseDtos.add(dto("New Title"));
+        testCaseDtos.add(dto("Existing Title"));
+        testCaseDtos.add(AddTestCaseDto.builder().description("Missing title").build());
+        testCaseDtos.add(dto("New Title"));
+
+        when(testCaseRepository.findExistingTitles(anyCollection()))
+                .thenReturn(Set.of("Existing Title"))
+                .thenReturn(Set.of("New Title"));
+        when(testCaseRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // Act
+        BulkResultDto result = testCaseBulkService.createTestCases(testCaseDtos);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(BulkItemStatus.Created, result.getItems().get(0).getStatus());
+        assertNotNull(result.getItems().get(0).getId());
+        assertEquals(BulkItemStatus.Duplicate, result.getItems().get(1).getStatus());
+        assertEquals(BulkItemStatus.Invalid, result.getItems().get(2).getStatus());
+        assertEquals(BulkItemStatus.Duplicate, result.getItems().get(3).getStatus());
+        assertEquals(3, result.getItems().get(3).getIndex());
+        verify(testCaseRepository, times(2)).findExistingTitles(anyCollection());
+        verify(eventPublisher, times(1)).publishEvent(any(TestCaseChangedEvent.class));
+    }
+
+    @Test
+    public void createTestCases_WhenUniqueIndexRejectsInsert_ReportsDuplicate() {
+        // Arrange
+        List<AddTestCaseDto> testCaseDtos = List.of(dto("Raced Title"), dto("Fresh Title"));
+        when(testCaseRepository.findExistingTitles(anyCollection())).thenReturn(Set.of());
+        when(testCaseRepository.insertUnordered(anyList())).thenReturn(Set.of(0));
+
+        // Act
+        BulkResultDto result = testCaseBulkService.createTestCases(testCaseDtos);
+
+        // Assert
+        assertEquals(BulkItemStatus.Duplicate, result.getItems().get(0).getStatus());
+        assertEquals(BulkItemStatus.Created, result.getItems().get(1).getStatus());
+        verify(testCaseRepository, times(1)).insertUnordered(anyList());
+    }
+
+    @Test
+    public void createTestCases_WithSeededTitleFilter_ChecksOnlyPossibleDuplicates() {
+        // Arrange
+        TestCaseTitleFilter testCaseTitleFilter = new TestCaseTitleFilter(testCaseRepository, true, 1000, 0.01);
+        when(testCaseRepository.streamTitles(anyInt())).thenReturn(Stream.of(TestCase.builder().id("1").title("Existing Title").build()));
+        testCaseTitleFilter.seed();
+        TestCaseBulkService filteredBulkService = new TestCaseBulkService(testCaseRepository, testCaseTitleFilter, priorityContext,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 10);
+        when(testCaseRepository.findExistingTitles(anyCollection())).thenReturn(Set.of("Existing Title"));
+        when(testCaseRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // Act
+        BulkResultDto result = filteredBulkService.createTestCases(List.of(dto("Existing Title"), dto("Fresh Title")));
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getDuplicates());
+        verify(testCaseRepository).findExistingTitles(List.of("Existing Title"));
+    }
+
+    @Test
+    public void createTestCases_WhenTitleFilterRulesOutEveryTitle_SkipsExistenceQuery() {
+        // Arrange
+        TestCaseTitleFilter testCaseTitleFilter = new TestCaseTitleFilter(testCaseRepository, true, 1000, 0.01);
+        when(testCaseRepository.streamTitles(anyInt())).thenReturn(Stream.empty());
+        testCaseTitleFilter.seed();
+        TestCaseBulkService filteredBulkService = new TestCaseBulkService(testCaseRepository, testCaseTitleFilter, priorityContext,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 10);
+        when(testCaseRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // Act
+        BulkResultDto result = filteredBulkService.createTestCases(List.of(dto("First Title"), dto("Second Title")));
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        verify(testCaseRepository, never()).findExistingTitles(anyCollection());
+    }
+
+    @Test
+    public void createTestCases_SetsAuditDatesOnInsertedTestCases() {
+        // Arrange
+        List<TestCase> inserted = new ArrayList<>();
+        when(testCaseRepository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return Set.of();
+        });
+
+        // Act
+        testCaseBulkService.createTestCases(List.of(dto("First Title"), dto("Second Title")));
+
+        // Assert
+        assertEquals(2, inserted.size());
+        for (TestCase testCase : inserted) {
+            assertNotNull(testCase.getCreatedOn());
+            assertEquals(testCase.getCreatedOn(), testCase.getUpdatedOn());
+            assertEquals(0L, testCase.getVersion());
+        }
+    }
+
+    private AddTestCaseDto dto(String title) {
+        return AddTestCaseDto.builder()
+                .title(title)
+                .priority(Priority.Medium)
+                .status(Status.Pending)
+                .build();
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.CompleteExecutionDto;
+import com.example.testcasemagementservice.Dispatch.TestCaseDispatchQueue;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Exceptions.LeaseLostException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.InMemoryTestCaseRepository;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseExecutionServiceTest {
+
+    private static final int CLAIMERS = 16;
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    private TestCaseDispatchQueue dispatchQueue;
+
+    private TestCaseExecutionService testCaseExecutionService;
+
+    @BeforeEach
+    void setUp() {
+        dispatchQueue = new TestCaseDispatchQueue(priorityContext, Duration.ofMinutes(1));
+        testCaseExecutionService = executionService(testCaseRepository, eventPublisher);
+    }
+
+    @Test
+    void claim_WhenScheduledPriorityIsEmpty_FallsThroughAndRemembers() {
+        // Arrange
+        TestCase pending = TestCase.builder().id("1").status(Status.Pending).priority(Priority.Medium).version(2L).build();
+        when(testCaseRepository.claim(eq(Priority.High), eq("worker-1"), anyString(), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.empty());
+        when(testCaseRepository.claim(eq(Priority.Medium), eq("worker-1"), anyString(), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(pending));
+
+        // Act
+        TestCase claimed = testCaseExecutionService.claim("worker-1").orElseThrow();
+
+        // Assert
+        assertEquals(Status.InProgress, claimed.getStatus());
+        assertEquals("worker-1", claimed.getClaimedBy());
+        assertNotNull(claimed.getLeaseId());
+        assertTrue(claimed.getLeaseExpiresOn().after(claimed.getUpdatedOn()));
+        assertEquals(3L, claimed.getVersion());
+        assertFalse(dispatchQueue.nextOrder().contains(Priority.High));
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) ->
+                event.getBefore().getStatus() == Status.Pending && event.getAfter().getStatus() == Status.InProgress));
+    }
+
+    @Test
+    void claim_WhenNothingIsPending_StopsQueryingUntilArrival() {
+        // Arrange
+        when(testCaseRepository.claim(any(Priority.class), anyString(), anyString(), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Optional<TestCase> first = testCaseExecutionService.claim("worker-1");
+        Optional<TestCase> second = testCaseExecutionService.claim("worker-1");
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(testCaseRepository, times(3)).claim(any(Priority.class), anyString(), anyString(), any(Date.class), any(Date.class));
+    }
+
+    @Test
+    void claim_WithoutWorker_ThrowsInvalidDataException() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> testCaseExecutionService.claim(" "));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    void complete_WhenLeaseIsNoLongerHeld_ThrowsLeaseLostException() {
+        // Arrange
+        CompleteExecutionDto result = CompleteExecutionDto.builder().leaseId("stale").status(Status.Passed).build();
+        when(testCaseRepository.release(eq("1"), eq("stale"), eq(Status.Passed), any(Date.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(LeaseLostException.class, () -> testCaseExecutionService.complete("1", result));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void complete_WithInProgressStatus_ThrowsInvalidDataException() {
+        // Arrange
+        CompleteExecutionDto result = CompleteExecutionDto.builder().leaseId("lease").status(Status.InProgress).build();
+
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> testCaseExecutionService.complete("1", result));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    void renewLease_WhenLeaseIsNoLongerHeld_ThrowsLeaseLostException() {
+        // Arrange
+        when(testCaseRepository.renewLease(eq("1"), eq("stale"), any(Date.class))).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(LeaseLostException.class, () -> testCaseExecutionService.renewLease("1", "stale"));
+    }
+
+    @Test
+    void renewLease_EvictsTheCachedTestCase() {
+        // Arrange
+        TestCaseCache testCaseCache = new TestCaseCache(true, 100, Duration.ofMinutes(5));
+        TestCase leased = TestCase.builder().id("1").status(Status.InProgress).leaseId("lease")
+                .leaseExpiresOn(new Date(1000)).version(1L).build();
+        testCaseCache.get("1", id -> Optional.of(leased));
+        TestCaseExecutionService service = new TestCaseExecutionService(testCaseRepository, dispatchQueue, testCaseCache,
+                eventPublisher, Duration.ofMinutes(5));
+        when(testCaseRepository.renewLease(eq("1"), eq("lease"), any(Date.class))).thenReturn(true);
+
+        // Act
+        service.renewLease("1", "lease");
+
+        // Assert
+        assertNull(testCaseCache.getIfPresent("1"));
+    }
+
+    @Test
+    void requeueExpiredLeases_ReturnsEachToPendingWithAnEvent() {
+        // Arrange
+        TestCase expired = TestCase.builder().id("1").status(Status.InProgress).priority(Priority.Low)
+                .claimedBy("worker-1").leaseId("lease").version(1L).build();
+        when(testCaseRepository.requeueExpired(any(Date.class))).thenReturn(Optional.of(expired), Optional.empty());
+
+        // Act
+        testCaseExecutionService.requeueExpiredLeases();
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((TestCaseChangedEvent event) -> event.getAfter().getStatus() == Status.Pending
+                && event.getAfter().getLeaseId() == null && event.getAfter().getVersion() == 2L));
+    }
+
+    @Test
+    void claim_WhenManyWorkersClaimConcurrently_DispatchesEachTestCaseOnce() throws Exception {
+        // Arrange
+        TestCaseRepository inMemoryRepository = InMemoryTestCaseRepository.create();
+        TestCaseExecutionService inMemoryService = executionService(inMemoryRepository, event -> {
+        });
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < 600; i++) {
+            inMemoryRepository.save(priorityContext.applyStrategy(TestCase.builder()
+                    .title("Case " + i)
+                    .status(Status.Pending)
+                    .priority(priorities[i % priorities.length])
+                    .build(), new Date()));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<TestCase>>> claims = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS)) {
+            for (int i = 0; i < CLAIMERS; i++) {
+                String worker = "worker-" + i;
+                claims.add(executor.submit(() -> {
+                    start.await();
+                    List<TestCase> claimed = new ArrayList<>();
+                    Optional<TestCase> next;
+                    while ((next = inMemoryService.claim(worker)).isPresent()) {
+                        claimed.add(next.get());
+                    }
+                    return claimed;
+                }));
+            }
+            start.countDown();
+        }
+
+        // Assert
+        Set<String> ids = new HashSet<>();
+        Set<String> leaseIds = new HashSet<>();
+        for (Future<List<TestCase>> claim : claims) {
+            for (TestCase testCase : claim.get()) {
+                assertTrue(ids.add(testCase.getId()), "Dispatched twice: " + testCase.getId());
+                leaseIds.add(testCase.getLeaseId());
+            }
+        }
+        assertEquals(600, ids.size());
+        assertEquals(600, leaseIds.size());
+    }
+
+    @Test
+    void claim_WhenHighPriorityBacklogIsDeep_StillDispatchesLow() {
+        // Arrange
+        TestCaseRepository inMemoryRepository = InMemoryTestCaseRepository.create();
+        TestCaseExecutionService inMemoryService = executionService(inMemoryRepository, event -> {
+        });
+        for (int i = 0; i < 100; i++) {
+            inMemoryRepository.save(TestCase.builder().title("High " + i).status(Status.Pending).priority(Priority.High).build());
+            inMemoryRepository.save(TestCase.builder().title("Low " + i).status(Status.Pending).priority(Priority.Low).build());
+        }
+        Map<Priority, Integer> claimed = new EnumMap<>(Priority.class);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            claimed.merge(inMemoryService.claim("worker-1").orElseThrow().getPriority(), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(18, claimed.get(Priority.High));
+        assertEquals(2, claimed.get(Priority.Low));
+    }
+
+    private TestCaseExecutionService executionService(TestCaseRepository repository, ApplicationEventPublisher publisher) {
+        return new TestCaseExecutionService(repository, dispatchQueue, new TestCaseCache(false, 100, Duration.ofMinutes(5)),
+                publisher, Duration.ofMinutes(5));
+    }
+}
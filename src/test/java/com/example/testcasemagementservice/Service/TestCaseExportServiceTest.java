@@ -0,0 +1,84 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Enums.ExportFormat;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseExportServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private TestCaseExportService testCaseExportService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        testCaseExportService = new TestCaseExportService(testCaseRepository, objectMapper, 100, 1);
+    }
+
+    @Test
+    public void export_AsNdjson_WritesOneDocumentPerLineAndClosesCursor() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TestCase> testCases = Stream.of(testCase("1", "First"), testCase("2", "Second"))
+                .onClose(() -> closed.set(true));
+        when(testCaseRepository.streamByFilter(eq(Status.Pending), isNull(), anyInt())).thenReturn(testCases);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long exported = testCaseExportService.export(ExportFormat.Ndjson, Status.Pending, null, outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("First", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("title").asText());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void export_AsCsv_EscapesSpecialCharacters() throws Exception {
+        // Arrange
+        TestCase testCase = testCase("1", "Login, \"happy\" path");
+        when(testCaseRepository.streamByFilter(isNull(), isNull(), anyInt())).thenReturn(Stream.of(testCase));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        testCaseExportService.export(ExportFormat.Csv, null, null, outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,title,description,status,priority,createdOn,updatedOn", lines[0]);
+        assertEquals("1,\"Login, \"\"happy\"\" path\",,Pending,High,,", lines[1]);
+    }
+
+    private TestCase testCase(String id, String title) {
+        return TestCase.builder()
+                .id(id)
+                .title(title)
+                .status(Status.Pending)
+                .priority(Priority.High)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.TestCaseSearchHitDto;
+import com.example.testcasemagementservice.DTO.TitleSuggestionDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Search.TestCaseTitleIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseSearchServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private TestCaseTitleIndex testCaseTitleIndex;
+
+    @InjectMocks
+    private TestCaseSearchService testCaseSearchService;
+
+    @Test
+    public void search_WhenMoreHitsRemain_ReturnsCursorToNextPage() {
+        // Arrange
+        when(testCaseRepository.search("login", Status.Pending, null, 0, 3))
+                .thenReturn(List.of(hit("1"), hit("2"), hit("3")));
+        when(testCaseRepository.search("login", Status.Pending, null, 2, 3))
+                .thenReturn(List.of(hit("3")));
+
+        // Act
+        CursorPageDto<TestCaseSearchHitDto> first = testCaseSearchService.search("login", Status.Pending, null, null, 2);
+        CursorPageDto<TestCaseSearchHitDto> second = testCaseSearchService.search("login", Status.Pending, null, first.getNextCursor(), 2);
+
+        // Assert
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("1", "2"), first.getContent().stream().map(TestCaseSearchHitDto::getId).toList());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals("3", second.getContent().get(0).getId());
+    }
+
+    @Test
+    public void search_WhenCursorWasIssuedForAnotherQuery_ThrowsInvalidDataException() {
+        // Arrange
+        when(testCaseRepository.search("login", null, null, 0, 2)).thenReturn(List.of(hit("1"), hit("2")));
+        String cursor = testCaseSearchService.search("login", null, null, null, 1).getNextCursor();
+
+        // Act & Assert
+        assertThrows(InvalidDataException.class,
+                () -> testCaseSearchService.search("login", null, Priority.High, cursor, 1));
+    }
+
+    @Test
+    public void search_WhenTextIsBlank_ThrowsInvalidDataException() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> testCaseSearchService.search(" ", null, null, null, 20));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    public void suggest_WhenIndexIsReady_DoesNotQueryDatabase() {
+        // Arrange
+        List<TitleSuggestionDto> suggestions = List.of(TitleSuggestionDto.builder().id("1").title("Login").build());
+        when(testCaseTitleIndex.isReady()).thenReturn(true);
+        when(testCaseTitleIndex.suggest("log", 10)).thenReturn(suggestions);
+
+        // Act
+        List<TitleSuggestionDto> result = testCaseSearchService.suggest("log", 10);
+
+        // Assert
+        assertEquals(suggestions, result);
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    public void suggest_WhenIndexIsNotReady_FallsBackToTitleWordQuery() {
+        // Arrange
+        when(testCaseTitleIndex.isReady()).thenReturn(false);
+        when(testCaseRepository.findTitleSuggestions(List.of("user", "log"), 10)).thenReturn(List.of());
+
+        // Act
+        testCaseSearchService.suggest("User Log", 10);
+
+        // Assert
+        verify(testCaseRepository).findTitleSuggestions(List.of("user", "log"), 10);
+        verify(testCaseTitleIndex, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    public void suggest_WhenIndexIsNotReadyAndPrefixHasNoWords_ReturnsNothing() {
+        // Arrange
+        when(testCaseTitleIndex.isReady()).thenReturn(false);
+
+        // Act
+        List<TitleSuggestionDto> result = testCaseSearchService.suggest("--", 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    private TestCaseSearchHitDto hit(String id) {
+        return TestCaseSearchHitDto.builder().id(id).title("Test " + id).score(1.0f).build();
+    }
+}
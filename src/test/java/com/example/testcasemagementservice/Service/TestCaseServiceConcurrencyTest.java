@@ -0,0 +1,94 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.Configuration.TestCaseIndexManager;
+import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.DuplicateResourceException;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(SpringExtension.class)
+@DataMongoTest
+@Import(TestCaseIndexManager.class)
+public class TestCaseServiceConcurrencyTest {
+
+    private static final int CREATORS = 16;
+
+    @Autowired
+    private TestCaseRepository testCaseRepository;
+
+    private TestCaseService testCaseService;
+
+    @BeforeEach
+    void setUp() {
+        testCaseRepository.deleteAll();
+        testCaseService = new TestCaseService(testCaseRepository,
+                new TestCaseCache(false, 100, Duration.ofMinutes(5)),
+                new PriorityContext(List.of(new HighPriorityStrategy(), new MediumPriorityStrategy(),
+                        new LowPriorityStrategy(), new UnprioritisedStrategy())),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void createTestCase_WhenSameTitleCreatedConcurrently_ExactlyOneWins() throws Exception {
+        // Arrange
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder()
+                .title("Contended Title")
+                .priority(Priority.High)
+                .status(Status.Pending)
+                .build();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> outcomes = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(CREATORS)) {
+            for (int i = 0; i < CREATORS; i++) {
+                outcomes.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        testCaseService.createTestCase(testCaseDto);
+                        return true;
+                    } catch (DuplicateResourceException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        // Assert
+        long winners = 0;
+        for (Future<Boolean> outcome : outcomes) {
+            if (outcome.get()) {
+                winners++;
+            }
+        }
+        assertEquals(1, winners);
+        assertEquals(1, testCaseRepository.count());
+    }
+}
@@ -1,28 +1,54 @@
 package com.example.testcasemagementservice.Service;
 
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.Conditional.TestCaseETags;
 import com.example.testcasemagementservice.DTO.AddTestCaseDto;
+import com.example.testcasemagementservice.DTO.CursorPageDto;
+import com.example.testcasemagementservice.DTO.PatchTestCaseDto;
+import com.example.testcasemagementservice.DTO.TestCaseSummaryDto;
+import com.example.testcasemagementservice.DTO.TestCaseVersionDto;
+import com.example.testcasemagementservice.Enums.CursorSort;
 import com.example.testcasemagementservice.Enums.Priority;
 import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Events.TestCaseChangedEvent;
 import com.example.testcasemagementservice.Exceptions.DuplicateResourceException;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Exceptions.PreconditionFailedException;
 import com.example.testcasemagementservice.Exceptions.ResourceNotFoundException;
+import com.example.testcasemagementservice.Exceptions.VersionConflictException;
 import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Pagination.CursorToken;
 import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import com.example.testcasemagementservice.Strategy.HighPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.LowPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.MediumPriorityStrategy;
+import com.example.testcasemagementservice.Strategy.PriorityContext;
+import com.example.testcasemagementservice.Strategy.UnprioritisedStrategy;
+import com.example.testcasemagementservice.Tag.TagExpression;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,18 +57,29 @@ public class TestCaseServiceTest {
     @Mock
     private TestCaseRepository testCaseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TestCaseCache testCaseCache = new TestCaseCache(true, 100, Duration.ofMinutes(5));
+
+    @Spy
+    private PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
     @InjectMocks
     private TestCaseService testCaseService;
 
     @Test
     public void createTestCase_WhenTestCaseExists_ThrowsDuplicateResourceException() {
         // Arrange
-        AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").build();
-        when(testCaseRepository.existsByTitle(anyString())).thenReturn(true);
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").priority(Priority.Low).build();
+        when(testCaseRepository.save(any(TestCase.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
 
         // Act & Assert
         assertThrows(DuplicateResourceException.class, () -> testCaseService.createTestCase(testCaseDto));
-        verify(testCaseRepository, times(1)).existsByTitle(anyString());
+        verify(testCaseRepository, never()).existsByTitle(anyString());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -62,7 +99,6 @@ public class TestCaseServiceTest {
                 .status(Status.Pending)
                 .build();
 
-        when(testCaseRepository.existsByTitle(anyString())).thenReturn(false);
         when(testCaseRepository.save(any(TestCase.class))).thenReturn(testCase);
 
         // Act
@@ -71,7 +107,24 @@ public class TestCaseServiceTest {
         // Assert
         assertNotNull(createdTestCase);
         assertEquals("Mock Title", createdTestCase.getTitle());
-        verify(testCaseRepository, times(1)).save(any(TestCase.class));
+        verify(testCaseRepository, times(1)).save(argThat(saved -> "critical".equals(saved.getQueue())
+                && saved.getSlaDueOn() != null));
+        verify(testCaseRepository, never()).existsByTitle(anyString());
+    }
+
+    @Test
+    public void createTestCase_WhenPriorityMissing_RoutesToTriageQueue() {
+        // Arrange
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").status(Status.Pending).build();
+        when(testCaseRepository.save(any(TestCase.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        TestCase createdTestCase = testCaseService.createTestCase(testCaseDto);
+
+        // Assert
+        assertNull(createdTestCase.getPriority());
+        assertEquals("triage", createdTestCase.getQueue());
+        assertNotNull(createdTestCase.getSlaDueOn());
     }
 
     @Test
@@ -90,6 +143,23 @@ public class TestCaseServiceTest {
         verify(testCaseRepository, times(1)).findById(id);
     }
 
+    @Test
+    public void getTestCaseById_WhenCached_DoesNotHitRepository() {
+        // Arrange
+        String id = "Mock Id";
+        TestCase testCase = TestCase.builder().id(id).build();
+        when(testCaseRepository.findById(id)).thenReturn(Optional.of(testCase));
+
+        // Act
+        testCaseService.getTestCaseById(id);
+        Optional<TestCase> fetchedTestCase = testCaseService.getTestCaseById(id);
+
+        // Assert
+        assertTrue(fetchedTestCase.isPresent());
+        assertEquals(1, testCaseCache.stats().getHits());
+        verify(testCaseRepository, times(1)).findById(id);
+    }
+
     @Test
     public void getTestCaseById_WhenTestCaseDoesNotExist_ThrowsException() {
         // Arrange
@@ -121,18 +191,10 @@ public class TestCaseServiceTest {
                 .description("Old Description")
                 .priority(Priority.Low)
                 .status(Status.InProgress)
+                .version(3L)
                 .build();
 
-        TestCase updatedTestCase = TestCase.builder()
-                .id(id)
-                .title("Mock Title")
-                .description("Mock Description")
-                .priority(Priority.High)
-                .status(Status.Pending)
-                .build();
-
-        when(testCaseRepository.findById(id)).thenReturn(Optional.of(existingTestCase));
-        when(testCaseRepository.save(any(TestCase.class))).thenReturn(updatedTestCase);
+        when(testCaseRepository.patch(eq(id), any(PatchTestCaseDto.class), any(Date.class))).thenReturn(Optional.of(existingTestCase));
 
         // Act
         TestCase returnedTestCase = testCaseService.updateTestCase(id, testCaseDto);
@@ -141,7 +203,57 @@ public class TestCaseServiceTest {
         assertNotNull(returnedTestCase);
         assertEquals("Mock Title", returnedTestCase.getTitle());
         assertEquals("Mock Description", returnedTestCase.getDescription());
-        verify(testCaseRepository, times(1)).save(any(TestCase.class));
+        assertEquals(4L, returnedTestCase.getVersion());
+        assertNotNull(returnedTestCase.getUpdatedOn());
+        verify(testCaseRepository, times(1)).patch(eq(id), argThat(patch -> patch.getVersion() == null), any(Date.class));
+        verify(testCaseRepository, never()).findById(anyString());
+        verify(testCaseRepository, never()).save(any(TestCase.class));
+        verify(testCaseCache, times(1)).invalidate(id);
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof TestCaseChangedEvent changed
+                && changed.getBefore().getStatus() == Status.InProgress
+                && changed.getAfter().getStatus() == Status.Pending));
+    }
+
+    @Test
+    public void updateTestCase_WithStaleExpectedVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        String id = "Mock Id";
+        AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").build();
+        when(testCaseRepository.patch(eq(id), argThat(patch -> patch.getVersion() == 2L), any(Date.class))).thenReturn(Optional.empty());
+        when(testCaseRepository.existsById(id)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> testCaseService.updateTestCase(id, testCaseDto, 2L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void getTestCaseETag_WhenNotCached_ReadsVersionProjection() {
+        // Arrange
+        String id = "Mock Id";
+        when(testCaseRepository.findVersionById(id)).thenReturn(Optional.of(TestCaseVersionDto.builder().id(id).version(4L).build()));
+
+        // Act
+        String etag = testCaseService.getTestCaseETag(id);
+
+        // Assert
+        assertEquals("\"4\"", etag);
+        verify(testCaseRepository, never()).findById(anyString());
+    }
+
+    @Test
+    public void getTestCaseETag_WhenCached_ReadsNothing() {
+        // Arrange
+        String id = "Mock Id";
+        when(testCaseRepository.findById(id)).thenReturn(Optional.of(TestCase.builder().id(id).version(7L).build()));
+        testCaseService.getTestCaseById(id);
+
+        // Act
+        String etag = testCaseService.getTestCaseETag(id);
+
+        // Assert
+        assertEquals("\"7\"", etag);
+        verify(testCaseRepository, never()).findVersionById(anyString());
     }
 
     @Test
@@ -149,11 +261,117 @@ public class TestCaseServiceTest {
         // Arrange
         String id = "Invalid Id";
         AddTestCaseDto testCaseDto = AddTestCaseDto.builder().title("Mock Title").build();
-        when(testCaseRepository.findById(id)).thenReturn(Optional.empty());
+        when(testCaseRepository.patch(eq(id), any(PatchTestCaseDto.class), any(Date.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> testCaseService.updateTestCase(id, testCaseDto));
-        verify(testCaseRepository, times(1)).findById(id);
+        verify(testCaseRepository, never()).existsById(id);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void patchTestCase_WhenOnlyStatusGiven_KeepsOtherFields() {
+        // Arrange
+        String id = "Mock Id";
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Passed).version(0L).build();
+        TestCase existingTestCase = TestCase.builder()
+                .id(id)
+                .title("Mock Title")
+                .priority(Priority.High)
+                .status(Status.InProgress)
+                .version(0L)
+                .build();
+        when(testCaseRepository.patch(eq(id), eq(patch), any(Date.class))).thenReturn(Optional.of(existingTestCase));
+
+        // Act
+        TestCase returnedTestCase = testCaseService.patchTestCase(id, patch);
+
+        // Assert
+        assertEquals("Mock Title", returnedTestCase.getTitle());
+        assertEquals(Priority.High, returnedTestCase.getPriority());
+        assertEquals(Status.Passed, returnedTestCase.getStatus());
+        assertEquals(1L, returnedTestCase.getVersion());
+        verify(testCaseRepository, never()).triage(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void patchTestCase_WhenStatusGiven_ReturnsTestCaseWithoutLease() {
+        // Arrange
+        String id = "Mock Id";
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Failed).build();
+        TestCase leased = TestCase.builder()
+                .id(id)
+                .status(Status.InProgress)
+                .claimedBy("worker-1")
+                .leaseId("lease-1")
+                .leaseExpiresOn(new Date())
+                .version(2L)
+                .build();
+        when(testCaseRepository.patch(eq(id), eq(patch), any(Date.class))).thenReturn(Optional.of(leased));
+
+        // Act
+        TestCase returnedTestCase = testCaseService.patchTestCase(id, patch);
+
+        // Assert
+        assertEquals(Status.Failed, returnedTestCase.getStatus());
+        assertNull(returnedTestCase.getClaimedBy());
+        assertNull(returnedTestCase.getLeaseId());
+        assertNull(returnedTestCase.getLeaseExpiresOn());
+    }
+
+    @Test
+    public void patchTestCase_WhenPriorityChanges_MovesToNewQueue() {
+        // Arrange
+        String id = "Mock Id";
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().priority(Priority.High).build();
+        TestCase existingTestCase = TestCase.builder()
+                .id(id)
+                .title("Mock Title")
+                .priority(Priority.Low)
+                .queue("backlog")
+                .version(0L)
+                .build();
+        when(testCaseRepository.patch(eq(id), eq(patch), any(Date.class))).thenReturn(Optional.of(existingTestCase));
+        when(testCaseRepository.triage(eq(id), eq(Priority.High), eq("critical"), any(Date.class)))
+                .thenAnswer(invocation -> Optional.of(existingTestCase.toBuilder().priority(Priority.High).queue("critical")
+                        .slaDueOn(invocation.getArgument(3)).version(2L).build()));
+
+        // Act
+        TestCase returnedTestCase = testCaseService.patchTestCase(id, patch);
+
+        // Assert
+        assertEquals("critical", returnedTestCase.getQueue());
+        assertNotNull(returnedTestCase.getSlaDueOn());
+        assertEquals(2L, returnedTestCase.getVersion());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TestCaseChangedEvent changed
+                && "backlog".equals(changed.getBefore().getQueue())
+                && "critical".equals(changed.getAfter().getQueue())));
+    }
+
+    @Test
+    public void patchTestCase_WhenVersionIsStale_ThrowsVersionConflictException() {
+        // Arrange
+        String id = "Mock Id";
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Failed).version(2L).build();
+        when(testCaseRepository.patch(eq(id), eq(patch), any(Date.class))).thenReturn(Optional.empty());
+        when(testCaseRepository.existsById(id)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () -> testCaseService.patchTestCase(id, patch));
+        verify(testCaseCache, never()).invalidate(id);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void patchTestCase_WhenVersionedAndMissing_ThrowsResourceNotFoundException() {
+        // Arrange
+        String id = "Invalid Id";
+        PatchTestCaseDto patch = PatchTestCaseDto.builder().status(Status.Failed).version(2L).build();
+        when(testCaseRepository.patch(eq(id), eq(patch), any(Date.class))).thenReturn(Optional.empty());
+        when(testCaseRepository.existsById(id)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> testCaseService.patchTestCase(id, patch));
     }
 
     @Test
@@ -168,7 +386,7 @@ public class TestCaseServiceTest {
         when(testCaseRepository.findAll(pageable)).thenReturn(testCasePage);
 
         // Act
-        Page<TestCase> fetchedTestCases = testCaseService.getAllTestCases(pageable, null, null);
+        Page<TestCase> fetchedTestCases = testCaseService.getAllTestCases(pageable, null, null, null, null);
 
         // Assert
         assertNotNull(fetchedTestCases);
@@ -184,13 +402,95 @@ public class TestCaseServiceTest {
         when(testCaseRepository.findAll(pageable)).thenReturn(emptyPage);
 
         // Act
-        Page<TestCase> fetchedTestCases = testCaseService.getAllTestCases(pageable, null, null);
+        Page<TestCase> fetchedTestCases = testCaseService.getAllTestCases(pageable, null, null, null, null);
 
         // Assert
         assertNotNull(fetchedTestCases);
         assertEquals(0, fetchedTestCases.getTotalElements());
     }
 
+    @Test
+    public void getAllTestCases_WithTags_QueriesParsedTagExpression() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        TagExpression tags = new TagExpression(List.of(List.of("env:staging", "team:checkout")));
+        when(testCaseRepository.findFiltered(null, tags, Status.Failed, null, pageable, TestCase.class)).thenReturn(Page.empty());
+
+        // Act
+        testCaseService.getAllTestCases(pageable, Status.Failed, null, null, "team:checkout,Env:Staging");
+
+        // Assert
+        verify(testCaseRepository).findFiltered(null, tags, Status.Failed, null, pageable, TestCase.class);
+        verify(testCaseRepository, never()).findAllByStatus(any(), any());
+    }
+
+    @Test
+    public void getAllTestCaseSummaries_WhenFiltered_UsesProjection() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TestCaseSummaryDto> summaries = new PageImpl<>(List.of(
+                TestCaseSummaryDto.builder().id("Mock Id").title("Mock Title").status(Status.Passed).priority(Priority.High).build()));
+        when(testCaseRepository.findAllByStatusAndPriority(pageable, Status.Passed, Priority.High, TestCaseSummaryDto.class))
+                .thenReturn(summaries);
+
+        // Act
+        Page<TestCaseSummaryDto> fetchedSummaries = testCaseService.getAllTestCaseSummaries(pageable, Status.Passed, Priority.High);
+
+        // Assert
+        assertEquals(1, fetchedSummaries.getTotalElements());
+        assertEquals("Mock Title", fetchedSummaries.getContent().get(0).getTitle());
+        verify(testCaseRepository, never()).findAllByStatusAndPriority(pageable, Status.Passed, Priority.High);
+    }
+
+    @Test
+    public void getTestCasesAfter_WhenMoreResultsExist_ReturnsNextCursor() {
+        // Arrange
+        Date createdOn = new Date(1_700_000_000_000L);
+        List<TestCase> testCases = List.of(
+                TestCase.builder().id("Mock Id 1").createdOn(createdOn).build(),
+                TestCase.builder().id("Mock Id 2").createdOn(createdOn).build());
+        when(testCaseRepository.findSlice(isNull(), isNull(), eq(CursorSort.CreatedOn), isNull(), eq(2)))
+                .thenReturn(new SliceImpl<>(testCases, PageRequest.of(0, 2), true));
+
+        // Act
+        CursorPageDto<TestCase> page = testCaseService.getTestCasesAfter(null, 2, CursorSort.CreatedOn, null, null, false);
+
+        // Assert
+        assertTrue(page.isHasNext());
+        assertNull(page.getTotalElements());
+        CursorToken next = CursorToken.decode(page.getNextCursor(), CursorSort.CreatedOn);
+        assertEquals("Mock Id 2", next.getId());
+        assertEquals(createdOn, next.getSortValue());
+        verify(testCaseRepository, never()).countByFilter(any(), any());
+    }
+
+    @Test
+    public void getTestCasesAfter_WhenCursorGiven_ContinuesAfterIt() {
+        // Arrange
+        String cursor = new CursorToken(CursorSort.CreatedOn, new Date(1_700_000_000_000L), "Mock Id 2").encode();
+        when(testCaseRepository.findSlice(eq(Status.Pending), isNull(), eq(CursorSort.CreatedOn),
+                argThat(after -> "Mock Id 2".equals(after.getId())), eq(10)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+        when(testCaseRepository.countByFilter(Status.Pending, null)).thenReturn(2L);
+
+        // Act
+        CursorPageDto<TestCase> page = testCaseService.getTestCasesAfter(cursor, 10, CursorSort.CreatedOn, Status.Pending, null, true);
+
+        // Assert
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(2L, page.getTotalElements());
+    }
+
+    @Test
+    public void getTestCasesAfter_WhenCursorIsMalformed_ThrowsInvalidDataException() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class,
+                () -> testCaseService.getTestCasesAfter("not a cursor", 10, CursorSort.CreatedOn, null, null, false));
+        assertThrows(InvalidDataException.class,
+                () -> testCaseService.getTestCasesAfter(null, 0, CursorSort.CreatedOn, null, null, false));
+    }
+
     @Test
     public void deleteTestCase_WhenTestCaseExists_DeletesSuccessfully() {
         // Arrange
@@ -205,9 +505,35 @@ public class TestCaseServiceTest {
 
         // Assert
         verify(testCaseRepository, times(1)).delete(testCase);
+        verify(testCaseCache, times(1)).invalidate(id);
     }
 
 
+    @Test
+    public void deleteTestCase_WhenUnversionedAndExpectedVersionZero_Deletes() {
+        // Arrange
+        String id = "Mock Id";
+        TestCase unversioned = TestCase.builder().id(id).build();
+        when(testCaseRepository.findById(id)).thenReturn(Optional.of(unversioned));
+
+        // Act
+        testCaseService.deleteTestCase(id, TestCaseETags.expectedVersion(TestCaseETags.of(unversioned)));
+
+        // Assert
+        verify(testCaseRepository, times(1)).delete(unversioned);
+    }
+
+    @Test
+    public void deleteTestCase_WithStaleExpectedVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        String id = "Mock Id";
+        when(testCaseRepository.findById(id)).thenReturn(Optional.of(TestCase.builder().id(id).version(3L).build()));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> testCaseService.deleteTestCase(id, 2L));
+        verify(testCaseRepository, never()).delete(any());
+    }
+
     @Test
     public void deleteTestCase_WhenTestCaseDoesNotExist_ThrowsException() {
         // Arrange
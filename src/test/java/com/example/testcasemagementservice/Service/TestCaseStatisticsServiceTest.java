@@ -0,0 +1,91 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.TestCaseStatisticsDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.StatisticsBucket;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseStatisticsServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private TestCaseStatisticsService testCaseStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        testCaseStatisticsService = new TestCaseStatisticsService(testCaseRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void getStatistics_BuildsFullMatrixIncludingZeros() {
+        // Arrange
+        when(testCaseRepository.countByStatusAndPriority(StatisticsBucket.None, null, null)).thenReturn(List.of(
+                count(null, Status.Passed, Priority.High, 3),
+                count(null, Status.Failed, Priority.Low, 2),
+                count(null, null, Priority.Low, 1)));
+
+        // Act
+        TestCaseStatisticsDto statistics = testCaseStatisticsService.getStatistics(StatisticsBucket.None, null, null, false);
+
+        // Assert
+        assertEquals(6, statistics.getTotal());
+        assertEquals(1, statistics.getMatrices().size());
+        assertEquals(3L, statistics.getMatrices().get(0).getCounts().get("Passed").get("High"));
+        assertEquals(0L, statistics.getMatrices().get(0).getCounts().get("Pending").get("Medium"));
+        assertEquals(1L, statistics.getMatrices().get(0).getCounts().get("Unset").get("Low"));
+    }
+
+    @Test
+    public void getStatistics_GroupsByDayInOrder() {
+        // Arrange
+        when(testCaseRepository.countByStatusAndPriority(StatisticsBucket.CreatedOnDay, null, null)).thenReturn(List.of(
+                count("2025-01-02", Status.Passed, Priority.High, 1),
+                count("2025-01-01", Status.Passed, Priority.High, 4)));
+
+        // Act
+        TestCaseStatisticsDto statistics = testCaseStatisticsService.getStatistics(StatisticsBucket.CreatedOnDay, null, null, false);
+
+        // Assert
+        assertEquals(2, statistics.getMatrices().size());
+        assertEquals("2025-01-01", statistics.getMatrices().get(0).getDay());
+        assertEquals(4, statistics.getMatrices().get(0).getTotal());
+    }
+
+    @Test
+    public void getStatistics_WithinTtl_ReusesAggregation() {
+        // Arrange
+        when(testCaseRepository.countByStatusAndPriority(StatisticsBucket.None, null, null)).thenReturn(List.of());
+
+        // Act
+        testCaseStatisticsService.getStatistics(StatisticsBucket.None, null, null, false);
+        testCaseStatisticsService.getStatistics(StatisticsBucket.None, null, null, false);
+        testCaseStatisticsService.getStatistics(StatisticsBucket.None, null, null, true);
+
+        // Assert
+        verify(testCaseRepository, times(2)).countByStatusAndPriority(StatisticsBucket.None, null, null);
+    }
+
+    private StatusPriorityCountDto count(String day, Status status, Priority priority, long count) {
+        return StatusPriorityCountDto.builder()
+                .day(day)
+                .status(status)
+                .priority(priority)
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.DTO.TagCountDto;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseTagServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private TestCaseTagService testCaseTagService;
+
+    @BeforeEach
+    void setUp() {
+        testCaseTagService = new TestCaseTagService(testCaseRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void getTagCounts_CachesPerNormalizedPrefix() {
+        // Arrange
+        List<TagCountDto> counts = List.of(TagCountDto.builder().tag("team:checkout").count(2).build());
+        when(testCaseRepository.countByTag("team:")).thenReturn(counts);
+
+        // Act
+        List<TagCountDto> first = testCaseTagService.getTagCounts("Team:", false);
+        List<TagCountDto> second = testCaseTagService.getTagCounts("team:", false);
+
+        // Assert
+        assertEquals(counts, first);
+        assertSame(first, second);
+        verify(testCaseRepository, times(1)).countByTag("team:");
+    }
+
+    @Test
+    public void getTagCounts_WhenFresh_RecomputesAndReplacesCachedCounts() {
+        // Arrange
+        List<TagCountDto> stale = List.of(TagCountDto.builder().tag("env:prod").count(1).build());
+        List<TagCountDto> current = List.of(TagCountDto.builder().tag("env:prod").count(5).build());
+        when(testCaseRepository.countByTag(null)).thenReturn(stale, current);
+        testCaseTagService.getTagCounts(null, false);
+
+        // Act
+        List<TagCountDto> fresh = testCaseTagService.getTagCounts(null, true);
+        List<TagCountDto> cached = testCaseTagService.getTagCounts("", false);
+
+        // Assert
+        assertEquals(current, fresh);
+        assertEquals(current, cached);
+        verify(testCaseRepository, times(2)).countByTag(null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.FilterTransitionDto;
+import com.example.testcasemagementservice.DTO.StatusTransitionDto;
+import com.example.testcasemagementservice.DTO.StatusTransitionResultDto;
+import com.example.testcasemagementservice.DTO.TransitionItemResultDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Enums.TransitionItemStatus;
+import com.example.testcasemagementservice.Events.TestCasesTransitionedEvent;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Model.TestCase;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestCaseTransitionServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TestCaseCache testCaseCache;
+
+    private TestCaseTransitionService testCaseTransitionService;
+
+    @BeforeEach
+    void setUp() {
+        testCaseCache = spy(new TestCaseCache(true, 100, Duration.ofMinutes(5)));
+        testCaseTransitionService = new TestCaseTransitionService(testCaseRepository, testCaseCache, eventPublisher, 1000);
+    }
+
+    @Test
+    public void canTransitionTo_FollowsTestLifecycle() {
+        assertTrue(Status.Pending.canTransitionTo(Status.InProgress));
+        assertTrue(Status.Pending.canTransitionTo(Status.Passed));
+        assertTrue(Status.InProgress.canTransitionTo(Status.Failed));
+        assertTrue(Status.Passed.canTransitionTo(Status.Pending));
+        assertTrue(Status.Failed.canTransitionTo(Status.Passed));
+        assertFalse(Status.Passed.canTransitionTo(Status.Passed));
+        assertFalse(Status.Pending.canTransitionTo(null));
+    }
+
+    @Test
+    public void transition_ById_ReportsPerIdResultsAndGroupsWrites() {
+        // Arrange
+        Map<String, Status> byId = new LinkedHashMap<>();
+        byId.put("1", Status.Passed);
+        byId.put("2", Status.Passed);
+        byId.put("3", null);
+        byId.put("4", Status.Passed);
+        byId.put("5", Status.Failed);
+        when(testCaseRepository.findStatesByIds(anyCollection())).thenReturn(List.of(
+                state("1", Status.InProgress, Priority.High),
+                state("2", Status.InProgress, Priority.High),
+                state("3", Status.Pending, Priority.High),
+                state("4", Status.Passed, Priority.Low)));
+        when(testCaseRepository.updateStatus(eq(List.of("1", "2")), eq(Status.InProgress), eq(Priority.High), eq(Status.Passed), any(Date.class)))
+                .thenReturn(2L);
+
+        // Act
+        StatusTransitionResultDto result = testCaseTransitionService.transition(StatusTransitionDto.builder().byId(byId).build());
+
+        // Assert
+        assertEquals(List.of(TransitionItemStatus.Updated, TransitionItemStatus.Updated, TransitionItemStatus.InvalidTransition,
+                        TransitionItemStatus.Unchanged, TransitionItemStatus.NotFound),
+                result.getItems().stream().map(TransitionItemResultDto::getStatus).toList());
+        assertEquals(2, result.getUpdated());
+        assertEquals(1, result.getInvalid());
+        verify(testCaseRepository, times(1)).updateStatus(anyCollection(), any(), any(), any(), any(Date.class));
+        verify(testCaseCache).invalidate("1");
+        verify(testCaseCache).invalidate("2");
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TestCasesTransitionedEvent transitioned
+                && transitioned.getCount() == 2 && transitioned.getIds().equals(List.of("1", "2"))));
+    }
+
+    @Test
+    public void transition_ById_RecordsResultsOfTestCasesNotInProgress() {
+        // Arrange
+        Map<String, Status> byId = new LinkedHashMap<>();
+        byId.put("1", Status.Passed);
+        byId.put("2", Status.Passed);
+        when(testCaseRepository.findStatesByIds(anyCollection())).thenReturn(List.of(
+                state("1", Status.Pending, Priority.Medium),
+                state("2", Status.Failed, Priority.Medium)));
+        when(testCaseRepository.updateStatus(anyCollection(), any(), eq(Priority.Medium), eq(Status.Passed), any(Date.class)))
+                .thenReturn(1L);
+
+        // Act
+        StatusTransitionResultDto result = testCaseTransitionService.transition(StatusTransitionDto.builder().byId(byId).build());
+
+        // Assert
+        assertEquals(2, result.getUpdated());
+        assertEquals(0, result.getInvalid());
+        verify(testCaseRepository).updateStatus(eq(List.of("1")), eq(Status.Pending), eq(Priority.Medium), eq(Status.Passed), any(Date.class));
+        verify(testCaseRepository).updateStatus(eq(List.of("2")), eq(Status.Failed), eq(Priority.Medium), eq(Status.Passed), any(Date.class));
+    }
+
+    @Test
+    public void transition_ById_WhenTestCaseMovedConcurrently_ReportsConflict() {
+        // Arrange
+        Map<String, Status> byId = new LinkedHashMap<>();
+        byId.put("1", Status.Failed);
+        byId.put("2", Status.Failed);
+        when(testCaseRepository.findStatesByIds(anyCollection()))
+                .thenReturn(List.of(state("1", Status.InProgress, Priority.Low), state("2", Status.InProgress, Priority.Low)));
+        when(testCaseRepository.updateStatus(anyCollection(), eq(Status.InProgress), eq(Priority.Low), eq(Status.Failed), any(Date.class)))
+                .thenAnswer(invocation -> {
+                    // Only test case 1 moved, so only it carries this transition's timestamp
+                    when(testCaseRepository.findStatesByIds(List.of("1", "2"))).thenReturn(List.of(
+                            TestCase.builder().id("1").status(Status.Failed).updatedOn(invocation.getArgument(4)).build(),
+                            TestCase.builder().id("2").status(Status.Pending).build()));
+                    return 1L;
+                });
+
+        // Act
+        StatusTransitionResultDto result = testCaseTransitionService.transition(StatusTransitionDto.builder().byId(byId).build());
+
+        // Assert
+        assertEquals(TransitionItemStatus.Updated, result.getItems().get(0).getStatus());
+        assertEquals(TransitionItemStatus.Conflict, result.getItems().get(1).getStatus());
+        assertEquals(1, result.getConflicts());
+    }
+
+    @Test
+    public void transition_ByFilter_UpdatesEachPriorityAndInvalidatesCache() {
+        // Arrange
+        FilterTransitionDto filter = FilterTransitionDto.builder().status(Status.InProgress).target(Status.Failed).build();
+        when(testCaseRepository.updateStatus(isNull(), eq(Status.InProgress), any(), eq(Status.Failed), any(Date.class))).thenReturn(0L);
+        when(testCaseRepository.updateStatus(isNull(), eq(Status.InProgress), eq(Priority.High), eq(Status.Failed), any(Date.class))).thenReturn(4L);
+
+        // Act
+        StatusTransitionResultDto result = testCaseTransitionService.transition(StatusTransitionDto.builder().byFilter(List.of(filter)).build());
+
+        // Assert
+        assertEquals(4, result.getUpdated());
+        assertEquals(4, result.getFilters().get(0).getUpdated());
+        verify(testCaseRepository, times(Priority.values().length + 1)).updateStatus(isNull(), any(), any(), any(), any(Date.class));
+        verify(testCaseCache).invalidateAll();
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof TestCasesTransitionedEvent transitioned
+                && transitioned.getPriority() == Priority.High && transitioned.getCount() == 4 && transitioned.getIds() == null));
+    }
+
+    @Test
+    public void transition_ByFilter_WhenTransitionNotAllowed_ThrowsInvalidDataException() {
+        // Arrange
+        FilterTransitionDto filter = FilterTransitionDto.builder().status(Status.Passed).target(Status.Passed).build();
+        StatusTransitionDto request = StatusTransitionDto.builder().byId(Map.of("1", Status.InProgress)).byFilter(List.of(filter)).build();
+
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> testCaseTransitionService.transition(request));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    private static TestCase state(String id, Status status, Priority priority) {
+        return TestCase.builder().id(id).status(status).priority(priority).build();
+    }
+}
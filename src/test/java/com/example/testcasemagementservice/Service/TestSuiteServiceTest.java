@@ -0,0 +1,98 @@
+package com.example.testcasemagementservice.Service;
+
+import com.example.testcasemagementservice.Cache.TestCaseCache;
+import com.example.testcasemagementservice.DTO.StatisticsMatrixDto;
+import com.example.testcasemagementservice.DTO.StatusPriorityCountDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveDto;
+import com.example.testcasemagementservice.DTO.SuiteMoveResultDto;
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Enums.Status;
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import com.example.testcasemagementservice.Repository.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TestSuiteServiceTest {
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    private TestSuiteService testSuiteService;
+
+    @BeforeEach
+    void setUp() {
+        testSuiteService = new TestSuiteService(testCaseRepository, new TestCaseCache(false, 100, Duration.ofMinutes(5)), 2);
+    }
+
+    @Test
+    void moveSuite_MovesInBatchesUntilSubtreeIsEmpty() {
+        // Arrange
+        when(testCaseRepository.moveSuite(eq("/Payments/Checkout/"), eq("/Billing/Checkout/"), any(), eq(2)))
+                .thenReturn(List.of("1", "2"))
+                .thenReturn(List.of("3", "4"))
+                .thenReturn(List.of("5"));
+
+        // Act
+        SuiteMoveResultDto result = testSuiteService.moveSuite(SuiteMoveDto.builder()
+                .from("Payments/Checkout")
+                .to("/Billing/Checkout/")
+                .build());
+
+        // Assert
+        assertEquals(5, result.getMoved());
+        assertEquals("/Payments/Checkout/", result.getFrom());
+        assertEquals("/Billing/Checkout/", result.getTo());
+        verify(testCaseRepository, times(3)).moveSuite(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void moveSuite_IntoOwnSubtree_Throws() {
+        // Arrange
+        SuiteMoveDto suiteMoveDto = SuiteMoveDto.builder().from("Payments").to("Payments/Legacy").build();
+
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> testSuiteService.moveSuite(suiteMoveDto));
+        verifyNoInteractions(testCaseRepository);
+    }
+
+    @Test
+    void getRollup_FoldsSubtreeCountsIntoMatrix() {
+        // Arrange
+        when(testCaseRepository.countByStatusAndPriorityInSuite("/Payments/")).thenReturn(List.of(
+                StatusPriorityCountDto.builder().status(Status.Failed).priority(Priority.High).count(3).build(),
+                StatusPriorityCountDto.builder().status(Status.Passed).priority(Priority.Low).count(5).build()));
+
+        // Act
+        StatisticsMatrixDto rollup = testSuiteService.getRollup("Payments");
+
+        // Assert
+        assertEquals(8, rollup.getTotal());
+        assertEquals(3L, rollup.getCounts().get("Failed").get("High"));
+        assertEquals(0L, rollup.getCounts().get("Pending").get("Medium"));
+    }
+
+    @Test
+    void getSuites_WithoutPath_ListsFromRoot() {
+        // Arrange
+        when(testCaseRepository.findSuitePaths("/")).thenReturn(List.of("/Payments/", "/Payments/Checkout/"));
+
+        // Act
+        List<String> suites = testSuiteService.getSuites(null);
+
+        // Assert
+        assertEquals(List.of("/Payments/", "/Payments/Checkout/"), suites);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.testcasemagementservice.Strategy;
+
+import com.example.testcasemagementservice.Enums.Priority;
+import com.example.testcasemagementservice.Model.TestCase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityContextTest {
+
+    private final PriorityContext priorityContext = new PriorityContext(List.of(new HighPriorityStrategy(),
+            new MediumPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy()));
+
+    @Test
+    void applyStrategy_AssignsQueueAndSlaOfPriority() {
+        // Arrange
+        Date triagedOn = new Date(0);
+        TestCase testCase = TestCase.builder().priority(Priority.High).build();
+
+        // Act
+        priorityContext.applyStrategy(testCase, triagedOn);
+
+        // Assert
+        assertEquals("critical", testCase.getQueue());
+        assertEquals(Duration.ofDays(1).toMillis(), testCase.getSlaDueOn().getTime());
+    }
+
+    @Test
+    void strategyFor_WhenPriorityIsNull_ReturnsTriageStrategy() {
+        // Act
+        PriorityStrategy strategy = priorityContext.strategyFor(null);
+
+        // Assert
+        assertEquals("triage", strategy.queue());
+        assertNull(strategy.priority());
+    }
+
+    @Test
+    void strategyFor_ReturnsSameInstanceOnEveryCall() {
+        // Act & Assert
+        for (Priority priority : Priority.values()) {
+            assertSame(priorityContext.strategyFor(priority), priorityContext.strategyFor(priority));
+            assertEquals(priority, priorityContext.strategyFor(priority).priority());
+        }
+    }
+
+    @Test
+    void constructor_WhenPriorityHasNoStrategy_ThrowsIllegalStateException() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new PriorityContext(
+                List.of(new HighPriorityStrategy(), new LowPriorityStrategy(), new UnprioritisedStrategy())));
+    }
+
+    @Test
+    void constructor_WhenPriorityHasTwoStrategies_ThrowsIllegalStateException() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new PriorityContext(List.of(new HighPriorityStrategy(),
+                new HighPriorityStrategy(), new MediumPriorityStrategy(), new LowPriorityStrategy(),
+                new UnprioritisedStrategy())));
+    }
+
+    @Test
+    void applyStrategy_WhenCalledConcurrently_EachTestCaseGetsItsOwnPriority() throws Exception {
+        // Arrange
+        int threads = 16;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<TestCase>>> futures = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<TestCase> applied = new ArrayList<>(perThread);
+                    Date now = new Date();
+                    for (int i = 0; i < perThread; i++) {
+                        int pick = ThreadLocalRandom.current().nextInt(Priority.values().length + 1);
+                        Priority priority = pick == Priority.values().length ? null : Priority.values()[pick];
+                        applied.add(priorityContext.applyStrategy(TestCase.builder().priority(priority).build(), now));
+                    }
+                    return applied;
+                }));
+            }
+            start.countDown();
+
+            // Assert
+            for (Future<List<TestCase>> future : futures) {
+                for (TestCase testCase : future.get()) {
+                    assertEquals(priorityContext.strategyFor(testCase.getPriority()).queue(), testCase.getQueue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.testcasemagementservice.Suite;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SuitePathTest {
+
+    @Test
+    void normalize_AddsLeadingAndTrailingSlash() {
+        // Act & Assert
+        assertEquals("/Payments/Checkout/", SuitePath.normalize("Payments/Checkout"));
+        assertEquals("/Payments/Checkout/", SuitePath.normalize("/Payments/Checkout/"));
+        assertEquals(SuitePath.ROOT, SuitePath.normalize("/"));
+        assertNull(SuitePath.normalize(null));
+    }
+
+    @Test
+    void normalize_WithEmptySegment_Throws() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> SuitePath.normalize("Payments//Checkout"));
+        assertThrows(InvalidDataException.class, () -> SuitePath.normalize(""));
+    }
+
+    @Test
+    void upperBound_CoversSubtreeButNotSiblingsSharingAPrefix() {
+        // Arrange
+        String path = "/Payments/Checkout/";
+        String upperBound = SuitePath.upperBound(path);
+
+        // Act & Assert
+        assertTrue(inRange("/Payments/Checkout/", path, upperBound));
+        assertTrue(inRange("/Payments/Checkout/Cards/Visa/", path, upperBound));
+        assertFalse(inRange("/Payments/CheckoutV2/", path, upperBound));
+        assertFalse(inRange("/Payments/Checkout-Legacy/", path, upperBound));
+        assertFalse(inRange("/Payments/", path, upperBound));
+    }
+
+    private boolean inRange(String candidate, String lower, String upper) {
+        return candidate.compareTo(lower) >= 0 && candidate.compareTo(upper) < 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.testcasemagementservice.Tag;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagExpressionTest {
+
+    @Test
+    void parse_SplitsOrGroupsOfAndedTags() {
+        // Act
+        TagExpression expression = TagExpression.parse("Team:Checkout, env:staging|team:payments");
+
+        // Assert
+        assertEquals(List.of(List.of("env:staging", "team:checkout"), List.of("team:payments")), expression.anyOf());
+        assertNull(TagExpression.parse(null));
+    }
+
+    @Test
+    void parse_WithEmptyGroupOrTag_Throws() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> TagExpression.parse("team:checkout|"));
+        assertThrows(InvalidDataException.class, () -> TagExpression.parse("team:checkout,,env:prod"));
+        assertThrows(InvalidDataException.class, () -> TagExpression.parse(""));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.testcasemagementservice.Tag;
+
+import com.example.testcasemagementservice.Exceptions.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagsTest {
+
+    @Test
+    void normalize_LowerCasesDeduplicatesAndSorts() {
+        // Act & Assert
+        assertEquals(List.of("env:staging", "team:checkout"), Tags.normalize(List.of("Team:Checkout", "env:staging", "team:checkout")));
+        assertNull(Tags.normalize((List<String>) null));
+    }
+
+    @Test
+    void normalize_WithMalformedTagOrTooMany_Throws() {
+        // Act & Assert
+        assertThrows(InvalidDataException.class, () -> Tags.normalize(List.of("team checkout")));
+        assertThrows(InvalidDataException.class, () -> Tags.normalize(List.of("a,b")));
+        assertThrows(InvalidDataException.class, () -> Tags.normalize(IntStream.rangeClosed(0, Tags.MAX_TAGS)
+                .mapToObj(i -> "tag" + i).toList()));
+    }
+
+    @Test
+    void pairs_ReturnsEveryUnorderedPairOnce() {
+        // Act
+        List<String> pairs = Tags.pairs(List.of("a", "b", "c"));
+
+        // Assert
+        assertEquals(List.of("a,b", "a,c", "b,c"), pairs);
+        assertEquals(Tags.pair("b", "a"), Tags.pair("a", "b"));
+        assertTrue(Tags.pairs(List.of("a")).isEmpty());
+    }
+}
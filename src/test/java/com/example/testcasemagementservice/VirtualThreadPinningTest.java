@@ -0,0 +1,75 @@
+package com.example.testcasemagementservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * On JDK 21 a virtual thread that blocks inside a {@code synchronized} method or block pins its carrier
+ * thread. Fails the build if any production class uses monitors; use a
+ * {@link java.util.concurrent.locks.ReentrantLock} instead.
+ */
+public class VirtualThreadPinningTest {
+
+    @Test
+    void productionClasses_DoNotUseSynchronized() throws IOException, URISyntaxException {
+        Path classes = Path.of(TestCaseMagementServiceApplication.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+        List<String> offenders = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    new ClassReader(inputStream).accept(new MonitorFinder(offenders), ClassReader.SKIP_DEBUG);
+                }
+            }
+        }
+
+        assertTrue(offenders.isEmpty(), "synchronized code pins virtual threads: " + offenders);
+    }
+
+    private static class MonitorFinder extends ClassVisitor {
+
+        private final List<String> offenders;
+        private String className;
+
+        MonitorFinder(List<String> offenders) {
+            super(Opcodes.ASM9);
+            this.offenders = offenders;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            String method = className + "#" + name;
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                offenders.add(method);
+            }
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        offenders.add(method);
+                    }
+                }
+            };
+        }
+    }
+}